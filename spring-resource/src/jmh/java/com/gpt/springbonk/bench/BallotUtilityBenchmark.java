@@ -0,0 +1,106 @@
+package com.gpt.springbonk.bench;
+
+import com.gpt.springbonk.bench.SyntheticElectorate.Ranking;
+import com.gpt.springbonk.model.BallotBox;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.VoteCount;
+import com.gpt.springbonk.util.BallotUtility;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Ballot assembly and single-round tallies from {@link BallotUtility}.
+ * <p>
+ * The entity-walking paths ({@code processCandidates} and the UUID round) hold an object per
+ * vote, so their electorates stop at 100k ballots; the indexed rounds go up to a million.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class BallotUtilityBenchmark {
+  @State(Scope.Benchmark)
+  public static class EntityElectorate {
+    @Param({"100", "10000", "100000"})
+    int ballots;
+
+    @Param({"3", "20", "200"})
+    int candidates;
+
+    @Param({"FULL", "TRUNCATED"})
+    Ranking ranking;
+
+    List<Candidate> candidateEntities;
+    BallotBox ballotBox;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      candidateEntities = SyntheticElectorate.generator(candidates, ranking).election(ballots)
+          .getCandidates();
+      ballotBox = SyntheticElectorate.generator(candidates, ranking).ballotBox(ballots);
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class IndexedElectorate {
+    @Param({"100", "10000", "1000000"})
+    int ballots;
+
+    @Param({"3", "20", "200"})
+    int candidates;
+
+    @Param({"FULL", "TRUNCATED"})
+    Ranking ranking;
+
+    IndexedBallotBox ballotBox;
+    BitSet eliminatedCandidates;
+    int[] tally;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      ballotBox = SyntheticElectorate.generator(candidates, ranking).indexed(ballots);
+      eliminatedCandidates = new BitSet(candidates);
+      tally = new int[candidates];
+    }
+  }
+
+  @Benchmark
+  public BallotBox processCandidates(EntityElectorate electorate) {
+    return BallotUtility.processCandidates(electorate.candidateEntities);
+  }
+
+  @Benchmark
+  public VoteCount conductRound(EntityElectorate electorate) {
+    List<UUID> eliminatedCandidates = List.of();
+    return BallotUtility.conductRound(electorate.ballotBox, eliminatedCandidates, 1, 0);
+  }
+
+  @Benchmark
+  public int conductRoundIndexed(IndexedElectorate electorate) {
+    return BallotUtility.conductRound(
+        electorate.ballotBox, electorate.eliminatedCandidates, 0, electorate.tally);
+  }
+
+  /// Sharded over the common pool from the first ballot, to compare against the sequential round.
+  @Benchmark
+  public int conductRoundIndexedParallel(IndexedElectorate electorate) {
+    return BallotUtility.conductRound(
+        electorate.ballotBox, electorate.eliminatedCandidates, 0, electorate.tally, 1);
+  }
+}
@@ -0,0 +1,97 @@
+package com.gpt.springbonk.bench;
+
+import com.gpt.springbonk.bench.SyntheticElectorate.Ranking;
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.process.RunoffTallyMode;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.service.InstantRunoffService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Whole instant runoff tabulations through {@link InstantRunoffService}.
+ * <p>
+ * {@code indexed} runs the engine alone on a prepared {@link IndexedBallotBox}, once per tally
+ * mode and with parallel rounds off or on; {@code entities} includes building the ballots from
+ * candidate and vote entities, as an election without a snapshot would.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class InstantRunoffBenchmark {
+  @State(Scope.Benchmark)
+  public static class IndexedElectorate {
+    @Param({"100", "10000", "1000000"})
+    int ballots;
+
+    @Param({"3", "20", "200"})
+    int candidates;
+
+    @Param({"FULL", "TRUNCATED"})
+    Ranking ranking;
+
+    @Param({"FULL_RECOUNT", "INCREMENTAL"})
+    RunoffTallyMode mode;
+
+    /// Zero keeps every round sequential.
+    @Param({"0", "100000"})
+    int parallelThreshold;
+
+    IndexedBallotBox ballotBox;
+    InstantRunoffService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      ballotBox = SyntheticElectorate.generator(candidates, ranking).indexed(ballots);
+      service = new InstantRunoffService(TabulationProperties.defaults()
+          .withRunoffTallyMode(mode)
+          .withParallelThreshold(parallelThreshold));
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class EntityElectorate {
+    @Param({"100", "10000", "100000"})
+    int ballots;
+
+    @Param({"3", "20", "200"})
+    int candidates;
+
+    @Param({"FULL", "TRUNCATED"})
+    Ranking ranking;
+
+    Election election;
+    InstantRunoffService service;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+      election = SyntheticElectorate.generator(candidates, ranking).election(ballots);
+      service = new InstantRunoffService();
+    }
+  }
+
+  @Benchmark
+  public ElectionResultRecord indexed(IndexedElectorate electorate) {
+    return electorate.service.conductElection(electorate.ballotBox);
+  }
+
+  @Benchmark
+  public ElectionResultRecord entities(EntityElectorate electorate) {
+    return electorate.service.conductElection(electorate.election);
+  }
+}
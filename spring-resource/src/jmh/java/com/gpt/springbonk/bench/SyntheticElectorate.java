@@ -0,0 +1,31 @@
+package com.gpt.springbonk.bench;
+
+import com.gpt.springbonk.support.ElectorateGenerator;
+import com.gpt.springbonk.support.ElectorateGenerator.Uniform;
+
+/**
+ * The benchmark electorates: impartial culture from {@link ElectorateGenerator} with the default
+ * seed, so runs are comparable across commits.
+ * <p>
+ * Uniform preferences keep tallies close, which is the expensive case for an instant runoff: no
+ * early majority, so every candidate but the last is eliminated.
+ */
+final class SyntheticElectorate {
+  /// Longest prefix ranked on a truncated ballot.
+  static final int MAX_TRUNCATED_LENGTH = 5;
+
+  enum Ranking {
+    FULL,
+    TRUNCATED
+  }
+
+  private SyntheticElectorate() {
+  }
+
+  static ElectorateGenerator generator(int candidateCount, Ranking ranking) {
+    ElectorateGenerator generator = ElectorateGenerator.impartialCulture(candidateCount);
+    return ranking == Ranking.FULL
+        ? generator
+        : generator.withTruncation(new Uniform(MAX_TRUNCATED_LENGTH));
+  }
+}
@@ -0,0 +1,57 @@
+package com.gpt.springbonk.config;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.UUID;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Scheduled election closure, bound from {@code election.closure.*}.
+ *
+ * @param tick            resolution of this node's deadline wheel; elections due within one tick
+ *                        are closed in the same sweep
+ * @param wheelSlots      slots in the deadline wheel, a power of two
+ * @param pollInterval    how often each node sweeps for due closure jobs regardless of its wheel,
+ *                        catching deadlines set or moved on other nodes
+ * @param lease           how long a claimed job stays with its node; a node that dies mid-closure
+ *                        holds the job up for this long before another node retries it
+ * @param claimBatchSize  most jobs one node claims per poll
+ * @param concurrency     most elections closed at once by this node
+ * @param queueCapacity   most claimed closures this node holds, running or waiting; sweeps stop
+ *                        claiming once it is reached
+ * @param maxAttempts     tries per closure when the database fails transiently
+ * @param retryBackoff    wait before the first retry, doubled (with jitter) for each one after
+ * @param maxRetryBackoff longest wait between retries
+ * @param catchUpPageSize overdue elections closed per transaction by the startup catch-up
+ * @param nodeId          this node's name on the jobs it claims; blank picks the JVM's
+ *                        {@code pid@host} plus a random suffix, unique across restarts
+ */
+@ConfigurationProperties(prefix = "election.closure")
+public record ClosureProperties(
+    @DefaultValue("1s") Duration tick,
+    @DefaultValue("512") int wheelSlots,
+    @DefaultValue("30s") Duration pollInterval,
+    @DefaultValue("2m") Duration lease,
+    @DefaultValue("32") int claimBatchSize,
+    @DefaultValue("4") int concurrency,
+    @DefaultValue("64") int queueCapacity,
+    @DefaultValue("5") int maxAttempts,
+    @DefaultValue("500ms") Duration retryBackoff,
+    @DefaultValue("30s") Duration maxRetryBackoff,
+    @DefaultValue("100") int catchUpPageSize,
+    @DefaultValue("") String nodeId
+) {
+  public ClosureProperties {
+    if (nodeId == null || nodeId.isBlank()) {
+      nodeId = ManagementFactory.getRuntimeMXBean().getName() + "/"
+          + UUID.randomUUID().toString().substring(0, 8);
+    }
+  }
+
+  public static ClosureProperties defaults() {
+    return new ClosureProperties(
+        Duration.ofSeconds(1), 512, Duration.ofSeconds(30), Duration.ofMinutes(2), 32, 4, 64, 5,
+        Duration.ofMillis(500), Duration.ofSeconds(30), 100, null);
+  }
+}
@@ -0,0 +1,38 @@
+package com.gpt.springbonk.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * The domain event outbox relay, bound from {@code outbox.*}.
+ *
+ * @param pollInterval    how long the relay rests once the outbox is drained
+ * @param batchSize       events read per batch; the relay keeps reading while batches come back
+ *                        full
+ * @param maxAttempts     deliveries tried per event before it is left in the table for good
+ * @param retryBackoff    wait before redelivering a failed event, doubled for each failure after
+ * @param maxRetryBackoff longest wait before a redelivery
+ */
+@ConfigurationProperties(prefix = "outbox")
+public record OutboxProperties(
+    @DefaultValue("1s") Duration pollInterval,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("10") int maxAttempts,
+    @DefaultValue("5s") Duration retryBackoff,
+    @DefaultValue("10m") Duration maxRetryBackoff
+) {
+  public static OutboxProperties defaults() {
+    return new OutboxProperties(
+        Duration.ofSeconds(1), 100, 10, Duration.ofSeconds(5), Duration.ofMinutes(10));
+  }
+
+  /// Wait before the delivery that follows {@code failures} failed ones.
+  public Duration backoffAfter(int failures) {
+    Duration backoff = retryBackoff;
+    for (int i = 1; i < failures && backoff.compareTo(maxRetryBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxRetryBackoff) > 0 ? maxRetryBackoff : backoff;
+  }
+}
@@ -0,0 +1,53 @@
+package com.gpt.springbonk.config;
+
+import com.gpt.springbonk.constant.enumeration.process.RunoffTallyMode;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Tuning for the tabulation engines, bound from {@code election.tabulation.*}.
+ *
+ * @param runoffTallyMode   how instant runoff recounts between rounds
+ * @param pairwiseShardSize ballots per shard when building a pairwise matrix in parallel; boxes
+ *                          no larger than one shard are counted on the calling thread
+ * @param parallelThreshold ballot count from which runoff recounts are tallied in parallel shards;
+ *                          zero or less keeps every recount sequential
+ * @param resultCacheSize   tabulation results, and closed elections' pairwise matrices, kept in
+ *                          memory; least recently used dropped first
+ * @param kemenyTimeBudget  how long Kemeny–Young may search for an optimal ranking before it
+ *                          settles for its best local-search ranking and flags it approximate
+ */
+@ConfigurationProperties(prefix = "election.tabulation")
+public record TabulationProperties(
+    @DefaultValue("INCREMENTAL") RunoffTallyMode runoffTallyMode,
+    @DefaultValue("4096") int pairwiseShardSize,
+    @DefaultValue("10000") int parallelThreshold,
+    @DefaultValue("256") int resultCacheSize,
+    @DefaultValue("2s") Duration kemenyTimeBudget
+) {
+  public static TabulationProperties defaults() {
+    return new TabulationProperties(
+        RunoffTallyMode.INCREMENTAL, 4096, 10000, 256, Duration.ofSeconds(2));
+  }
+
+  public TabulationProperties withRunoffTallyMode(RunoffTallyMode mode) {
+    return new TabulationProperties(
+        mode, pairwiseShardSize, parallelThreshold, resultCacheSize, kemenyTimeBudget);
+  }
+
+  public TabulationProperties withParallelThreshold(int threshold) {
+    return new TabulationProperties(
+        runoffTallyMode, pairwiseShardSize, threshold, resultCacheSize, kemenyTimeBudget);
+  }
+
+  public TabulationProperties withResultCacheSize(int size) {
+    return new TabulationProperties(
+        runoffTallyMode, pairwiseShardSize, parallelThreshold, size, kemenyTimeBudget);
+  }
+
+  public TabulationProperties withKemenyTimeBudget(Duration budget) {
+    return new TabulationProperties(
+        runoffTallyMode, pairwiseShardSize, parallelThreshold, resultCacheSize, budget);
+  }
+}
@@ -1,5 +1,7 @@
 package com.gpt.springbonk.constant.enumeration.election;
 
 public enum Flag {
-  SCHEDULING_ERROR
+  SCHEDULING_ERROR,
+  /// The tabulator ran out of time and returned its best ranking found so far.
+  APPROXIMATE_RESULT
 }
@@ -8,10 +8,17 @@ public enum EliminationMessage {
   WINNER_ATTRITION(
       "Winner did not achieve greater than 50% of the votes cast in any round, but is the only candidate remaining."
   ),
+  WINNER_SMITH("Winner is the only remaining candidate in the Smith set."),
+  WINNER_RUNOFF("Winner was preferred over the other finalist on more ballots."),
+  WINNER_QUOTA("Elected by reaching the quota."),
+  WINNER_REMAINING_SEATS("Elected as the continuing candidates no longer outnumber the open seats."),
+  WINNER_HIGHEST_APPROVAL("Elected with the highest weighted approval in round."),
 
   TIE_ALL_WAY_TIE_ELIMINATION_MESSAGE("Flub round should not have eliminations"),
   TIE_ELIMINATION_MESSAGE("Eliminated after tie resolution"),
-  NO_TIE_ELIMINATION_MESSAGE("Eliminated with lowest votes");
+  NO_TIE_ELIMINATION_MESSAGE("Eliminated with lowest votes"),
+  SMITH_SET_ELIMINATION_MESSAGE("Eliminated for falling outside the Smith set"),
+  SCORE_ELIMINATION_MESSAGE("Eliminated for not finishing in the top two by total score");
 
   private final String message;
 
@@ -0,0 +1,16 @@
+package com.gpt.springbonk.constant.enumeration.process;
+
+/**
+ * How an instant runoff recounts ballots between rounds.
+ */
+public enum RunoffTallyMode {
+  /**
+   * Every round re-walks every ballot, skipping eliminated candidates.
+   */
+  FULL_RECOUNT,
+  /**
+   * Ballots are bucketed by their current top choice and only the ballots sitting on an eliminated
+   * candidate are advanced, so total work is roughly proportional to the number of preferences.
+   */
+  INCREMENTAL
+}
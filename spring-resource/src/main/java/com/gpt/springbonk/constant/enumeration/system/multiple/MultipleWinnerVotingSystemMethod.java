@@ -3,7 +3,8 @@ package com.gpt.springbonk.constant.enumeration.system.multiple;
 import java.util.EnumSet;
 import lombok.Getter;
 
-import static com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemBallotType.SINGLE_MARK;
+import static com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemBallotType.APPROVALS;
+import static com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemBallotType.RANKING;
 import static com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemCriterion.MONOTONE;
 import static com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemCriterion.PROPORTIONAL;
 
@@ -14,9 +15,21 @@ public enum MultipleWinnerVotingSystemMethod
 {
   // TODO: Build out (https://en.wikipedia.org/wiki/Comparison_of_voting_rules#cite_note-IIA_rating_methods-31)
 
+  /**
+   * Seats are filled one at a time by approval count, with each ballot's approvals worth 1 / (1 + m) where m is the
+   * number of already elected candidates it approves.
+   */
   SEQUENTIAL_PROPORTIONAL_APPROVAL(
-      SINGLE_MARK,
+      APPROVALS,
       EnumSet.of(PROPORTIONAL, MONOTONE)
+  ),
+  /**
+   * Candidates reaching the Droop quota are elected and their surplus passed on at a fraction of each ballot's value
+   * (Gregory transfers); when nobody reaches the quota the weakest candidate is excluded.
+   */
+  SINGLE_TRANSFERABLE_VOTE(
+      RANKING,
+      EnumSet.of(PROPORTIONAL)
   );
 
   private final MultipleWinnerVotingSystemBallotType ballotType;
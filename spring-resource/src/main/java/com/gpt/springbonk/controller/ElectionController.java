@@ -1,21 +1,30 @@
 package com.gpt.springbonk.controller;
 
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.dto.request.BallotRequest;
 import com.gpt.springbonk.model.dto.request.CandidateNominationRequest;
 import com.gpt.springbonk.model.dto.request.CandidatePitchRequest;
 import com.gpt.springbonk.model.dto.request.ElectionReopenRequest;
 import com.gpt.springbonk.model.dto.request.ElectionRequest;
+import com.gpt.springbonk.model.dto.request.ScoredBallotRequest;
 import com.gpt.springbonk.model.dto.response.CandidateResponse;
 import com.gpt.springbonk.model.dto.response.ElectionResponse;
 import com.gpt.springbonk.model.dto.response.ElectionResultResponse;
 import com.gpt.springbonk.model.dto.response.VoteResponse;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.LiveTallyRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
 import com.gpt.springbonk.service.CandidateService;
+import com.gpt.springbonk.service.ElectionRoundStreamService;
 import com.gpt.springbonk.service.ElectionService;
+import com.gpt.springbonk.service.LiveTallyService;
 import com.gpt.springbonk.service.VotingService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -23,6 +32,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.PagedModel;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
@@ -34,7 +44,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
 @RestController
@@ -45,6 +57,8 @@ public class ElectionController {
   private final ElectionService electionService;
   private final CandidateService candidateService;
   private final VotingService votingService;
+  private final LiveTallyService liveTallyService;
+  private final ElectionRoundStreamService electionRoundStreamService;
 
   // BASICS
 
@@ -153,6 +167,15 @@ public class ElectionController {
     return ResponseEntity.ok(latest);
   }
 
+  @GetMapping("/{id}/results/{resultId}/rounds")
+  @Operation(summary = "Get the rounds of one election result")
+  public ResponseEntity<List<RoundResultRecord>> getElectionResultRounds(
+      @PathVariable UUID id,
+      @PathVariable UUID resultId
+  ) {
+    return ResponseEntity.ok(electionService.getElectionResultRounds(id, resultId));
+  }
+
   @GetMapping("/{id}/candidates/all")
   @Operation(summary = "Get all candidates by existing elections (unpaged)")
   public ResponseEntity<List<CandidateResponse>> getAllCandidatesByElection(
@@ -172,6 +195,32 @@ public class ElectionController {
     return ResponseEntity.ok(electionService.runRankedChoiceElection(id));
   }
 
+  @GetMapping("/{id}/compare")
+  @Operation(summary = "Tabulate an election under several methods (all supported by default)")
+  public ResponseEntity<ElectionComparisonRecord> compareMethods(
+      @PathVariable UUID id,
+      @RequestParam(required = false) List<SingleWinnerVotingSystemMethod> methods
+  ) {
+    return ResponseEntity.ok(
+        electionService.compareMethods(id, methods == null ? List.of() : methods));
+  }
+
+  @GetMapping(value = "/{id}/rounds/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+  @Operation(summary = "Stream instant runoff rounds as server-sent events (replayed once closed)")
+  public SseEmitter streamRounds(
+      @PathVariable UUID id
+  ) {
+    return electionRoundStreamService.streamRounds(id);
+  }
+
+  @GetMapping("/{id}/live")
+  @Operation(summary = "Get live first-preference counts and a provisional winner by ID")
+  public ResponseEntity<LiveTallyRecord> getLiveTally(
+      @PathVariable UUID id
+  ) {
+    return ResponseEntity.ok(liveTallyService.getLiveTally(id));
+  }
+
   // CANDIDATE (TODO: Maybe move to a voting controller)
 
   @PostMapping("/{id}/nominate/{bookId}")
@@ -225,6 +274,28 @@ public class ElectionController {
     return ResponseEntity.ok(vote);
   }
 
+  @PutMapping("/{id}/ballot")
+  @Operation(summary = "Replace the current user's full ranking for an election in one request")
+  public ResponseEntity<List<VoteResponse>> submitBallot(
+      @PathVariable UUID id,
+      @Valid @RequestBody BallotRequest request,
+      @AuthenticationPrincipal Jwt jwt
+  ) {
+    UUID userId = UUID.fromString(jwt.getSubject());
+    return ResponseEntity.ok(votingService.submitBallot(id, userId, request.getCandidateIds()));
+  }
+
+  @PutMapping("/{id}/scores")
+  @Operation(summary = "Replace the current user's scores for an election in one request")
+  public ResponseEntity<Map<UUID, Integer>> submitScoredBallot(
+      @PathVariable UUID id,
+      @Valid @RequestBody ScoredBallotRequest request,
+      @AuthenticationPrincipal Jwt jwt
+  ) {
+    UUID userId = UUID.fromString(jwt.getSubject());
+    return ResponseEntity.ok(votingService.submitScoredBallot(id, userId, request.getScores()));
+  }
+
   @DeleteMapping("/vote/{candidateId}")
   @Operation(summary = "Delete an existing vote by candidate")
   public ResponseEntity<Void> deleteVote(
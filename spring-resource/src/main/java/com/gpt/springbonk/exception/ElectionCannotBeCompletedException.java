@@ -7,6 +7,8 @@ public class ElectionCannotBeCompletedException extends RuntimeException {
       "Election cannot proceed without any candidates.";
   public final static String NO_VOTES_MESSAGE = "Election cannot proceed without any votes.";
   public final static String FULL_WAY_TIE = "Election cannot proceed with a full way tie.";
+  public final static String SEATS_MESSAGE =
+      "Election cannot proceed without between one and as many seats as candidates.";
 
   public ElectionCannotBeCompletedException(String message) {
     super(message);
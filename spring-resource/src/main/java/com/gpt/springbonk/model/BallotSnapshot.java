@@ -0,0 +1,39 @@
+package com.gpt.springbonk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A compiled copy of an election's ranked ballots, valid while {@link #ballotVersion} matches
+ * {@link Election#getBallotVersion()}. The payload is written by
+ * {@code BallotSnapshotCodec}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "ballot_snapshots")
+public class BallotSnapshot {
+  @Id
+  @Column(name = "election_id")
+  private UUID electionId;
+
+  @Column(name = "ballot_version", nullable = false)
+  private long ballotVersion;
+
+  @Column(name = "ballot_count", nullable = false)
+  private int ballotCount;
+
+  @Column(name = "payload", nullable = false)
+  private byte[] payload;
+
+  @Column(name = "compiled_at", nullable = false)
+  private LocalDateTime compiledAt;
+}
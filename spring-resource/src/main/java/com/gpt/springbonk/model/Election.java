@@ -77,6 +77,13 @@ public class Election {
   @Column(name = "max_nominations_total")
   private Integer maxNominationsTotal;
 
+  /**
+   * Bumped by the database whenever the ranked ballots change. Never written through the entity;
+   * see ElectionRepository#incrementBallotVersion.
+   */
+  @Column(name = "ballot_version", nullable = false, insertable = false, updatable = false)
+  private long ballotVersion;
+
   public Election(String title, ZonedDateTime endDateTime) {
     this.title = title;
     this.endDateTime = endDateTime;
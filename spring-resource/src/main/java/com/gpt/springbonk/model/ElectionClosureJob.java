@@ -0,0 +1,38 @@
+package com.gpt.springbonk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * An election waiting to be closed at {@link #dueAt}. A node claims the job by taking its lease;
+ * the job is deleted once the election is closed. See {@code ElectionClosureJobRepository}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "election_closure_jobs")
+public class ElectionClosureJob {
+  @Id
+  @Column(name = "election_id")
+  private UUID electionId;
+
+  @Column(name = "due_at", nullable = false)
+  private ZonedDateTime dueAt;
+
+  @Column(name = "lease_owner")
+  private String leaseOwner;
+
+  @Column(name = "lease_expires_at")
+  private ZonedDateTime leaseExpiresAt;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+}
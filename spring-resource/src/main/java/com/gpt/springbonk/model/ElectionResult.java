@@ -14,10 +14,15 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.OrderBy;
 import jakarta.persistence.Table;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -39,10 +44,11 @@ import org.hibernate.type.SqlTypes;
 )
 public class ElectionResult {
   /*
-   * Right now, this doesn't support three future enhancements.
+   * Right now, this doesn't support one future enhancement.
    * 1. No winner
-   * 2. Multiple winners
-   * 3. Queryable rounds (see note below)
+   *
+   * Multi-winner results keep every elected candidate, in order, in winnerIds; winnerId is the
+   * first of them.
    *
    * LOCK_IN_POINT FOR PGSQL: JDBC json type.
    */
@@ -55,15 +61,23 @@ public class ElectionResult {
   private UUID winnerId;
 
   /*
-   * CHOICE
-   * This may change, as many choices can.
-   * Right now this is historical data for view only. No query, nothing.
-   * So, as long as we're in PGSQL, this is satisfactory.
-   * If metrics, or queries, ever come into play...this will become a relationship to an entity.
+   * Rounds live in two narrow tables, result_rounds and result_round_tallies, rather than a JSONB
+   * blob, so they can be queried (see ElectionResultRepository) and are only loaded when asked
+   * for. Results are written once, so the collections are never updated in place.
    */
+  @ElementCollection
+  @CollectionTable(name = "result_rounds", joinColumns = @JoinColumn(name = "result_id"))
+  @OrderBy("roundNumber")
+  private List<ResultRound> roundSummaries = new ArrayList<>();
+
+  @ElementCollection
+  @CollectionTable(name = "result_round_tallies", joinColumns = @JoinColumn(name = "result_id"))
+  @OrderBy("roundNumber, eliminationOrder")
+  private List<ResultRoundTally> roundTallies = new ArrayList<>();
+
   @JdbcTypeCode(SqlTypes.JSON)
-  @Column(name = "rounds", columnDefinition = "jsonb")
-  private List<RoundResultRecord> rounds;
+  @Column(name = "winner_ids", columnDefinition = "jsonb")
+  private List<UUID> winnerIds;
 
   @ManyToOne(optional = false, fetch = FetchType.LAZY)
   @JoinColumn(name = "election_id", nullable = false)
@@ -87,8 +101,12 @@ public class ElectionResult {
       ZonedDateTime closureTime,
       Election election) {
     this.winnerId = record.winnerId();
-    this.rounds = record.rounds();
+    this.winnerIds = record.winnerIds();
+    replaceRounds(record.rounds());
     this.totalVotes = record.totalVotes();
+    if (record.flags() != null) {
+      this.flags.addAll(record.flags());
+    }
     this.closureTime = closureTime;
     this.election = election;
   }
@@ -103,4 +121,64 @@ public class ElectionResult {
     this.flags.add(flag);
     this.election = election;
   }
+
+  /// The rounds, rebuilt from their rows. Loads both round collections if they are not yet.
+  public List<RoundResultRecord> getRounds() {
+    Map<Integer, Map<UUID, Integer>> votes = new HashMap<>();
+    Map<Integer, List<UUID>> eliminated = new HashMap<>();
+    for (ResultRoundTally tally : roundTallies) {
+      if (tally.getVotes() != null) {
+        votes.computeIfAbsent(tally.getRoundNumber(), round -> new HashMap<>())
+            .put(tally.getCandidateId(), tally.getVotes());
+      }
+      if (tally.isEliminated()) {
+        eliminated.computeIfAbsent(tally.getRoundNumber(), round -> new ArrayList<>())
+            .add(tally.getCandidateId());
+      }
+    }
+
+    List<RoundResultRecord> rounds = new ArrayList<>(roundSummaries.size());
+    for (ResultRound round : roundSummaries) {
+      rounds.add(new RoundResultRecord(
+          round.getRoundNumber(),
+          votes.getOrDefault(round.getRoundNumber(), new HashMap<>()),
+          round.isEliminationsListed()
+              ? eliminated.getOrDefault(round.getRoundNumber(), new ArrayList<>())
+              : null,
+          round.getEliminationMessage()
+      ));
+    }
+    return rounds;
+  }
+
+  /// Replace the rounds with rows for {@code rounds}; null clears them.
+  public void setRounds(List<RoundResultRecord> rounds) {
+    replaceRounds(rounds);
+  }
+
+  /// Private so the constructor can use it without calling an overridable (proxied) method.
+  private void replaceRounds(List<RoundResultRecord> rounds) {
+    roundSummaries.clear();
+    roundTallies.clear();
+    if (rounds == null) {
+      return;
+    }
+    for (RoundResultRecord round : rounds) {
+      List<UUID> eliminatedIds = round.eliminatedCandidateIds();
+      roundSummaries.add(new ResultRound(
+          round.roundNumber(), round.eliminationMessage(), eliminatedIds != null));
+
+      Map<UUID, Integer> roundVotes = round.votes() == null ? Map.of() : round.votes();
+      Set<UUID> candidateIds = new LinkedHashSet<>(roundVotes.keySet());
+      if (eliminatedIds != null) {
+        candidateIds.addAll(eliminatedIds);
+      }
+      for (UUID candidateId : candidateIds) {
+        int order = eliminatedIds == null ? -1 : eliminatedIds.indexOf(candidateId);
+        roundTallies.add(new ResultRoundTally(
+            round.roundNumber(), candidateId, roundVotes.get(candidateId), order >= 0,
+            order >= 0 ? order : null));
+      }
+    }
+  }
 }
@@ -0,0 +1,144 @@
+package com.gpt.springbonk.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * A dense, primitive view of a {@link BallotBox} used by the tabulation engines.
+ * <p>
+ * Candidate UUIDs are mapped to int indexes once, and every ballot is packed into a single
+ * {@code int[]} of preferences. Ballot {@code b} spans {@code preferences[offsets[b]]} up to (but
+ * not including) {@code preferences[offsets[b + 1]]}, most preferred first.
+ * <p>
+ * Instances are immutable once built; the arrays are exposed directly for speed, so callers must
+ * not modify them.
+ */
+@Getter
+public class IndexedBallotBox {
+  private final UUID[] candidateIds;
+  private final int[] preferences;
+  private final int[] offsets;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<UUID, Integer> candidateIndexes;
+
+  private IndexedBallotBox(
+      UUID[] candidateIds,
+      Map<UUID, Integer> candidateIndexes,
+      int[] preferences,
+      int[] offsets
+  ) {
+    this.candidateIds = candidateIds;
+    this.candidateIndexes = candidateIndexes;
+    this.preferences = preferences;
+    this.offsets = offsets;
+  }
+
+  /// Index an existing ballot box. Candidates keep the iteration order of the box.
+  public static IndexedBallotBox of(BallotBox ballotBox) {
+    Builder builder = new Builder();
+    ballotBox.getCandidates().keySet().forEach(builder::addCandidate);
+    ballotBox.getBallots().values().forEach(builder::addBallot);
+    return builder.build();
+  }
+
+  /**
+   * Wrap already packed arrays, e.g. from a decoded snapshot. The arrays are taken as-is and must
+   * satisfy the layout described on this class.
+   */
+  public static IndexedBallotBox of(UUID[] candidateIds, int[] preferences, int[] offsets) {
+    Map<UUID, Integer> candidateIndexes = new HashMap<>();
+    for (int i = 0; i < candidateIds.length; i++) {
+      candidateIndexes.put(candidateIds[i], i);
+    }
+    return new IndexedBallotBox(candidateIds, candidateIndexes, preferences, offsets);
+  }
+
+  public int getCandidateCount() {
+    return candidateIds.length;
+  }
+
+  public int getBallotCount() {
+    return offsets.length - 1;
+  }
+
+  public UUID getCandidateId(int index) {
+    return candidateIds[index];
+  }
+
+  /// Returns the dense index of a candidate, or -1 if the candidate is not in this box.
+  public int indexOf(UUID candidateId) {
+    Integer index = candidateIndexes.get(candidateId);
+    return index == null ? -1 : index;
+  }
+
+  public static class Builder {
+    private final Map<UUID, Integer> candidateIndexes = new HashMap<>();
+    private UUID[] candidateIds = new UUID[16];
+    private int candidateCount;
+
+    private int[] preferences = new int[64];
+    private int preferenceCount;
+
+    private int[] offsets = new int[16];
+    private int ballotCount;
+
+    /// Registers a candidate and returns its index. Registering twice is a no-op.
+    public int addCandidate(UUID candidateId) {
+      Integer existing = candidateIndexes.get(candidateId);
+      if (existing != null) {
+        return existing;
+      }
+      if (candidateCount == candidateIds.length) {
+        candidateIds = Arrays.copyOf(candidateIds, candidateCount * 2);
+      }
+      candidateIds[candidateCount] = candidateId;
+      candidateIndexes.put(candidateId, candidateCount);
+      return candidateCount++;
+    }
+
+    /// Appends one ranked ballot, most preferred first. Unknown candidates are registered.
+    public Builder addBallot(List<UUID> orderedPreferences) {
+      for (UUID candidateId : orderedPreferences) {
+        addPreference(candidateId);
+      }
+      return endBallot();
+    }
+
+    /// Appends a preference to the ballot currently being built.
+    public Builder addPreference(UUID candidateId) {
+      if (preferenceCount == preferences.length) {
+        preferences = Arrays.copyOf(preferences, preferenceCount * 2);
+      }
+      preferences[preferenceCount++] = addCandidate(candidateId);
+      return this;
+    }
+
+    /// Closes the ballot currently being built.
+    public Builder endBallot() {
+      if (ballotCount + 1 == offsets.length) {
+        offsets = Arrays.copyOf(offsets, offsets.length * 2);
+      }
+      offsets[++ballotCount] = preferenceCount;
+      return this;
+    }
+
+    public int getBallotCount() {
+      return ballotCount;
+    }
+
+    public IndexedBallotBox build() {
+      return new IndexedBallotBox(
+          Arrays.copyOf(candidateIds, candidateCount),
+          new HashMap<>(candidateIndexes),
+          Arrays.copyOf(preferences, preferenceCount),
+          Arrays.copyOf(offsets, ballotCount + 1)
+      );
+    }
+  }
+}
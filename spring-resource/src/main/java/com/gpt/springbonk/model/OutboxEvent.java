@@ -0,0 +1,60 @@
+package com.gpt.springbonk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.ZonedDateTime;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+/**
+ * A domain event waiting in {@code domain_event_outbox} to be relayed to its listeners. The
+ * payload is the event record as JSON; {@link #eventType} names its class among those the outbox
+ * accepts.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "domain_event_outbox")
+public class OutboxEvent {
+  /*
+   * LOCK_IN_POINT FOR PGSQL: JDBC json type.
+   */
+
+  @Id
+  @GeneratedValue(strategy = GenerationType.IDENTITY)
+  private Long id;
+
+  @Column(name = "event_type", nullable = false)
+  private String eventType;
+
+  @JdbcTypeCode(SqlTypes.JSON)
+  @Column(name = "payload", nullable = false, columnDefinition = "jsonb")
+  private String payload;
+
+  @Column(name = "created_at", nullable = false)
+  private ZonedDateTime createdAt;
+
+  @Column(name = "available_at", nullable = false)
+  private ZonedDateTime availableAt;
+
+  @Column(name = "attempts", nullable = false)
+  private int attempts;
+
+  @Column(name = "last_error")
+  private String lastError;
+
+  public OutboxEvent(String eventType, String payload, ZonedDateTime createdAt) {
+    this.eventType = eventType;
+    this.payload = payload;
+    this.createdAt = createdAt;
+    this.availableAt = createdAt;
+  }
+}
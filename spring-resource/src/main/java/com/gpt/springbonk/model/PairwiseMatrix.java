@@ -0,0 +1,133 @@
+package com.gpt.springbonk.model;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+import lombok.Getter;
+
+/**
+ * Pairwise preference counts for a ranked ballot box.
+ * <p>
+ * {@code preferences[i][j]} is the number of ballots ranking candidate {@code i} above candidate
+ * {@code j}, with indexes taken from the source {@link IndexedBallotBox}. A ranked candidate is
+ * preferred over every candidate ranked after it and over every candidate the ballot leaves
+ * unranked; unranked candidates are tied with each other.
+ */
+@Getter
+public class PairwiseMatrix {
+  private final UUID[] candidateIds;
+  private final int[][] preferences;
+  private final int ballotCount;
+
+  public PairwiseMatrix(UUID[] candidateIds, int[][] preferences, int ballotCount) {
+    this.candidateIds = candidateIds;
+    this.preferences = preferences;
+    this.ballotCount = ballotCount;
+  }
+
+  /// Builds the matrix in a single pass over the ballots.
+  public static PairwiseMatrix of(IndexedBallotBox ballotBox) {
+    return new PairwiseMatrix(
+        ballotBox.getCandidateIds(),
+        count(ballotBox, 0, ballotBox.getBallotCount()),
+        ballotBox.getBallotCount()
+    );
+  }
+
+  /**
+   * Builds the matrix from shards of at most {@code shardSize} ballots, counted in parallel on the
+   * common pool and summed. Boxes that fit in one shard are counted on the calling thread.
+   */
+  public static PairwiseMatrix of(IndexedBallotBox ballotBox, int shardSize) {
+    int ballotCount = ballotBox.getBallotCount();
+    if (shardSize <= 0 || ballotCount <= shardSize) {
+      return of(ballotBox);
+    }
+
+    int shardCount = (ballotCount + shardSize - 1) / shardSize;
+    int[][] preferences = IntStream.range(0, shardCount)
+        .parallel()
+        .mapToObj(shard -> count(
+            ballotBox,
+            shard * shardSize,
+            Math.min(ballotCount, (shard + 1) * shardSize)))
+        .reduce(PairwiseMatrix::sum)
+        .orElseThrow();
+
+    return new PairwiseMatrix(ballotBox.getCandidateIds(), preferences, ballotCount);
+  }
+
+  /// Counts ballots [from, to) into a fresh matrix.
+  private static int[][] count(IndexedBallotBox ballotBox, int from, int to) {
+    int candidateCount = ballotBox.getCandidateCount();
+    int[][] preferences = new int[candidateCount][candidateCount];
+    int[] ballotPreferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+    boolean[] ranked = new boolean[candidateCount];
+
+    for (int ballot = from; ballot < to; ballot++) {
+      int start = offsets[ballot];
+      int end = offsets[ballot + 1];
+
+      for (int p = start; p < end; p++) {
+        int candidate = ballotPreferences[p];
+        if (ranked[candidate]) {
+          // Only a candidate's first appearance on a ballot counts.
+          continue;
+        }
+        ranked[candidate] = true;
+
+        int[] row = preferences[candidate];
+        for (int other = 0; other < candidateCount; other++) {
+          if (!ranked[other]) {
+            row[other]++;
+          }
+        }
+      }
+
+      for (int p = start; p < end; p++) {
+        ranked[ballotPreferences[p]] = false;
+      }
+    }
+
+    return preferences;
+  }
+
+  /// Adds {@code right} into {@code left} and returns {@code left}.
+  private static int[][] sum(int[][] left, int[][] right) {
+    for (int i = 0; i < left.length; i++) {
+      int[] leftRow = left[i];
+      int[] rightRow = right[i];
+      for (int j = 0; j < leftRow.length; j++) {
+        leftRow[j] += rightRow[j];
+      }
+    }
+    return left;
+  }
+
+  public int getCandidateCount() {
+    return candidateIds.length;
+  }
+
+  /// Ballots preferring i over j minus ballots preferring j over i.
+  public int margin(int i, int j) {
+    return preferences[i][j] - preferences[j][i];
+  }
+
+  public boolean beats(int i, int j) {
+    return preferences[i][j] > preferences[j][i];
+  }
+
+  /// Returns the candidate beating every other candidate head-to-head, or -1 if there is none.
+  public int condorcetWinner() {
+    for (int i = 0; i < getCandidateCount(); i++) {
+      boolean beatsAll = true;
+      for (int j = 0; j < getCandidateCount() && beatsAll; j++) {
+        beatsAll = i == j || beats(i, j);
+      }
+      if (beatsAll) {
+        return i;
+      }
+    }
+    return -1;
+  }
+}
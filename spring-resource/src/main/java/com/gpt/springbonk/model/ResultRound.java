@@ -0,0 +1,28 @@
+package com.gpt.springbonk.model;
+
+import com.gpt.springbonk.constant.enumeration.process.EliminationMessage;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/// One row of {@code result_rounds}: what a round of an {@link ElectionResult} decided.
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultRound {
+  @Column(name = "round_number", nullable = false)
+  private int roundNumber;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "elimination_message")
+  private EliminationMessage eliminationMessage;
+
+  /// False for rounds recording no eliminations at all, as opposed to an empty list of them.
+  @Column(name = "eliminations_listed", nullable = false)
+  private boolean eliminationsListed;
+}
@@ -0,0 +1,32 @@
+package com.gpt.springbonk.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.util.UUID;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/// One row of {@code result_round_tallies}: a candidate's standing in one round of a result.
+@Embeddable
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultRoundTally {
+  @Column(name = "round_number", nullable = false)
+  private int roundNumber;
+
+  @Column(name = "candidate_id", nullable = false)
+  private UUID candidateId;
+
+  /// Null when the round recorded no count for the candidate.
+  @Column(name = "votes")
+  private Integer votes;
+
+  @Column(name = "eliminated", nullable = false)
+  private boolean eliminated;
+
+  /// Position among the round's listed eliminations; null unless eliminated.
+  @Column(name = "elimination_order")
+  private Integer eliminationOrder;
+}
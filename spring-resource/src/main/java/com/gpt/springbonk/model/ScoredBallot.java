@@ -0,0 +1,54 @@
+package com.gpt.springbonk.model;
+
+import com.gpt.springbonk.keycloak.KeycloakUser;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.UpdateTimestamp;
+
+/**
+ * A voter's scores for every candidate in an election, for the score-family methods (SCORE,
+ * STAR, APPROVAL, MAJORITY_JUDGEMENT). One row per voter per election; the scores are packed by
+ * {@code ScoredBallotCodec} rather than spread over a row per candidate like {@link Vote}.
+ */
+@Entity
+@Getter
+@Setter
+@NoArgsConstructor
+@Table(name = "scored_ballots")
+public class ScoredBallot {
+  @Id
+  @GeneratedValue
+  private UUID id;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "election_id", nullable = false)
+  private Election election;
+
+  @ManyToOne(fetch = FetchType.LAZY, optional = false)
+  @JoinColumn(name = "voter_id", nullable = false)
+  private KeycloakUser voter;
+
+  @Column(name = "scores", nullable = false)
+  private byte[] scores;
+
+  @UpdateTimestamp
+  @Column(name = "updated_date", nullable = false)
+  private LocalDateTime updatedDate;
+
+  public ScoredBallot(Election election, KeycloakUser voter, byte[] scores) {
+    this.election = election;
+    this.voter = voter;
+    this.scores = scores;
+  }
+}
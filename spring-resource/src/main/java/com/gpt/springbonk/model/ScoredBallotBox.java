@@ -0,0 +1,87 @@
+package com.gpt.springbonk.model;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * A dense, primitive view of an election's scored ballots used by the score-family tabulators.
+ * <p>
+ * Every ballot holds one score per candidate, from 0 to {@link #MAX_SCORE}; candidates a voter
+ * left unscored count as 0. Ballot {@code b} scores candidate {@code c} at
+ * {@code scores[b * candidateCount + c]}, so a tabulator walks one flat {@code byte[]} once.
+ * <p>
+ * Instances are immutable once built; the array is exposed directly for speed, so callers must
+ * not modify it.
+ */
+@Getter
+public class ScoredBallotBox {
+  public static final int MAX_SCORE = 5;
+
+  private final UUID[] candidateIds;
+  private final byte[] scores;
+  private final int ballotCount;
+
+  private ScoredBallotBox(UUID[] candidateIds, byte[] scores, int ballotCount) {
+    this.candidateIds = candidateIds;
+    this.scores = scores;
+    this.ballotCount = ballotCount;
+  }
+
+  public int getCandidateCount() {
+    return candidateIds.length;
+  }
+
+  public static class Builder {
+    private final UUID[] candidateIds;
+    private final Map<UUID, Integer> candidateIndexes = new HashMap<>();
+    private byte[] scores;
+    private int ballotCount;
+
+    /// Candidates are fixed up front; scores for anyone else are ignored.
+    public Builder(List<UUID> candidateIds) {
+      this.candidateIds = candidateIds.toArray(UUID[]::new);
+      for (int i = 0; i < this.candidateIds.length; i++) {
+        candidateIndexes.put(this.candidateIds[i], i);
+      }
+      this.scores = new byte[Math.max(16, this.candidateIds.length * 16)];
+    }
+
+    /// Appends one ballot. Scores are clamped to {@code [0, MAX_SCORE]}.
+    public Builder addBallot(Map<UUID, Integer> ballot) {
+      int row = nextRow();
+      ballot.forEach((candidateId, score) -> {
+        Integer index = candidateIndexes.get(candidateId);
+        if (index != null && score != null) {
+          scores[row + index] = (byte) Math.clamp(score, 0, MAX_SCORE);
+        }
+      });
+      return this;
+    }
+
+    public int getBallotCount() {
+      return ballotCount;
+    }
+
+    public ScoredBallotBox build() {
+      return new ScoredBallotBox(
+          candidateIds,
+          Arrays.copyOf(scores, ballotCount * candidateIds.length),
+          ballotCount
+      );
+    }
+
+    /// Reserves a zeroed row for the next ballot and returns its offset.
+    private int nextRow() {
+      int row = ballotCount * candidateIds.length;
+      if (row + candidateIds.length > scores.length) {
+        scores = Arrays.copyOf(scores, Math.max(scores.length * 2, row + candidateIds.length));
+      }
+      ballotCount++;
+      return row;
+    }
+  }
+}
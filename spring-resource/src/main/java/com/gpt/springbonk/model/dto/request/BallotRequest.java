@@ -0,0 +1,16 @@
+package com.gpt.springbonk.model.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * A voter's complete ranking for one election, most preferred first. Candidates left out are
+ * unranked; an empty list withdraws the ballot.
+ */
+@Data
+public class BallotRequest {
+  @NotNull(message = "A ballot must list its ranked candidates, even if empty.")
+  private List<@NotNull UUID> candidateIds;
+}
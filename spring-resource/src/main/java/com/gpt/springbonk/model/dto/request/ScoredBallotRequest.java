@@ -0,0 +1,21 @@
+package com.gpt.springbonk.model.dto.request;
+
+import com.gpt.springbonk.model.ScoredBallotBox;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import java.util.Map;
+import java.util.UUID;
+import lombok.Data;
+
+/**
+ * A voter's scores for one election, by candidate. Candidates left out score 0; an empty map
+ * withdraws the ballot. Approval counts any score above 0 as approval.
+ */
+@Data
+public class ScoredBallotRequest {
+  @NotNull(message = "A ballot must list its scores, even if empty.")
+  private Map<
+      @NotNull UUID,
+      @NotNull @Min(0) @Max(ScoredBallotBox.MAX_SCORE) Integer> scores;
+}
@@ -1,10 +1,10 @@
 package com.gpt.springbonk.model.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.gpt.springbonk.constant.enumeration.election.Flag;
 import com.gpt.springbonk.model.ElectionResult;
 import com.gpt.springbonk.model.record.RoundResultRecord;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 import lombok.Getter;
@@ -13,18 +13,27 @@ import lombok.Getter;
 public class ElectionResultResponse {
   private final UUID id;
   private final UUID winnerId;
+  private final List<UUID> winnerIds;
   private final int totalVotes;
+  /// Null in result listings; fetch a result's rounds on their own when they are needed.
+  @JsonInclude(JsonInclude.Include.NON_NULL)
   private final List<RoundResultRecord> rounds;
   private final ZonedDateTime closureTime;
   private final List<Flag> flags;
 
   public ElectionResultResponse(ElectionResult result) {
+    this(result, true);
+  }
+
+  /// A result, with or without its rounds; leaving them out leaves the round tables unread.
+  public ElectionResultResponse(ElectionResult result, boolean withRounds) {
     this.id = result.getId();
     this.winnerId = result.getWinnerId();
-    this.totalVotes = result.getTotalVotes();
-    this.rounds = result.getRounds() == null
+    this.winnerIds = result.getWinnerIds() == null
         ? List.of()
-        : new ArrayList<>(result.getRounds());
+        : List.copyOf(result.getWinnerIds());
+    this.totalVotes = result.getTotalVotes();
+    this.rounds = withRounds ? result.getRounds() : null;
     this.closureTime = result.getClosureTime();
     this.flags = result.getFlags() == null
         ? List.of()
@@ -0,0 +1,25 @@
+package com.gpt.springbonk.model.record;
+
+import java.time.Duration;
+
+/**
+ * A snapshot of the election closure executor.
+ *
+ * @param queued        claimed closures waiting for a permit
+ * @param running       closures holding a permit, including any backing off between retries
+ * @param completed     closures finished since startup
+ * @param retried       attempts repeated after a transient database failure
+ * @param failed        closures given up on; their jobs are retried once the lease lapses
+ * @param meanLatency   mean time from claim to closed, over completed closures
+ * @param maxLatency    longest time from claim to closed
+ */
+public record ClosureExecutorStatsRecord(
+    int queued,
+    int running,
+    long completed,
+    long retried,
+    long failed,
+    Duration meanLatency,
+    Duration maxLatency
+) {
+}
@@ -0,0 +1,7 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.UUID;
+
+/// A candidate id with its election's, projected without loading either entity.
+public record ElectionCandidateEntry(UUID electionId, UUID candidateId) {
+}
@@ -0,0 +1,18 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One election tabulated under several methods from the same ballots.
+ *
+ * @param loadMicros time spent loading the ballots (and building the pairwise matrix) once for
+ *                   every method
+ * @param methods    one entry per requested method, in request order
+ */
+public record ElectionComparisonRecord(
+    UUID electionId,
+    long loadMicros,
+    List<MethodComparisonRecord> methods
+) {
+}
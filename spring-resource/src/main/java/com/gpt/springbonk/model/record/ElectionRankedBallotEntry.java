@@ -0,0 +1,15 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.UUID;
+
+/// A {@link RankedBallotEntry} tagged with its election, for loading several elections at once.
+public record ElectionRankedBallotEntry(
+    UUID electionId,
+    UUID voterId,
+    UUID candidateId,
+    Integer rank
+) {
+  public RankedBallotEntry entry() {
+    return new RankedBallotEntry(voterId, candidateId, rank);
+  }
+}
@@ -1,7 +1,61 @@
 package com.gpt.springbonk.model.record;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gpt.springbonk.constant.enumeration.election.Flag;
 import java.util.List;
 import java.util.UUID;
 
-public record ElectionResultRecord(UUID winnerId, List<RoundResultRecord> rounds, int totalVotes) {
-}
\ No newline at end of file
+/**
+ * The outcome of a tabulation.
+ *
+ * @param ranking   finishing order as tiers of tied candidates, for methods that produce one
+ * @param pairwise  pairwise matrices behind the result, for Condorcet-family methods
+ * @param flags     caveats about how the result was reached, such as an approximate ranking
+ * @param winnerIds every elected candidate in order of election, for multi-winner methods
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ElectionResultRecord(
+    UUID winnerId,
+    List<RoundResultRecord> rounds,
+    int totalVotes,
+    List<List<UUID>> ranking,
+    PairwiseResultRecord pairwise,
+    List<Flag> flags,
+    List<UUID> winnerIds
+) {
+  public ElectionResultRecord(UUID winnerId, List<RoundResultRecord> rounds, int totalVotes) {
+    this(winnerId, rounds, totalVotes, null, null, null, null);
+  }
+
+  public ElectionResultRecord(
+      UUID winnerId,
+      List<RoundResultRecord> rounds,
+      int totalVotes,
+      List<List<UUID>> ranking,
+      PairwiseResultRecord pairwise
+  ) {
+    this(winnerId, rounds, totalVotes, ranking, pairwise, null, null);
+  }
+
+  /// A multi-winner result; the first elected candidate doubles as {@code winnerId}.
+  public static ElectionResultRecord ofWinners(
+      List<UUID> winnerIds,
+      List<RoundResultRecord> rounds,
+      int totalVotes
+  ) {
+    return new ElectionResultRecord(
+        winnerIds.isEmpty() ? null : winnerIds.getFirst(),
+        rounds,
+        totalVotes,
+        null,
+        null,
+        null,
+        List.copyOf(winnerIds)
+    );
+  }
+
+  public ElectionResultRecord withFlags(List<Flag> flags) {
+    return new ElectionResultRecord(
+        winnerId, rounds, totalVotes, ranking, pairwise, flags, winnerIds);
+  }
+}
@@ -0,0 +1,22 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * A provisional, first-preference view of an election in progress.
+ *
+ * @param firstPreferences    ballots currently ranking each candidate first
+ * @param ballotCount         voters with at least one ranked candidate
+ * @param provisionalWinnerId the first-preference leader, or null while the lead is shared
+ * @param majority            whether the leader already holds a majority, in which case instant
+ *                            runoff would elect them in the first round
+ */
+public record LiveTallyRecord(
+    UUID electionId,
+    Map<UUID, Integer> firstPreferences,
+    int ballotCount,
+    UUID provisionalWinnerId,
+    boolean majority
+) {
+}
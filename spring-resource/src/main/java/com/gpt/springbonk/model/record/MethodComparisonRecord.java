@@ -0,0 +1,24 @@
+package com.gpt.springbonk.model.record;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * How one method decided an election, as part of a comparison.
+ *
+ * @param ranking       finishing order as tiers, for methods that produce one
+ * @param elapsedMicros time spent tabulating, excluding loading the ballots
+ * @param error         why the method could not decide the election; the other fields are then
+ *                      empty
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record MethodComparisonRecord(
+    SingleWinnerVotingSystemMethod method,
+    UUID winnerId,
+    List<List<UUID>> ranking,
+    long elapsedMicros,
+    String error
+) {
+}
@@ -0,0 +1,18 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Audit trail for a Condorcet-family tabulation. Row and column {@code i} of each matrix refer to
+ * {@code candidateIds.get(i)}.
+ *
+ * @param preferences ballots preferring the row candidate over the column candidate
+ * @param strengths   method specific strengths (e.g. Schulze strongest paths), or null
+ */
+public record PairwiseResultRecord(
+    List<UUID> candidateIds,
+    int[][] preferences,
+    int[][] strengths
+) {
+}
@@ -0,0 +1,7 @@
+package com.gpt.springbonk.model.record;
+
+import java.util.UUID;
+
+/// One row of a ranked ballot, projected straight from the votes table without loading entities.
+public record RankedBallotEntry(UUID voterId, UUID candidateId, Integer rank) {
+}
@@ -0,0 +1,23 @@
+package com.gpt.springbonk.model.record;
+
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The last event of a round stream, sent once every round has been.
+ *
+ * @param winnerId   the winner, or null when there is none
+ * @param totalVotes ballots counted
+ * @param replayed   whether the rounds were replayed from the stored result of a closed election
+ *                   rather than tabulated for this stream
+ * @param flags      flags on the stored result; always empty for a live tabulation
+ */
+public record RoundStreamSummaryRecord(
+    UUID electionId,
+    UUID winnerId,
+    int totalVotes,
+    boolean replayed,
+    List<Flag> flags
+) {
+}
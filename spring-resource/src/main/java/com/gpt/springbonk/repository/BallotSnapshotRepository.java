@@ -0,0 +1,30 @@
+package com.gpt.springbonk.repository;
+
+import com.gpt.springbonk.model.BallotSnapshot;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface BallotSnapshotRepository extends JpaRepository<BallotSnapshot, UUID> {
+  /*
+   * LOCK_IN_POINT FOR PGSQL: ON CONFLICT.
+   * Two tabulations can compile the same election at once. The upsert lets both write without a
+   * duplicate key failing the surrounding transaction, and never replaces a newer snapshot.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+        insert into ballot_snapshots
+          (election_id, ballot_version, ballot_count, payload, compiled_at)
+        values (:electionId, :ballotVersion, :ballotCount, :payload, now())
+        on conflict (election_id) do update
+          set ballot_version = excluded.ballot_version,
+              ballot_count = excluded.ballot_count,
+              payload = excluded.payload,
+              compiled_at = excluded.compiled_at
+          where ballot_snapshots.ballot_version < excluded.ballot_version
+      """)
+  int upsert(UUID electionId, long ballotVersion, int ballotCount, byte[] payload);
+}
@@ -1,11 +1,28 @@
 package com.gpt.springbonk.repository;
 
 import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.record.ElectionCandidateEntry;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface CandidateRepository extends JpaRepository<Candidate, UUID> {
   boolean existsByBookIdAndElectionId(UUID bookId, UUID electionId);
+
+  @Query("select c.id from Candidate c where c.election.id = :electionId")
+  List<UUID> findIdsByElectionId(UUID electionId);
+
+  @Query("""
+        select new com.gpt.springbonk.model.record.ElectionCandidateEntry(c.election.id, c.id)
+        from Candidate c
+        where c.election.id in :electionIds
+      """)
+  List<ElectionCandidateEntry> findIdsByElectionIds(Collection<UUID> electionIds);
+
+  @Query("select c from Candidate c left join fetch c.book where c.id in :candidateIds")
+  List<Candidate> findAllWithBookByIdIn(Collection<UUID> candidateIds);
 }
@@ -0,0 +1,82 @@
+package com.gpt.springbonk.repository;
+
+import com.gpt.springbonk.model.ElectionClosureJob;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ElectionClosureJobRepository extends JpaRepository<ElectionClosureJob, UUID> {
+  /*
+   * LOCK_IN_POINT FOR PGSQL: ON CONFLICT.
+   * Rescheduling replaces the due time and drops any lease, so a node still closing the election
+   * for its old due time can no longer complete (delete) the job.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+        insert into election_closure_jobs (election_id, due_at, attempts)
+        values (:electionId, :dueAt, 0)
+        on conflict (election_id) do update
+          set due_at = excluded.due_at,
+              lease_owner = null,
+              lease_expires_at = null,
+              attempts = 0
+      """)
+  int upsert(UUID electionId, ZonedDateTime dueAt);
+
+  /*
+   * LOCK_IN_POINT FOR PGSQL: FOR UPDATE SKIP LOCKED, UPDATE ... RETURNING.
+   * One statement picks due jobs whose lease is free or expired, skipping rows another node is
+   * claiming at the same moment, and takes their leases. Nodes never claim the same job twice
+   * while a lease holds.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+        update election_closure_jobs
+          set lease_owner = :owner,
+              lease_expires_at = :leaseExpiresAt,
+              attempts = attempts + 1
+        where election_id in (
+          select election_id from election_closure_jobs
+          where due_at <= :now
+            and (lease_expires_at is null or lease_expires_at < :now)
+          order by due_at
+          limit :batchSize
+          for update skip locked
+        )
+        returning election_id
+      """)
+  List<UUID> claimDue(String owner, ZonedDateTime now, ZonedDateTime leaseExpiresAt, int batchSize);
+
+  boolean existsByElectionIdAndLeaseOwner(UUID electionId, String leaseOwner);
+
+  /// Delete a job, but only while {@code owner} still holds its lease.
+  @Modifying
+  @Query("""
+        delete from ElectionClosureJob j
+        where j.electionId = :electionId and j.leaseOwner = :owner
+      """)
+  int deleteClaimed(UUID electionId, String owner);
+
+  @Modifying
+  @Query("delete from ElectionClosureJob j where j.electionId in :electionIds")
+  int deleteAllByElectionIds(Collection<UUID> electionIds);
+
+  /*
+   * LOCK_IN_POINT FOR PGSQL: ON CONFLICT.
+   * Jobs for open elections with an end date that have none, e.g. after a job was lost.
+   */
+  @Modifying
+  @Query(nativeQuery = true, value = """
+        insert into election_closure_jobs (election_id, due_at, attempts)
+        select id, end_date, 0 from elections
+        where status <> 'CLOSED' and end_date is not null
+        on conflict (election_id) do nothing
+      """)
+  int insertMissing();
+}
@@ -1,10 +1,15 @@
 package com.gpt.springbonk.repository;
 
 import com.gpt.springbonk.model.Election;
+import jakarta.persistence.LockModeType;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
@@ -17,4 +22,30 @@ public interface ElectionRepository extends JpaRepository<Election, UUID> {
           and e.status <> com.gpt.springbonk.constant.enumeration.election.Status.CLOSED
       """)
   Set<Election> findAllOpenEndingAfter(ZonedDateTime now);
+
+  /// Row-locked read; concurrent closers of one election queue here and the later sees CLOSED.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("select e from Election e where e.id = :electionId")
+  Optional<Election> findByIdForUpdate(UUID electionId);
+
+  /*
+   * LOCK_IN_POINT FOR PGSQL: FOR UPDATE SKIP LOCKED.
+   * Overdue elections still open, earliest first, row-locked for the caller's transaction. Rows
+   * another transaction holds (a closure in flight, another node catching up) are passed over.
+   */
+  @Query(nativeQuery = true, value = """
+        select * from elections
+        where status <> 'CLOSED' and end_date <= :now
+        order by end_date
+        limit :limit
+        for update skip locked
+      """)
+  List<Election> lockOverdue(ZonedDateTime now, int limit);
+
+  @Modifying
+  @Query("update Election e set e.ballotVersion = e.ballotVersion + 1 where e.id = :electionId")
+  int incrementBallotVersion(UUID electionId);
+
+  @Query("select e.ballotVersion from Election e where e.id = :electionId")
+  Optional<Long> findBallotVersion(UUID electionId);
 }
@@ -1,10 +1,13 @@
 package com.gpt.springbonk.repository;
 
 import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.ResultRoundTally;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -13,4 +16,28 @@ public interface ElectionResultRepository extends JpaRepository<ElectionResult,
   List<ElectionResult> findAllByElection_IdOrderByClosureTimeDesc(UUID electionId);
 
   Optional<ElectionResult> findFirstByElection_IdOrderByClosureTimeDesc(UUID electionId);
+
+  Optional<ElectionResult> findByIdAndElection_Id(UUID id, UUID electionId);
+
+  /// Rounds of a result in which the candidate was counted and not eliminated, in order.
+  @Query("""
+      SELECT t.roundNumber FROM ElectionResult r JOIN r.roundTallies t
+      WHERE r.id = :resultId AND t.candidateId = :candidateId AND t.eliminated = false
+      ORDER BY t.roundNumber
+      """)
+  List<Integer> findRoundsSurvivedByCandidate(
+      @Param("resultId") UUID resultId,
+      @Param("candidateId") UUID candidateId
+  );
+
+  /// A candidate's row in every round of a result that counted or eliminated them, in order.
+  @Query("""
+      SELECT t FROM ElectionResult r JOIN r.roundTallies t
+      WHERE r.id = :resultId AND t.candidateId = :candidateId
+      ORDER BY t.roundNumber
+      """)
+  List<ResultRoundTally> findCandidateTallies(
+      @Param("resultId") UUID resultId,
+      @Param("candidateId") UUID candidateId
+  );
 }
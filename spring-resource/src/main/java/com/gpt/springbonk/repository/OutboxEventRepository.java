@@ -0,0 +1,32 @@
+package com.gpt.springbonk.repository;
+
+import com.gpt.springbonk.model.OutboxEvent;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+  @Query(nativeQuery = true, value = """
+        select id from domain_event_outbox
+        where available_at <= :now and attempts < :maxAttempts
+        order by id
+        limit :limit
+      """)
+  List<Long> findReadyIds(ZonedDateTime now, int maxAttempts, int limit);
+
+  /*
+   * LOCK_IN_POINT FOR PGSQL: FOR UPDATE SKIP LOCKED.
+   * The row stays locked while its event is relayed, so relays on other nodes pass it over
+   * instead of delivering it twice.
+   */
+  @Query(nativeQuery = true, value = """
+        select * from domain_event_outbox
+        where id = :id
+        for update skip locked
+      """)
+  Optional<OutboxEvent> lockById(long id);
+}
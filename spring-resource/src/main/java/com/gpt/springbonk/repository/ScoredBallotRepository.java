@@ -0,0 +1,18 @@
+package com.gpt.springbonk.repository;
+
+import com.gpt.springbonk.model.ScoredBallot;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ScoredBallotRepository extends JpaRepository<ScoredBallot, UUID> {
+  Optional<ScoredBallot> findByElection_IdAndVoter_Id(UUID electionId, UUID voterId);
+
+  /// The packed scores of every ballot in an election, without hydrating the entities.
+  @Query("select b.scores from ScoredBallot b where b.election.id = :electionId")
+  List<byte[]> findScoresByElectionId(UUID electionId);
+}
@@ -1,10 +1,18 @@
 package com.gpt.springbonk.repository;
 
 import com.gpt.springbonk.model.Vote;
+import com.gpt.springbonk.model.record.ElectionRankedBallotEntry;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import jakarta.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -14,4 +22,43 @@ public interface VoteRepository extends JpaRepository<Vote, UUID> {
   List<Vote> findByVoter_IdAndCandidate_Election_IdOrderByRankAsc(UUID voterId, UUID electionId);
 
   Optional<Vote> findByCandidate_IdAndVoter_Id(UUID candidateId, UUID voterId);
+
+  @Query("""
+        select v.candidate.id from Vote v
+        where v.voter.id = :voterId and v.candidate.election.id = :electionId
+        order by v.rank
+      """)
+  List<UUID> findRankedCandidateIds(UUID voterId, UUID electionId);
+
+  /**
+   * Every ranked vote in an election, grouped by voter and in rank order, without hydrating
+   * Vote, Candidate or KeycloakUser. Must be consumed (and closed) inside a transaction; rows are
+   * pulled through a cursor in pages of the fetch size.
+   */
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("""
+        select new com.gpt.springbonk.model.record.RankedBallotEntry(
+          v.voter.id, v.candidate.id, v.rank)
+        from Vote v
+        where v.candidate.election.id = :electionId
+        order by v.voter.id, v.rank
+      """)
+  Stream<RankedBallotEntry> streamRankedBallots(UUID electionId);
+
+  /// {@link #streamRankedBallots} for several elections in one query, grouped by election first.
+  @QueryHints({
+      @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+      @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query("""
+        select new com.gpt.springbonk.model.record.ElectionRankedBallotEntry(
+          v.candidate.election.id, v.voter.id, v.candidate.id, v.rank)
+        from Vote v
+        where v.candidate.election.id in :electionIds
+        order by v.candidate.election.id, v.voter.id, v.rank
+      """)
+  Stream<ElectionRankedBallotEntry> streamRankedBallotsByElectionIds(Collection<UUID> electionIds);
 }
@@ -0,0 +1,38 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.winnerOf;
+
+/// Approval voting over scored ballots: any score above zero approves the candidate.
+@Service
+public class ApprovalService implements ScoreMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.APPROVAL;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(ScoredBallotBox ballotBox) {
+    int candidateCount = ballotBox.getCandidateCount();
+    byte[] scores = ballotBox.getScores();
+    long[] approvals = new long[candidateCount];
+    for (int row = 0; row < scores.length; row += candidateCount) {
+      for (int candidate = 0; candidate < candidateCount; candidate++) {
+        if (scores[row + candidate] > 0) {
+          approvals[candidate]++;
+        }
+      }
+    }
+
+    List<List<UUID>> ranking = rankByScore(ballotBox.getCandidateIds(), approvals);
+    return new ElectionResultRecord(
+        winnerOf(ranking), List.of(), ballotBox.getBallotCount(), ranking, null);
+  }
+}
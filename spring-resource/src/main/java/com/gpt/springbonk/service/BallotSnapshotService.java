@@ -0,0 +1,37 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+public interface BallotSnapshotService {
+  /**
+   * Get an election's ranked ballots. Served from the stored snapshot while its version matches
+   * the election's ballot version; otherwise compiled from the votes and stored for next time.
+   */
+  IndexedBallotBox getBallotBox(Election election);
+
+  /**
+   * {@link #getBallotBox} for many elections at once, keyed by election. Elections whose ballots
+   * cannot be compiled (those without candidates or without votes) are left out of the map.
+   * <p>
+   * By default this asks once per election. The stored implementation instead makes one snapshot
+   * query, then one candidate and one vote query covering every election whose snapshot is
+   * missing or stale, and does not store what it compiles.
+   */
+  default Map<UUID, IndexedBallotBox> getBallotBoxes(Collection<Election> elections) {
+    Map<UUID, IndexedBallotBox> ballotBoxes = new HashMap<>();
+    for (Election election : elections) {
+      try {
+        ballotBoxes.put(election.getId(), getBallotBox(election));
+      } catch (ElectionCannotBeCompletedException e) {
+        // Left out, as documented.
+      }
+    }
+    return ballotBoxes;
+  }
+}
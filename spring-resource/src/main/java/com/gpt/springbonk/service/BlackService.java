@@ -0,0 +1,49 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Black: the Condorcet winner if there is one, otherwise the highest Borda score.
+ * <p>
+ * The Borda score is read off the matrix as the sum of a candidate's row, i.e. the number of
+ * (ballot, opponent) pairs the candidate is ranked above. That matches a Borda count where
+ * unranked candidates share last place.
+ */
+@Service
+public class BlackService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.BLACK;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    int[][] preferences = matrix.getPreferences();
+    long[] scores = new long[candidateCount];
+
+    for (int i = 0; i < candidateCount; i++) {
+      for (int j = 0; j < candidateCount; j++) {
+        scores[i] += preferences[i][j];
+      }
+    }
+
+    int condorcetWinner = matrix.condorcetWinner();
+    if (condorcetWinner >= 0) {
+      scores[condorcetWinner] = Long.MAX_VALUE;
+    }
+
+    return toResult(matrix, rankByScore(matrix.getCandidateIds(), scores), List.of(), null);
+  }
+}
@@ -0,0 +1,23 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+
+/**
+ * A tabulator that works from a shared {@link PairwiseMatrix}.
+ * <p>
+ * Beans implementing this are picked up by {@code SingleWinnerMethodDistributionServiceImpl} and
+ * keyed by {@link #getMethod()}. The matrix is built once per tabulation (and cached for closed
+ * elections) so several methods can run against the same ballots without recounting them. The
+ * indexed ballots are passed along for methods that still need first preferences.
+ */
+public interface CondorcetMethod {
+  SingleWinnerVotingSystemMethod getMethod();
+
+  ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  );
+}
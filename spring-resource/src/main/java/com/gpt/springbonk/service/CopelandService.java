@@ -0,0 +1,48 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Copeland: one point per pairwise win and half a point per pairwise tie. Scores are kept doubled
+ * so they stay integral.
+ */
+@Service
+public class CopelandService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.COPELAND;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    long[] scores = new long[candidateCount];
+
+    for (int i = 0; i < candidateCount; i++) {
+      for (int j = 0; j < candidateCount; j++) {
+        if (i == j) {
+          continue;
+        }
+        int margin = matrix.margin(i, j);
+        if (margin > 0) {
+          scores[i] += 2;
+        } else if (margin == 0) {
+          scores[i] += 1;
+        }
+      }
+    }
+
+    return toResult(matrix, rankByScore(matrix.getCandidateIds(), scores), List.of(), null);
+  }
+}
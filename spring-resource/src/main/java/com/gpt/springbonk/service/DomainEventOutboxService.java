@@ -0,0 +1,27 @@
+package com.gpt.springbonk.service;
+
+import java.util.List;
+
+/**
+ * Announcement events (elections opened and closed, reviews liked and commented on) stored in
+ * the transaction that raised them and relayed to their listeners afterwards, by
+ * {@link DomainEventRelayService}.
+ */
+public interface DomainEventOutboxService {
+  /// Store {@code event} in the caller's transaction. Only announcement event types are accepted.
+  void enqueue(Object event);
+
+  /// Ids of events due for delivery, oldest first.
+  List<Long> findReady(int limit);
+
+  /**
+   * Publish one stored event to its listeners and delete it, all in one transaction, so the
+   * listeners' writes and the deletion commit or roll back together.
+   *
+   * @return false if the event is gone or another relay holds it
+   */
+  boolean relay(long id);
+
+  /// Count a failed delivery in a transaction of its own and push the next attempt back.
+  void recordFailure(long id, String error);
+}
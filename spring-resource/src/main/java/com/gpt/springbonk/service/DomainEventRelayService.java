@@ -0,0 +1,6 @@
+package com.gpt.springbonk.service;
+
+public interface DomainEventRelayService {
+  /// Relay every ready outbox event, batch by batch. Returns how many were delivered.
+  int drain();
+}
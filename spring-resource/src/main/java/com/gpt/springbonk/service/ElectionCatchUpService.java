@@ -0,0 +1,16 @@
+package com.gpt.springbonk.service;
+
+import java.util.List;
+import java.util.UUID;
+
+/// Closes elections whose end date passed while no node was running, in bulk.
+public interface ElectionCatchUpService {
+  /**
+   * Close up to {@code pageSize} overdue elections in one transaction: lock them, load their
+   * ballots together, tabulate them in parallel and write every result and status in batches.
+   * Their closure jobs are deleted here; the caller drops any in-memory deadlines it holds.
+   *
+   * @return the elections closed; empty once none are overdue (or all are locked)
+   */
+  List<UUID> closeOverduePage(int pageSize);
+}
@@ -0,0 +1,15 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.model.record.ClosureExecutorStatsRecord;
+import java.util.UUID;
+
+/// Runs claimed election closures with bounded concurrency.
+public interface ElectionClosureExecutorService {
+  /// Closures that may still be submitted before the queue is full.
+  int remainingCapacity();
+
+  /// Close a claimed election and complete its job, retrying transient database failures.
+  void submit(UUID electionId);
+
+  ClosureExecutorStatsRecord getStats();
+}
@@ -0,0 +1,28 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.model.ElectionClosureJob;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/// The persistent queue of elections waiting to be closed, shared by every node.
+public interface ElectionClosureJobService {
+  /// Create or move the job for an election; any lease on it is dropped.
+  void schedule(UUID electionId, ZonedDateTime dueAt);
+
+  void remove(UUID electionId);
+
+  void removeAll(Collection<UUID> electionIds);
+
+  List<ElectionClosureJob> getPendingJobs();
+
+  /// Lease up to {@code limit} due jobs to this node and return their elections.
+  List<UUID> claimDue(int limit);
+
+  /// Drop a job this node closed; a no-op if the job was rescheduled or reclaimed meanwhile.
+  void complete(UUID electionId);
+
+  /// Create jobs for open elections that have an end date but no job. Returns how many.
+  int backfill();
+}
@@ -0,0 +1,19 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+public interface ElectionResultCacheService {
+  /**
+   * Return the cached result of running {@code methodology} over the election's current ballot
+   * version, or run {@code tabulation} and cache what it returns. Failed tabulations are not
+   * cached.
+   */
+  ElectionResultRecord getOrTabulate(
+      UUID electionId,
+      SingleWinnerVotingSystemMethod methodology,
+      Supplier<ElectionResultRecord> tabulation
+  );
+}
@@ -0,0 +1,20 @@
+package com.gpt.springbonk.service;
+
+import java.util.UUID;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+public interface ElectionRoundStreamService {
+  /// Event carrying one {@code RoundResultRecord}.
+  String ROUND_EVENT = "round";
+  /// Last event on success, carrying a {@code RoundStreamSummaryRecord}.
+  String SUMMARY_EVENT = "summary";
+  /// Last event when the election cannot be tabulated, carrying the reason.
+  String FAILURE_EVENT = "failure";
+
+  /**
+   * Stream an election's instant runoff rounds as server-sent events. A closed election replays
+   * the rounds of its latest stored result; any other election is tabulated from its current
+   * ballots and each round is sent as soon as it is decided.
+   */
+  SseEmitter streamRounds(UUID electionId);
+}
@@ -1,12 +1,16 @@
 package com.gpt.springbonk.service;
 
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
 import com.gpt.springbonk.model.Election;
 import com.gpt.springbonk.model.dto.request.ElectionRequest;
 import com.gpt.springbonk.model.dto.response.ElectionResponse;
 import com.gpt.springbonk.model.dto.response.ElectionResultResponse;
 import com.gpt.springbonk.model.dto.response.VoteResponse;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 import org.springframework.data.domain.Page;
@@ -31,8 +35,16 @@ public interface ElectionService {
 
   ElectionResultResponse getLatestElectionResult(UUID electionId);
 
+  /// The rounds of one stored result; result listings leave them out.
+  List<RoundResultRecord> getElectionResultRounds(UUID electionId, UUID resultId);
+
   ElectionResultRecord runRankedChoiceElection(UUID electionId);
 
+  ElectionComparisonRecord compareMethods(
+      UUID electionId,
+      Collection<SingleWinnerVotingSystemMethod> methodologies
+  );
+
   Election getElection(UUID electionId);
 
   List<VoteResponse> getVotesByUser(UUID electionId, UUID userId);
@@ -43,6 +55,15 @@ public interface ElectionService {
    */
   void closeElection(UUID electionId);
 
+  /**
+   * Scheduled close, for a claimed closure job. Under the election's row lock, closes it only
+   * while it is still due and {@code leaseOwner} still holds its job's lease; a closure claimed
+   * before the end date moved (or before another node took the job over) is skipped.
+   *
+   * @return false if the closure was skipped and its job must be left alone
+   */
+  boolean closeDueElection(UUID electionId, String leaseOwner);
+
   /**
    * User-facing close. Validates that the caller is the election creator
    * before delegating to {@link #closeElection(UUID)}.
@@ -1,19 +1,26 @@
 package com.gpt.springbonk.service;
 
+import com.gpt.springbonk.config.TabulationProperties;
 import com.gpt.springbonk.constant.enumeration.process.EliminationMessage;
+import com.gpt.springbonk.constant.enumeration.process.RunoffTallyMode;
 import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
 import com.gpt.springbonk.model.BallotBox;
 import com.gpt.springbonk.model.Candidate;
 import com.gpt.springbonk.model.Election;
-import com.gpt.springbonk.model.VoteCount;
+import com.gpt.springbonk.model.IndexedBallotBox;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
 import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.util.RunoffTally;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.NO_TIE_ELIMINATION_MESSAGE;
@@ -22,12 +29,24 @@ import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_ATTRITION;
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_MAJORITY;
 import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
-import static com.gpt.springbonk.util.BallotUtility.conductRound;
 import static com.gpt.springbonk.util.BallotUtility.processCandidates;
 
 @Slf4j
 @Service
 public class InstantRunoffService extends AbstractSingleWinnerElectionService {
+  private final RunoffTallyMode runoffTallyMode;
+  private final int parallelThreshold;
+
+  public InstantRunoffService() {
+    this(TabulationProperties.defaults());
+  }
+
+  @Autowired
+  public InstantRunoffService(TabulationProperties tabulationProperties) {
+    this.runoffTallyMode = tabulationProperties.runoffTallyMode();
+    this.parallelThreshold = tabulationProperties.parallelThreshold();
+  }
+
   @Override
   protected BallotBox processBallots(
       List<Candidate> candidates
@@ -46,8 +65,34 @@ public class InstantRunoffService extends AbstractSingleWinnerElectionService {
 
     BallotBox ballotBox = processBallots(election.getCandidates());
 
+    return conductElection(IndexedBallotBox.of(ballotBox));
+  }
+
+  /**
+   * Runs the instant runoff over an indexed ballot box.
+   * <p>
+   * All round bookkeeping happens on candidate indexes through a {@link RunoffTally}; UUID keyed
+   * records are only built when a round is recorded.
+   */
+  public ElectionResultRecord conductElection(
+      IndexedBallotBox ballotBox
+  ) {
+    return conductElection(ballotBox, round -> {
+    });
+  }
+
+  /**
+   * As {@link #conductElection(IndexedBallotBox)}, handing each round to {@code roundListener} on
+   * the calling thread as soon as it is decided, before the next round is counted. An exception
+   * thrown by the listener abandons the tabulation.
+   */
+  public ElectionResultRecord conductElection(
+      IndexedBallotBox ballotBox,
+      Consumer<RoundResultRecord> roundListener
+  ) {
     List<RoundResultRecord> rounds = new ArrayList<>();
-    List<UUID> eliminatedCandidates = new ArrayList<>();
+    RunoffTally runoffTally = new RunoffTally(ballotBox, runoffTallyMode, parallelThreshold);
+    BitSet eliminatedCandidates = runoffTally.getEliminatedCandidates();
     int allWayTieCorrectionCount = 0;
 
     while (true) {
@@ -61,30 +106,34 @@ public class InstantRunoffService extends AbstractSingleWinnerElectionService {
         allWayTieCorrectionCount = 0;
       }
 
-      VoteCount voteCount =
-          conductRound(ballotBox, eliminatedCandidates, roundNumber, allWayTieCorrectionCount);
+      int currentVotesSize = runoffTally.conductRound(allWayTieCorrectionCount);
+      int[] tally = runoffTally.getTally();
 
-      Map<UUID, Integer> currentVotes = voteCount.getCurrentVotes();
-      int currentVotesSize = voteCount.getCurrentVotesSize();
+      Map<UUID, Integer> currentVotes = toVoteMap(ballotBox, tally);
 
       Optional<ElectionResultRecord> majorityWinner = findMajorityWinner(
-          currentVotes, currentVotesSize, rounds, roundNumber
+          ballotBox, tally, currentVotes, currentVotesSize, rounds, roundNumber
       );
 
       if (majorityWinner.isPresent()) {
+        roundListener.accept(rounds.getLast());
         return majorityWinner.get();
       }
 
       List<UUID> candidatesWithMinVotes = getCandidatesWithMinVotes(
-          ballotBox, eliminatedCandidates, currentVotes
+          ballotBox, eliminatedCandidates, tally, currentVotes
       );
 
       RoundResultRecord
           roundResultRecord = getRoundResult(candidatesWithMinVotes, roundNumber, currentVotes);
 
       rounds.add(roundResultRecord);
+      roundListener.accept(roundResultRecord);
 
-      eliminatedCandidates.addAll(roundResultRecord.eliminatedCandidateIds());
+      runoffTally.eliminate(roundResultRecord.eliminatedCandidateIds()
+          .stream()
+          .mapToInt(ballotBox::indexOf)
+          .toArray());
     }
   }
 
@@ -113,19 +162,35 @@ public class InstantRunoffService extends AbstractSingleWinnerElectionService {
     );
   }
 
+  /// Converts a round's tally back to the UUID keyed map stored on the round; zero counts are
+  /// omitted, as candidates without votes never appeared in the legacy map.
+  private static Map<UUID, Integer> toVoteMap(IndexedBallotBox ballotBox, int[] tally) {
+    Map<UUID, Integer> votes = new HashMap<>();
+    for (int candidate = 0; candidate < tally.length; candidate++) {
+      if (tally[candidate] > 0) {
+        votes.put(ballotBox.getCandidateId(candidate), tally[candidate]);
+      }
+    }
+    return votes;
+  }
+
   private static Optional<ElectionResultRecord> findMajorityWinner(
+      IndexedBallotBox ballotBox,
+      int[] tally,
       Map<UUID, Integer> currentVotes,
       int currentVotesSize,
       List<RoundResultRecord> rounds,
       int roundNumber
   ) {
-    Optional<Map.Entry<UUID, Integer>> majorityWinner
-        = currentVotes.entrySet()
-        .stream()
-        .filter(entry -> entry.getValue() > currentVotesSize / 2)
-        .findFirst();
+    int majorityWinner = -1;
+    for (int candidate = 0; candidate < tally.length; candidate++) {
+      if (tally[candidate] > currentVotesSize / 2) {
+        majorityWinner = candidate;
+        break;
+      }
+    }
 
-    if (majorityWinner.isPresent()) {
+    if (majorityWinner >= 0) {
       rounds.add(new RoundResultRecord(
           roundNumber,
           currentVotes,
@@ -134,7 +199,7 @@ public class InstantRunoffService extends AbstractSingleWinnerElectionService {
       ));
 
       return Optional.of(new ElectionResultRecord(
-          majorityWinner.get().getKey(),
+          ballotBox.getCandidateId(majorityWinner),
           rounds,
           currentVotesSize
       ));
@@ -144,23 +209,24 @@ public class InstantRunoffService extends AbstractSingleWinnerElectionService {
   }
 
   private static List<UUID> getCandidatesWithMinVotes(
-      BallotBox ballotBox,
-      List<UUID> eliminatedCandidates,
+      IndexedBallotBox ballotBox,
+      BitSet eliminatedCandidates,
+      int[] tally,
       Map<UUID, Integer> currentVotes
   ) {
-    List<UUID> candidatesWithNoVotes
-        = ballotBox.getCandidates()
-        .keySet()
-        .stream()
-        .filter(candidateId -> !eliminatedCandidates.contains(candidateId))
-        .filter(candidateId -> !currentVotes.containsKey(candidateId))
-        .toList();
+    List<UUID> candidatesWithNoVotes = new ArrayList<>();
+    for (int candidate = 0; candidate < tally.length; candidate++) {
+      if (tally[candidate] == 0 && !eliminatedCandidates.get(candidate)) {
+        candidatesWithNoVotes.add(ballotBox.getCandidateId(candidate));
+      }
+    }
 
     if (!candidatesWithNoVotes.isEmpty()) {
-      return new ArrayList<>(candidatesWithNoVotes);
+      return candidatesWithNoVotes;
     } else {
       int minVotes = currentVotes.values().stream().mapToInt(Integer::intValue).min().orElseThrow();
 
+      // Walk the round's map rather than the indexes so tie order matches the recorded round.
       return currentVotes.entrySet()
           .stream()
           .filter(entry -> entry.getValue() == minVotes)
@@ -0,0 +1,269 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Kemeny–Young: the ranking that agrees with the most pairwise preferences.
+ * <p>
+ * Finding it is NP-hard, so the search is bounded. A local search (moving single candidates to a
+ * better position) first gives a good incumbent ranking. A depth-first branch-and-bound then
+ * builds rankings from the top down: placing {@code x} next earns every preference for
+ * {@code x} over the candidates still unplaced, and a branch is cut once even the better side of
+ * every remaining pair could not beat the incumbent. The best score reached for each set of
+ * placed candidates is memoized, since how the rest can be ordered depends only on that set.
+ * <p>
+ * If the search outlives {@link TabulationProperties#kemenyTimeBudget()} it stops, and the best
+ * ranking found so far is returned flagged {@link Flag#APPROXIMATE_RESULT}. Adjacent candidates
+ * whom the ballots tie head-to-head share a tier, as swapping them scores the same.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class KemenyYoungService implements CondorcetMethod {
+  /// The exact search keeps the set of placed candidates in one long.
+  private static final int MAX_EXACT_CANDIDATES = Long.SIZE;
+  /// Sets of placed candidates remembered before the memo stops growing.
+  private static final int MAX_MEMO_ENTRIES = 1 << 20;
+  /// Search nodes visited between deadline checks.
+  private static final int DEADLINE_CHECK_INTERVAL = 1 << 10;
+
+  private final TabulationProperties tabulationProperties;
+
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.KEMENY_YOUNG;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int[][] preferences = matrix.getPreferences();
+    int[] order = localSearch(preferences, initialOrder(preferences));
+
+    Duration budget = tabulationProperties.kemenyTimeBudget();
+    boolean exact = false;
+    if (preferences.length <= MAX_EXACT_CANDIDATES) {
+      BranchAndBound search =
+          new BranchAndBound(preferences, order, System.nanoTime() + budget.toNanos());
+      exact = search.run();
+      order = search.bestOrder;
+    }
+
+    ElectionResultRecord result =
+        toResult(matrix, toRanking(matrix.getCandidateIds(), preferences, order), List.of(), null);
+    if (exact) {
+      return result;
+    }
+
+    log.warn("[KemenyYoungService] No optimal ranking of {} candidates within {} ms; "
+        + "returning the best ranking found.", preferences.length, budget.toMillis());
+    return result.withFlags(List.of(Flag.APPROXIMATE_RESULT));
+  }
+
+  /// Total pairwise agreement of a full ranking.
+  static long score(int[][] preferences, int[] order) {
+    long score = 0;
+    for (int i = 0; i < order.length; i++) {
+      int[] above = preferences[order[i]];
+      for (int j = i + 1; j < order.length; j++) {
+        score += above[order[j]];
+      }
+    }
+    return score;
+  }
+
+  /// Candidates by total pairwise support (their Borda score), highest first.
+  private static int[] initialOrder(int[][] preferences) {
+    int candidateCount = preferences.length;
+    long[] support = new long[candidateCount];
+    Integer[] order = new Integer[candidateCount];
+    for (int i = 0; i < candidateCount; i++) {
+      order[i] = i;
+      for (int votes : preferences[i]) {
+        support[i] += votes;
+      }
+    }
+    Arrays.sort(order, (a, b) -> Long.compare(support[b], support[a]));
+    return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+  }
+
+  /**
+   * Repeatedly moves one candidate to the position that raises the score most, until no single
+   * move helps. Moving a candidate past a neighbour changes the score by the difference of their
+   * two pairwise counts, so every target position of a candidate is scored in one sweep.
+   */
+  private static int[] localSearch(int[][] preferences, int[] order) {
+    int candidateCount = order.length;
+    boolean improved = true;
+    while (improved) {
+      improved = false;
+      for (int from = 0; from < candidateCount; from++) {
+        int moving = order[from];
+        long bestDelta = 0;
+        int bestTo = from;
+
+        long delta = 0;
+        for (int to = from - 1; to >= 0; to--) {
+          delta += preferences[moving][order[to]] - preferences[order[to]][moving];
+          if (delta > bestDelta) {
+            bestDelta = delta;
+            bestTo = to;
+          }
+        }
+        delta = 0;
+        for (int to = from + 1; to < candidateCount; to++) {
+          delta += preferences[order[to]][moving] - preferences[moving][order[to]];
+          if (delta > bestDelta) {
+            bestDelta = delta;
+            bestTo = to;
+          }
+        }
+
+        if (bestTo != from) {
+          if (bestTo < from) {
+            System.arraycopy(order, bestTo, order, bestTo + 1, from - bestTo);
+          } else {
+            System.arraycopy(order, from + 1, order, from, bestTo - from);
+          }
+          order[bestTo] = moving;
+          improved = true;
+        }
+      }
+    }
+    return order;
+  }
+
+  /// Splits the ranking into tiers of neighbours tied head-to-head with every tier member.
+  private static List<List<UUID>> toRanking(UUID[] candidateIds, int[][] preferences, int[] order) {
+    List<List<UUID>> ranking = new ArrayList<>();
+    int tierStart = 0;
+    for (int position = 0; position < order.length; position++) {
+      int candidate = order[position];
+      boolean tied = position > 0;
+      for (int member = tierStart; tied && member < position; member++) {
+        tied = preferences[candidate][order[member]] == preferences[order[member]][candidate];
+      }
+      if (!tied) {
+        ranking.add(new ArrayList<>());
+        tierStart = position;
+      }
+      ranking.getLast().add(candidateIds[candidate]);
+    }
+    return ranking;
+  }
+
+  /// One bounded search. Not thread safe.
+  private static final class BranchAndBound {
+    private final int[][] preferences;
+    private final int candidateCount;
+    private final long deadline;
+    private final Map<Long, Long> bestByPlacedSet = new HashMap<>();
+    private final int[] prefix;
+
+    private int[] bestOrder;
+    private long bestScore;
+    private long nodes;
+    private boolean expired;
+
+    private BranchAndBound(int[][] preferences, int[] incumbent, long deadline) {
+      this.preferences = preferences;
+      this.candidateCount = preferences.length;
+      this.deadline = deadline;
+      this.prefix = new int[candidateCount];
+      this.bestOrder = incumbent.clone();
+      this.bestScore = score(preferences, incumbent);
+    }
+
+    /// Searches until done or out of time; true when the best order is known to be optimal.
+    private boolean run() {
+      long bound = 0;
+      for (int i = 0; i < candidateCount; i++) {
+        for (int j = i + 1; j < candidateCount; j++) {
+          bound += Math.max(preferences[i][j], preferences[j][i]);
+        }
+      }
+      search(0, 0L, 0L, bound);
+      return !expired;
+    }
+
+    /**
+     * @param placed mask of the candidates in {@code prefix[0, depth)}
+     * @param score  preferences already earned by the prefix
+     * @param bound  most the unplaced candidates could still earn among themselves
+     */
+    private void search(int depth, long placed, long score, long bound) {
+      if (expired) {
+        return;
+      }
+      if (++nodes % DEADLINE_CHECK_INTERVAL == 0 && System.nanoTime() > deadline) {
+        expired = true;
+        return;
+      }
+      if (depth == candidateCount) {
+        if (score > bestScore) {
+          bestScore = score;
+          bestOrder = prefix.clone();
+        }
+        return;
+      }
+      if (score + bound <= bestScore) {
+        return;
+      }
+      Long seen = bestByPlacedSet.get(placed);
+      if (seen != null && seen >= score) {
+        return;
+      }
+      if (seen != null || bestByPlacedSet.size() < MAX_MEMO_ENTRIES) {
+        bestByPlacedSet.put(placed, score);
+      }
+
+      // Try the candidates that earn most right now first, to tighten the incumbent early.
+      int remaining = candidateCount - depth;
+      long[] gains = new long[remaining];
+      long[] boundLosses = new long[remaining];
+      Integer[] choices = new Integer[remaining];
+      int choice = 0;
+      for (int next = 0; next < candidateCount; next++) {
+        if ((placed & (1L << next)) != 0) {
+          continue;
+        }
+        for (int other = 0; other < candidateCount; other++) {
+          if (other != next && (placed & (1L << other)) == 0) {
+            gains[choice] += preferences[next][other];
+            boundLosses[choice] += Math.max(preferences[next][other], preferences[other][next]);
+          }
+        }
+        choices[choice] = next;
+        choice++;
+      }
+      Integer[] byGain = new Integer[remaining];
+      Arrays.setAll(byGain, i -> i);
+      Arrays.sort(byGain, (a, b) -> Long.compare(gains[b], gains[a]));
+
+      for (int index : byGain) {
+        int next = choices[index];
+        prefix[depth] = next;
+        search(depth + 1, placed | (1L << next), score + gains[index], bound - boundLosses[index]);
+      }
+    }
+  }
+}
@@ -0,0 +1,12 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.model.record.LiveTallyRecord;
+import java.util.UUID;
+
+public interface LiveTallyService {
+  /**
+   * Get current first-preference counts and a provisional winner. Built from the votes on first
+   * request, then kept current from ballot change events, so reads cost a copy of the counts.
+   */
+  LiveTallyRecord getLiveTally(UUID electionId);
+}
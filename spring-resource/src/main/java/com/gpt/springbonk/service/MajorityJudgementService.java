@@ -0,0 +1,74 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.winnerOf;
+
+/**
+ * Majority judgement: the highest median grade wins.
+ * <p>
+ * One pass builds a grade histogram per candidate. Ties on the (lower) median are broken by the
+ * majority gauge, which is what repeatedly removing median grades converges to: a candidate
+ * whose share of grades above the median {@code p} exceeds its share below {@code q} is pushed
+ * up by {@code p}, otherwise pulled down by {@code q}. Both are folded into one comparable score.
+ * Unscored candidates hold the lowest grade.
+ */
+@Service
+public class MajorityJudgementService implements ScoreMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.MAJORITY_JUDGEMENT;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(ScoredBallotBox ballotBox) {
+    int candidateCount = ballotBox.getCandidateCount();
+    int ballotCount = ballotBox.getBallotCount();
+    byte[] scores = ballotBox.getScores();
+
+    int[][] histograms = new int[candidateCount][ScoredBallotBox.MAX_SCORE + 1];
+    for (int row = 0; row < scores.length; row += candidateCount) {
+      for (int candidate = 0; candidate < candidateCount; candidate++) {
+        histograms[candidate][scores[row + candidate]]++;
+      }
+    }
+
+    long[] gauges = new long[candidateCount];
+    for (int candidate = 0; candidate < candidateCount; candidate++) {
+      gauges[candidate] = gauge(histograms[candidate], ballotCount);
+    }
+
+    List<List<UUID>> ranking = rankByScore(ballotBox.getCandidateIds(), gauges);
+    return new ElectionResultRecord(winnerOf(ranking), List.of(), ballotCount, ranking, null);
+  }
+
+  /**
+   * The majority gauge as one long: the median grade, then within it {@code p} above a pivot
+   * when the proponents dominate, or {@code q} below it otherwise.
+   */
+  static long gauge(int[] histogram, int ballotCount) {
+    int median = 0;
+    int below = 0;
+    int seen = 0;
+    int lowerMedianPosition = (ballotCount + 1) / 2;
+    for (int grade = 0; grade < histogram.length; grade++) {
+      if (seen + histogram[grade] >= lowerMedianPosition) {
+        median = grade;
+        below = seen;
+        break;
+      }
+      seen += histogram[grade];
+    }
+    int above = ballotCount - below - histogram[median];
+
+    long span = 2L * ballotCount + 2;
+    long withinMedian = above > below ? ballotCount + 1L + above : ballotCount - (long) below;
+    return median * span + withinMedian;
+  }
+}
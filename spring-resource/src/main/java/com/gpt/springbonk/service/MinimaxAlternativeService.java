@@ -0,0 +1,45 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Minimax (pairwise opposition): the candidate whose largest opposing vote count in any pairing
+ * is smallest wins, whether or not that pairing was lost.
+ */
+@Service
+public class MinimaxAlternativeService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.MINIMAX_ALTERNATIVE;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    int[][] preferences = matrix.getPreferences();
+    long[] scores = new long[candidateCount];
+
+    for (int i = 0; i < candidateCount; i++) {
+      int worstOpposition = 0;
+      for (int j = 0; j < candidateCount; j++) {
+        if (i != j) {
+          worstOpposition = Math.max(worstOpposition, preferences[j][i]);
+        }
+      }
+      scores[i] = -worstOpposition;
+    }
+
+    return toResult(matrix, rankByScore(matrix.getCandidateIds(), scores), List.of(), null);
+  }
+}
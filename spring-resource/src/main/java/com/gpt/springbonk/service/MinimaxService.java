@@ -0,0 +1,44 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Minimax (winning margins): the candidate whose worst pairwise defeat is smallest wins.
+ */
+@Service
+public class MinimaxService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.MINIMAX;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    long[] scores = new long[candidateCount];
+
+    for (int i = 0; i < candidateCount; i++) {
+      int worstDefeat = 0;
+      for (int j = 0; j < candidateCount; j++) {
+        if (i != j) {
+          worstDefeat = Math.max(worstDefeat, matrix.margin(j, i));
+        }
+      }
+      // Negated so that the smallest worst defeat ranks first.
+      scores[i] = -worstDefeat;
+    }
+
+    return toResult(matrix, rankByScore(matrix.getCandidateIds(), scores), List.of(), null);
+  }
+}
@@ -1,9 +1,14 @@
 package com.gpt.springbonk.service;
 
-import com.gpt.springbonk.constant.enumeration.system.VotingSystemMethod;
+import com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemMethod;
 import com.gpt.springbonk.model.Election;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
 
 public interface MultipleWinnerMethodDistributionService {
-  ElectionResultRecord distributeByMethodology(Election election, VotingSystemMethod methodology);
+  /// Fill {@code seats} seats; the result lists the winners in order of election.
+  ElectionResultRecord distributeByMethodology(
+      Election election,
+      MultipleWinnerVotingSystemMethod methodology,
+      int seats
+  );
 }
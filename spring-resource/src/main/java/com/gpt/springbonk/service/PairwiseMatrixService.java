@@ -0,0 +1,22 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import java.util.UUID;
+
+public interface PairwiseMatrixService {
+  /**
+   * Get the pairwise matrix for an election's ballots. Matrices for closed elections are cached
+   * until the election changes, so every Condorcet method run against a closed election shares one
+   * count.
+   */
+  PairwiseMatrix getMatrix(Election election, IndexedBallotBox ballotBox);
+
+  /**
+   * Build a matrix without touching the cache.
+   */
+  PairwiseMatrix buildMatrix(IndexedBallotBox ballotBox);
+
+  void evict(UUID electionId);
+}
@@ -0,0 +1,116 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.List;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Ranked Pairs (Tideman).
+ * <p>
+ * Pairwise victories are sorted once, strongest first (more winning votes, then fewer losing
+ * votes, then matrix order), and locked in unless they would close a cycle. Instead of searching
+ * the locked graph for every pair, a transitive closure is kept as one {@link BitSet} per
+ * candidate: locking {@code i -> j} creates a cycle exactly when {@code j} already reaches
+ * {@code i}, and after a lock every candidate reaching {@code i} gains everything {@code j}
+ * reaches. Each check is a single bit test and each lock is at most one word-wise OR per
+ * candidate.
+ * <p>
+ * Candidates are ranked by their depth in the locked graph, so the winner is the unique candidate
+ * no locked victory points at. Pairwise ties lock nothing and may leave several candidates in a
+ * tier; the {@code strengths} of the result hold the locked victories.
+ */
+@Service
+public class RankedPairsService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.RANKED_PAIRS;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    int[][] preferences = matrix.getPreferences();
+    int[][] locked = new int[candidateCount][candidateCount];
+    BitSet[] reaches = new BitSet[candidateCount];
+    for (int i = 0; i < candidateCount; i++) {
+      reaches[i] = new BitSet(candidateCount);
+      reaches[i].set(i);
+    }
+
+    for (int[] victory : sortedVictories(preferences)) {
+      int winner = victory[0];
+      int loser = victory[1];
+      if (reaches[loser].get(winner)) {
+        continue;
+      }
+      locked[winner][loser] = preferences[winner][loser];
+      BitSet gained = reaches[loser];
+      for (int i = 0; i < candidateCount; i++) {
+        if (reaches[i].get(winner)) {
+          reaches[i].or(gained);
+        }
+      }
+    }
+
+    return toResult(matrix, rankByScore(matrix.getCandidateIds(), depthScores(reaches)),
+        List.of(), locked);
+  }
+
+  /// Every pairwise victory as {winner, loser}, strongest first.
+  private static List<int[]> sortedVictories(int[][] preferences) {
+    List<int[]> victories = new ArrayList<>();
+    for (int i = 0; i < preferences.length; i++) {
+      for (int j = 0; j < preferences.length; j++) {
+        if (preferences[i][j] > preferences[j][i]) {
+          victories.add(new int[] {i, j});
+        }
+      }
+    }
+    victories.sort(Comparator
+        .comparingInt((int[] victory) -> -preferences[victory[0]][victory[1]])
+        .thenComparingInt(victory -> preferences[victory[1]][victory[0]]));
+    return victories;
+  }
+
+  /**
+   * Negated longest-path depth of each candidate in the locked graph. A candidate that reaches
+   * another reaches strictly more, so visiting in descending reach size settles every ancestor
+   * before its descendants.
+   */
+  private static long[] depthScores(BitSet[] reaches) {
+    int candidateCount = reaches.length;
+    Integer[] order = new Integer[candidateCount];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order,
+        (a, b) -> Integer.compare(reaches[b].cardinality(), reaches[a].cardinality()));
+
+    long[] depth = new long[candidateCount];
+    for (int position = 0; position < candidateCount; position++) {
+      int ancestor = order[position];
+      BitSet descendants = reaches[ancestor];
+      for (int j = descendants.nextSetBit(0); j >= 0; j = descendants.nextSetBit(j + 1)) {
+        if (j != ancestor && depth[j] < depth[ancestor] + 1) {
+          depth[j] = depth[ancestor] + 1;
+        }
+      }
+    }
+
+    for (int i = 0; i < candidateCount; i++) {
+      depth[i] = -depth[i];
+    }
+    return depth;
+  }
+}
@@ -0,0 +1,134 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.BallotBox;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
+import static com.gpt.springbonk.util.BallotUtility.processCandidates;
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Schulze (beatpath) method.
+ * <p>
+ * Builds the pairwise matrix once, then computes strongest paths with Floyd–Warshall. Candidate
+ * {@code i} finishes ahead of {@code j} when its strongest path to {@code j} is stronger than the
+ * reverse. When several candidates share first place there is no unique winner and
+ * {@code winnerId} is null; the ranking still shows the tie.
+ */
+@Slf4j
+@Service
+public class SchulzeService extends AbstractSingleWinnerElectionService
+    implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.SCHULZE;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    return conductElection(matrix);
+  }
+
+  @Override
+  protected BallotBox processBallots(
+      List<Candidate> candidates
+  ) {
+    return processCandidates(candidates);
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      Election election
+  ) {
+    if (election == null) {
+      throw new ElectionCannotBeCompletedException(NO_ELECTION_MESSAGE);
+    }
+
+    BallotBox ballotBox = processBallots(election.getCandidates());
+
+    return conductElection(PairwiseMatrix.of(IndexedBallotBox.of(ballotBox)));
+  }
+
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix
+  ) {
+    int[][] strongestPaths = computeStrongestPaths(matrix);
+    List<List<UUID>> ranking = rank(matrix, strongestPaths);
+
+    if (!ranking.isEmpty() && ranking.getFirst().size() > 1) {
+      log.info("[SchulzeService] No unique winner; {} candidates tied for first.",
+          ranking.getFirst().size());
+    }
+
+    return toResult(matrix, ranking, List.of(), strongestPaths);
+  }
+
+  /**
+   * Floyd–Warshall over the widest-path semiring. The inner loop runs along rows of both
+   * {@code paths[i]} and {@code paths[k]}, so it streams memory sequentially.
+   */
+  static int[][] computeStrongestPaths(PairwiseMatrix matrix) {
+    int candidateCount = matrix.getCandidateCount();
+    int[][] preferences = matrix.getPreferences();
+    int[][] paths = new int[candidateCount][candidateCount];
+
+    for (int i = 0; i < candidateCount; i++) {
+      for (int j = 0; j < candidateCount; j++) {
+        if (i != j && preferences[i][j] > preferences[j][i]) {
+          paths[i][j] = preferences[i][j];
+        }
+      }
+    }
+
+    for (int k = 0; k < candidateCount; k++) {
+      int[] throughK = paths[k];
+      for (int i = 0; i < candidateCount; i++) {
+        int[] fromI = paths[i];
+        int toK = fromI[k];
+        if (i == k || toK == 0) {
+          continue;
+        }
+        for (int j = 0; j < candidateCount; j++) {
+          int candidatePath = Math.min(toK, throughK[j]);
+          if (candidatePath > fromI[j]) {
+            fromI[j] = candidatePath;
+          }
+        }
+      }
+    }
+
+    for (int i = 0; i < candidateCount; i++) {
+      paths[i][i] = 0;
+    }
+
+    return paths;
+  }
+
+  /// Groups candidates into tiers by how many others they beat on strongest paths.
+  private static List<List<UUID>> rank(PairwiseMatrix matrix, int[][] paths) {
+    int candidateCount = matrix.getCandidateCount();
+    long[] wins = new long[candidateCount];
+    for (int i = 0; i < candidateCount; i++) {
+      for (int j = 0; j < candidateCount; j++) {
+        if (paths[i][j] > paths[j][i]) {
+          wins[i]++;
+        }
+      }
+    }
+    return rankByScore(matrix.getCandidateIds(), wins);
+  }
+}
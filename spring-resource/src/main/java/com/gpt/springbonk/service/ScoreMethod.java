@@ -0,0 +1,17 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+
+/**
+ * A tabulator that works from scored ballots rather than rankings.
+ * <p>
+ * Beans implementing this are picked up by {@code SingleWinnerMethodDistributionServiceImpl} and
+ * keyed by {@link #getMethod()}.
+ */
+public interface ScoreMethod {
+  SingleWinnerVotingSystemMethod getMethod();
+
+  ElectionResultRecord conductElection(ScoredBallotBox ballotBox);
+}
@@ -0,0 +1,40 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.winnerOf;
+
+/// Score (range) voting: the highest total score wins.
+@Service
+public class ScoreService implements ScoreMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.SCORE;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(ScoredBallotBox ballotBox) {
+    List<List<UUID>> ranking = rankByScore(ballotBox.getCandidateIds(), totals(ballotBox));
+    return new ElectionResultRecord(
+        winnerOf(ranking), List.of(), ballotBox.getBallotCount(), ranking, null);
+  }
+
+  /// Each candidate's total score, in one pass over the ballots.
+  static long[] totals(ScoredBallotBox ballotBox) {
+    int candidateCount = ballotBox.getCandidateCount();
+    byte[] scores = ballotBox.getScores();
+    long[] totals = new long[candidateCount];
+    for (int row = 0; row < scores.length; row += candidateCount) {
+      for (int candidate = 0; candidate < candidateCount; candidate++) {
+        totals[candidate] += scores[row + candidate];
+      }
+    }
+    return totals;
+  }
+}
@@ -0,0 +1,9 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ScoredBallotBox;
+
+public interface ScoredBallotService {
+  /// Get an election's scored ballots, indexed against its current candidates.
+  ScoredBallotBox getBallotBox(Election election);
+}
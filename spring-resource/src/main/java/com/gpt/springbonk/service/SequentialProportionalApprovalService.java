@@ -0,0 +1,92 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_HIGHEST_APPROVAL;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_CANDIDATES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.SEATS_MESSAGE;
+
+/**
+ * Sequential proportional approval voting over scored ballots, where any score above zero is an
+ * approval.
+ * <p>
+ * Each round elects the candidate with the highest weighted approval, a ballot's approvals being
+ * worth {@code 1 / (1 + m)} once {@code m} of the candidates it approves are elected. Weights are
+ * fixed-point fractions of {@link #APPROVAL}, in which {@code 1 / (1 + m)} is exact for every
+ * {@code m} up to 15, so ties are real ties. Ties go to the candidate listed first.
+ * <p>
+ * Round tallies are recorded in whole approvals, rounded down.
+ */
+@Service
+public class SequentialProportionalApprovalService {
+  /// One full approval: the least common multiple of 1 through 16.
+  public static final long APPROVAL = 720_720L;
+
+  public ElectionResultRecord conductElection(ScoredBallotBox ballotBox, int seats) {
+    int candidateCount = ballotBox.getCandidateCount();
+    int ballotCount = ballotBox.getBallotCount();
+    if (candidateCount == 0) {
+      throw new ElectionCannotBeCompletedException(NO_CANDIDATES_MESSAGE);
+    }
+    if (seats < 1 || seats > candidateCount) {
+      throw new ElectionCannotBeCompletedException(SEATS_MESSAGE);
+    }
+    if (ballotCount == 0) {
+      throw new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE);
+    }
+
+    UUID[] candidateIds = ballotBox.getCandidateIds();
+    byte[] scores = ballotBox.getScores();
+    boolean[] elected = new boolean[candidateCount];
+    int[] electedApprovals = new int[ballotCount];
+
+    List<UUID> winnerIds = new ArrayList<>();
+    List<RoundResultRecord> rounds = new ArrayList<>();
+
+    for (int seat = 0; seat < seats; seat++) {
+      long[] weighted = new long[candidateCount];
+      for (int ballot = 0, row = 0; ballot < ballotCount; ballot++, row += candidateCount) {
+        long weight = APPROVAL / (1 + electedApprovals[ballot]);
+        for (int candidate = 0; candidate < candidateCount; candidate++) {
+          if (scores[row + candidate] > 0 && !elected[candidate]) {
+            weighted[candidate] += weight;
+          }
+        }
+      }
+
+      int best = -1;
+      Map<UUID, Integer> votes = new HashMap<>();
+      for (int candidate = 0; candidate < candidateCount; candidate++) {
+        if (elected[candidate]) {
+          continue;
+        }
+        votes.put(candidateIds[candidate], (int) (weighted[candidate] / APPROVAL));
+        if (best < 0 || weighted[candidate] > weighted[best]) {
+          best = candidate;
+        }
+      }
+
+      elected[best] = true;
+      winnerIds.add(candidateIds[best]);
+      for (int ballot = 0, row = 0; ballot < ballotCount; ballot++, row += candidateCount) {
+        if (scores[row + best] > 0) {
+          electedApprovals[ballot]++;
+        }
+      }
+      rounds.add(new RoundResultRecord(
+          seat + 1, votes, List.of(candidateIds[best]), WINNER_HIGHEST_APPROVAL));
+    }
+
+    return ElectionResultRecord.ofWinners(winnerIds, rounds, ballotCount);
+  }
+}
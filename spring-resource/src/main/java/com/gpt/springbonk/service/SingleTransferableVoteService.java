@@ -0,0 +1,254 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.process.EliminationMessage;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.NO_TIE_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_QUOTA;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_REMAINING_SEATS;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_CANDIDATES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.SEATS_MESSAGE;
+
+/**
+ * Single transferable vote with the exact Droop quota and fractional Gregory transfers.
+ * <p>
+ * The quota is the smallest value over {@code votes / (seats + 1)}: that share plus one
+ * {@link #VOTE} unit (a millionth of a vote), which no more than {@code seats} candidates can
+ * reach. While tallies are whole votes it elects exactly where the whole-vote Droop quota
+ * {@code floor(votes / (seats + 1)) + 1} would (10 votes for 1 seat: 6 elects, 5 does not);
+ * after fractional transfers it can elect a candidate the whole-vote quota would still hold
+ * back.
+ * <p>
+ * Ballot values are fixed-point {@code long}s of {@link #VOTE} units per vote, so every transfer
+ * is exact integer arithmetic and truncates the same way on every run. Each round either elects
+ * the strongest candidate at or over the quota, passing its surplus on to the next continuing
+ * preference of every ballot it holds at {@code surplus / tally} of the ballot's value, or, when
+ * nobody reaches the quota, excludes the weakest candidate and passes its ballots on at full
+ * value. Ties for either go to the candidate listed first. Ballots are kept in per-candidate
+ * buckets, so a round only touches the ballots that move.
+ * <p>
+ * Round tallies are recorded in whole votes, rounded down.
+ */
+@Slf4j
+@Service
+public class SingleTransferableVoteService {
+  /// One vote, as six decimal places of fixed-point value.
+  public static final long VOTE = 1_000_000L;
+  private static final int VOTE_DECIMAL_PLACES = 6;
+
+  public ElectionResultRecord conductElection(IndexedBallotBox ballotBox, int seats) {
+    int candidateCount = ballotBox.getCandidateCount();
+    if (candidateCount == 0) {
+      throw new ElectionCannotBeCompletedException(NO_CANDIDATES_MESSAGE);
+    }
+    if (seats < 1 || seats > candidateCount) {
+      throw new ElectionCannotBeCompletedException(SEATS_MESSAGE);
+    }
+    if (ballotBox.getBallotCount() == 0) {
+      throw new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE);
+    }
+
+    Count count = new Count(ballotBox);
+    // Exact Droop: one unit over the share, not one whole vote (see the class comment).
+    long quota = count.totalValue() / (seats + 1) + 1;
+    log.info("[SingleTransferableVoteService] {} seats, quota {} of {} votes",
+        seats, quota / (double) VOTE, count.totalValue() / (double) VOTE);
+
+    List<UUID> winnerIds = new ArrayList<>();
+    List<RoundResultRecord> rounds = new ArrayList<>();
+
+    while (winnerIds.size() < seats) {
+      Map<UUID, Integer> votes = count.wholeVotes();
+
+      if (count.continuingCount() <= seats - winnerIds.size()) {
+        List<UUID> remaining = new ArrayList<>();
+        for (int candidate : count.continuingByTally()) {
+          remaining.add(ballotBox.getCandidateId(candidate));
+        }
+        winnerIds.addAll(remaining);
+        rounds.add(round(rounds, votes, remaining, WINNER_REMAINING_SEATS));
+        break;
+      }
+
+      int strongest = count.continuingByTally()[0];
+      if (count.tally(strongest) >= quota) {
+        winnerIds.add(ballotBox.getCandidateId(strongest));
+        count.transfer(strongest, count.tally(strongest) - quota);
+        rounds.add(round(rounds, votes, List.of(ballotBox.getCandidateId(strongest)),
+            WINNER_QUOTA));
+      } else {
+        int[] byTally = count.continuingByTally();
+        int weakest = byTally[byTally.length - 1];
+        count.transfer(weakest, count.tally(weakest));
+        rounds.add(round(rounds, votes, List.of(ballotBox.getCandidateId(weakest)),
+            NO_TIE_ELIMINATION_MESSAGE));
+      }
+    }
+
+    return ElectionResultRecord.ofWinners(winnerIds, rounds, ballotBox.getBallotCount());
+  }
+
+  /**
+   * {@code numerator / denominator} in {@link #VOTE} units, truncated. Computed one decimal digit
+   * at a time so it cannot overflow however many votes are involved.
+   */
+  static long fraction(long numerator, long denominator) {
+    long whole = numerator / denominator;
+    long remainder = numerator % denominator;
+    long result = whole;
+    for (int place = 0; place < VOTE_DECIMAL_PLACES; place++) {
+      remainder *= 10;
+      result = result * 10 + remainder / denominator;
+      remainder %= denominator;
+    }
+    return result;
+  }
+
+  private static RoundResultRecord round(
+      List<RoundResultRecord> rounds,
+      Map<UUID, Integer> votes,
+      List<UUID> candidateIds,
+      EliminationMessage message
+  ) {
+    return new RoundResultRecord(rounds.size() + 1, votes, candidateIds, message);
+  }
+
+  /// Ballot values, positions and per-candidate buckets for one count. Not thread safe.
+  private static final class Count {
+    private final IndexedBallotBox ballotBox;
+    private final int[] preferences;
+    private final int[] offsets;
+
+    private final boolean[] continuing;
+    private final long[] tallies;
+    private final long[] values;
+    private final int[] cursors;
+    private final int[][] buckets;
+    private final int[] bucketSizes;
+    private int continuingCount;
+
+    private Count(IndexedBallotBox ballotBox) {
+      int candidateCount = ballotBox.getCandidateCount();
+      int ballotCount = ballotBox.getBallotCount();
+      this.ballotBox = ballotBox;
+      this.preferences = ballotBox.getPreferences();
+      this.offsets = ballotBox.getOffsets();
+      this.continuing = new boolean[candidateCount];
+      this.tallies = new long[candidateCount];
+      this.values = new long[ballotCount];
+      this.cursors = new int[ballotCount];
+      this.buckets = new int[candidateCount][];
+      this.bucketSizes = new int[candidateCount];
+      this.continuingCount = candidateCount;
+      Arrays.fill(continuing, true);
+
+      for (int ballot = 0; ballot < ballotCount; ballot++) {
+        values[ballot] = VOTE;
+        cursors[ballot] = offsets[ballot];
+        if (offsets[ballot] < offsets[ballot + 1]) {
+          addToBucket(preferences[offsets[ballot]], ballot);
+        }
+      }
+    }
+
+    private long tally(int candidate) {
+      return tallies[candidate];
+    }
+
+    private int continuingCount() {
+      return continuingCount;
+    }
+
+    private long totalValue() {
+      long total = 0;
+      for (long tally : tallies) {
+        total += tally;
+      }
+      return total;
+    }
+
+    /// Continuing candidates, highest tally first; equal tallies keep their listed order.
+    private int[] continuingByTally() {
+      Integer[] order = new Integer[continuingCount];
+      int next = 0;
+      for (int candidate = 0; candidate < continuing.length; candidate++) {
+        if (continuing[candidate]) {
+          order[next++] = candidate;
+        }
+      }
+      Arrays.sort(order, (a, b) -> Long.compare(tallies[b], tallies[a]));
+      return Arrays.stream(order).mapToInt(Integer::intValue).toArray();
+    }
+
+    private Map<UUID, Integer> wholeVotes() {
+      Map<UUID, Integer> votes = new HashMap<>();
+      for (int candidate = 0; candidate < continuing.length; candidate++) {
+        if (continuing[candidate]) {
+          votes.put(ballotBox.getCandidateId(candidate), (int) (tallies[candidate] / VOTE));
+        }
+      }
+      return votes;
+    }
+
+    /**
+     * Removes a candidate from the count and passes {@code transferable} of its tally on, each
+     * ballot at the same fraction of its value. Ballots with no continuing preference left, or
+     * whose value truncates to nothing, are exhausted.
+     */
+    private void transfer(int candidate, long transferable) {
+      continuing[candidate] = false;
+      continuingCount--;
+
+      long tally = tallies[candidate];
+      long transferValue = tally == 0 ? 0 : fraction(transferable, tally);
+      int[] bucket = buckets[candidate];
+      int size = bucketSizes[candidate];
+      buckets[candidate] = null;
+      bucketSizes[candidate] = 0;
+      tallies[candidate] = 0;
+
+      for (int i = 0; i < size; i++) {
+        int ballot = bucket[i];
+        values[ballot] = values[ballot] * transferValue / VOTE;
+        if (values[ballot] == 0) {
+          continue;
+        }
+        int end = offsets[ballot + 1];
+        int position = cursors[ballot] + 1;
+        while (position < end && !continuing[preferences[position]]) {
+          position++;
+        }
+        cursors[ballot] = position;
+        if (position < end) {
+          addToBucket(preferences[position], ballot);
+        }
+      }
+    }
+
+    private void addToBucket(int candidate, int ballot) {
+      int[] bucket = buckets[candidate];
+      int size = bucketSizes[candidate];
+      if (bucket == null) {
+        bucket = new int[8];
+      } else if (size == bucket.length) {
+        bucket = Arrays.copyOf(bucket, size * 2);
+      }
+      bucket[size] = ballot;
+      buckets[candidate] = bucket;
+      bucketSizes[candidate] = size + 1;
+      tallies[candidate] += values[ballot];
+    }
+  }
+}
@@ -2,11 +2,24 @@ package com.gpt.springbonk.service;
 
 import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
 import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import java.util.Collection;
 
 public interface SingleWinnerMethodDistributionService {
   ElectionResultRecord distributeByMethodology(
       Election election,
       SingleWinnerVotingSystemMethod methodology
   );
+
+  /**
+   * Tabulate an election under several methods at once. The ballots are loaded (and the pairwise
+   * matrix built) once on the calling thread, then every method runs on its own virtual thread
+   * against the same immutable ballots. A method that fails is reported with its error rather
+   * than failing the comparison. An empty collection compares every supported method.
+   */
+  ElectionComparisonRecord compareMethods(
+      Election election,
+      Collection<SingleWinnerVotingSystemMethod> methodologies
+  );
 }
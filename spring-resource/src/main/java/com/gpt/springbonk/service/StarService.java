@@ -0,0 +1,131 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.SCORE_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_RUNOFF;
+import static com.gpt.springbonk.util.PairwiseUtility.rankByScore;
+import static com.gpt.springbonk.util.PairwiseUtility.winnerOf;
+
+/**
+ * STAR (score then automatic runoff).
+ * <p>
+ * The two highest total scores go to a runoff, which the finalist scored higher on more ballots
+ * wins. Both rounds are single passes over the ballots. A tie for a finalist place goes to the
+ * candidate listed first; a tied runoff goes to the higher total score, and failing that there
+ * is no winner.
+ */
+@Slf4j
+@Service
+public class StarService implements ScoreMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.STAR;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(ScoredBallotBox ballotBox) {
+    UUID[] candidateIds = ballotBox.getCandidateIds();
+    long[] totals = ScoreService.totals(ballotBox);
+    List<List<UUID>> scoreRanking = rankByScore(candidateIds, totals);
+
+    if (candidateIds.length < 2) {
+      return new ElectionResultRecord(
+          winnerOf(scoreRanking), List.of(), ballotBox.getBallotCount(), scoreRanking, null);
+    }
+
+    int first = 0;
+    int second = -1;
+    for (int candidate = 1; candidate < candidateIds.length; candidate++) {
+      if (totals[candidate] > totals[first]) {
+        second = first;
+        first = candidate;
+      } else if (second < 0 || totals[candidate] > totals[second]) {
+        second = candidate;
+      }
+    }
+
+    // Runoff: one pass counting the ballots that prefer each finalist.
+    int candidateCount = ballotBox.getCandidateCount();
+    byte[] scores = ballotBox.getScores();
+    int preferFirst = 0;
+    int preferSecond = 0;
+    for (int row = 0; row < scores.length; row += candidateCount) {
+      int difference = scores[row + first] - scores[row + second];
+      if (difference > 0) {
+        preferFirst++;
+      } else if (difference < 0) {
+        preferSecond++;
+      }
+    }
+
+    int comparison = preferFirst != preferSecond
+        ? Integer.compare(preferFirst, preferSecond)
+        : Long.compare(totals[first], totals[second]);
+
+    List<UUID> finalists = List.of(candidateIds[first], candidateIds[second]);
+    List<List<UUID>> ranking = new ArrayList<>();
+    if (comparison == 0) {
+      log.info("[StarService] Runoff and total score both tied; no unique winner.");
+      ranking.add(new ArrayList<>(finalists));
+    } else {
+      int winner = comparison > 0 ? first : second;
+      int runnerUp = comparison > 0 ? second : first;
+      ranking.add(new ArrayList<>(List.of(candidateIds[winner])));
+      ranking.add(new ArrayList<>(List.of(candidateIds[runnerUp])));
+    }
+    for (List<UUID> tier : scoreRanking) {
+      List<UUID> rest = tier.stream().filter(id -> !finalists.contains(id)).toList();
+      if (!rest.isEmpty()) {
+        ranking.add(new ArrayList<>(rest));
+      }
+    }
+
+    List<RoundResultRecord> rounds = rounds(candidateIds, totals, ranking, first, second,
+        preferFirst, preferSecond);
+    return new ElectionResultRecord(
+        winnerOf(ranking), rounds, ballotBox.getBallotCount(), ranking, null);
+  }
+
+  private static List<RoundResultRecord> rounds(
+      UUID[] candidateIds,
+      long[] totals,
+      List<List<UUID>> ranking,
+      int first,
+      int second,
+      int preferFirst,
+      int preferSecond
+  ) {
+    UUID winnerId = winnerOf(ranking);
+    int finalistTiers = winnerId == null ? 1 : 2;
+
+    Map<UUID, Integer> scoreVotes = new HashMap<>();
+    for (int i = 0; i < candidateIds.length; i++) {
+      scoreVotes.put(candidateIds[i], (int) Math.min(Integer.MAX_VALUE, totals[i]));
+    }
+    List<UUID> eliminatedByScore = ranking.subList(finalistTiers, ranking.size()).stream()
+        .flatMap(List::stream)
+        .toList();
+    RoundResultRecord scoring =
+        new RoundResultRecord(1, scoreVotes, eliminatedByScore, SCORE_ELIMINATION_MESSAGE);
+
+    Map<UUID, Integer> runoffVotes = new HashMap<>();
+    runoffVotes.put(candidateIds[first], preferFirst);
+    runoffVotes.put(candidateIds[second], preferSecond);
+    List<UUID> eliminated = winnerId == null ? List.of() : ranking.get(1);
+    RoundResultRecord runoff = new RoundResultRecord(
+        2, runoffVotes, eliminated, winnerId == null ? null : WINNER_RUNOFF);
+
+    return List.of(scoring, runoff);
+  }
+}
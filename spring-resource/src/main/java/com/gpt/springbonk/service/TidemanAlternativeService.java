@@ -0,0 +1,175 @@
+package com.gpt.springbonk.service;
+
+import com.gpt.springbonk.constant.enumeration.process.EliminationMessage;
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.NO_TIE_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.SMITH_SET_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.TIE_ALL_WAY_TIE_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.TIE_ELIMINATION_MESSAGE;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_SMITH;
+import static com.gpt.springbonk.util.PairwiseUtility.smithSet;
+import static com.gpt.springbonk.util.PairwiseUtility.toResult;
+
+/**
+ * Tideman's Alternative (Smith/IRV).
+ * <p>
+ * Each round first drops every candidate outside the Smith set of those remaining. If one
+ * candidate is left they win; otherwise the candidates with the fewest first preferences are
+ * eliminated, as in instant runoff, and the Smith set is taken again. The Smith set comes from the
+ * shared matrix; only the first-preference counts need the ballots.
+ * <p>
+ * If every remaining candidate is tied on first preferences there is no winner.
+ */
+@Slf4j
+@Service
+public class TidemanAlternativeService implements CondorcetMethod {
+  @Override
+  public SingleWinnerVotingSystemMethod getMethod() {
+    return SingleWinnerVotingSystemMethod.TIDEMAN_ALTERNATIVE;
+  }
+
+  @Override
+  public ElectionResultRecord conductElection(
+      PairwiseMatrix matrix,
+      IndexedBallotBox ballotBox
+  ) {
+    int candidateCount = matrix.getCandidateCount();
+    BitSet active = new BitSet(candidateCount);
+    active.set(0, candidateCount);
+
+    List<RoundResultRecord> rounds = new ArrayList<>();
+    List<List<UUID>> eliminatedTiers = new ArrayList<>();
+    List<UUID> finalTier = List.of();
+    int[] tally = new int[candidateCount];
+
+    while (!active.isEmpty()) {
+      int roundNumber = rounds.size() + 1;
+      countFirstPreferences(ballotBox, active, tally);
+      Map<UUID, Integer> votes = toVoteMap(matrix, active, tally);
+
+      BitSet smith = smithSet(matrix, active);
+      BitSet outside = (BitSet) active.clone();
+      outside.andNot(smith);
+
+      if (smith.cardinality() == 1) {
+        finalTier = idsOf(matrix, smith);
+        rounds.add(new RoundResultRecord(
+            roundNumber, votes, outside.isEmpty() ? null : idsOf(matrix, outside), WINNER_SMITH));
+        if (!outside.isEmpty()) {
+          eliminatedTiers.add(idsOf(matrix, outside));
+        }
+        break;
+      }
+
+      if (!outside.isEmpty()) {
+        eliminate(matrix, active, outside, votes, roundNumber, SMITH_SET_ELIMINATION_MESSAGE,
+            rounds, eliminatedTiers);
+        continue;
+      }
+
+      BitSet lowest = lowest(active, tally);
+      if (lowest.equals(active)) {
+        log.info("[TidemanAlternativeService] {} candidates tied on first preferences.",
+            active.cardinality());
+        finalTier = idsOf(matrix, active);
+        rounds.add(new RoundResultRecord(
+            roundNumber, votes, new ArrayList<>(), TIE_ALL_WAY_TIE_ELIMINATION_MESSAGE));
+        break;
+      }
+
+      EliminationMessage message = lowest.cardinality() > 1
+          ? TIE_ELIMINATION_MESSAGE
+          : NO_TIE_ELIMINATION_MESSAGE;
+      eliminate(matrix, active, lowest, votes, roundNumber, message, rounds, eliminatedTiers);
+    }
+
+    List<List<UUID>> ranking = new ArrayList<>();
+    if (!finalTier.isEmpty()) {
+      ranking.add(finalTier);
+    }
+    ranking.addAll(eliminatedTiers.reversed());
+
+    return toResult(matrix, ranking, rounds, null);
+  }
+
+  private static void eliminate(
+      PairwiseMatrix matrix,
+      BitSet active,
+      BitSet eliminated,
+      Map<UUID, Integer> votes,
+      int roundNumber,
+      EliminationMessage message,
+      List<RoundResultRecord> rounds,
+      List<List<UUID>> eliminatedTiers
+  ) {
+    List<UUID> eliminatedIds = idsOf(matrix, eliminated);
+    rounds.add(new RoundResultRecord(roundNumber, votes, eliminatedIds, message));
+    eliminatedTiers.add(eliminatedIds);
+    active.andNot(eliminated);
+  }
+
+  /// Fills {@code tally} with each active candidate's count of ballots ranking them first.
+  private static void countFirstPreferences(
+      IndexedBallotBox ballotBox,
+      BitSet active,
+      int[] tally
+  ) {
+    Arrays.fill(tally, 0);
+    int[] preferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+
+    for (int ballot = 0; ballot < ballotBox.getBallotCount(); ballot++) {
+      for (int p = offsets[ballot]; p < offsets[ballot + 1]; p++) {
+        if (active.get(preferences[p])) {
+          tally[preferences[p]]++;
+          break;
+        }
+      }
+    }
+  }
+
+  private static BitSet lowest(BitSet active, int[] tally) {
+    int min = Integer.MAX_VALUE;
+    for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+      min = Math.min(min, tally[i]);
+    }
+
+    BitSet lowest = new BitSet(tally.length);
+    for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+      if (tally[i] == min) {
+        lowest.set(i);
+      }
+    }
+    return lowest;
+  }
+
+  private static Map<UUID, Integer> toVoteMap(PairwiseMatrix matrix, BitSet active, int[] tally) {
+    Map<UUID, Integer> votes = new HashMap<>();
+    for (int i = active.nextSetBit(0); i >= 0; i = active.nextSetBit(i + 1)) {
+      votes.put(matrix.getCandidateIds()[i], tally[i]);
+    }
+    return votes;
+  }
+
+  private static List<UUID> idsOf(PairwiseMatrix matrix, BitSet candidates) {
+    List<UUID> ids = new ArrayList<>(candidates.cardinality());
+    for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+      ids.add(matrix.getCandidateIds()[i]);
+    }
+    return ids;
+  }
+}
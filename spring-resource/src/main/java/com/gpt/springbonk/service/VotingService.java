@@ -2,6 +2,8 @@ package com.gpt.springbonk.service;
 
 import com.gpt.springbonk.model.Vote;
 import com.gpt.springbonk.model.dto.response.VoteResponse;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface VotingService {
@@ -10,4 +12,17 @@ public interface VotingService {
   void deleteVoteForCandidate(UUID candidateId, UUID userId);
 
   Vote getVote(UUID candidateId, UUID userId);
+
+  /**
+   * Replace a voter's whole ranking in one transaction. Only the difference from the stored votes
+   * is written: rows for dropped candidates are deleted, moved candidates are re-ranked and new
+   * ones inserted, all as JDBC batches.
+   */
+  List<VoteResponse> submitBallot(UUID electionId, UUID userId, List<UUID> rankedCandidateIds);
+
+  /**
+   * Replace a voter's scores for an election. The scores are stored packed in one row per voter;
+   * an empty map withdraws the ballot. Returns the scores as stored.
+   */
+  Map<UUID, Integer> submitScoredBallot(UUID electionId, UUID userId, Map<UUID, Integer> scores);
 }
@@ -0,0 +1,19 @@
+package com.gpt.springbonk.service.event;
+
+import java.util.UUID;
+
+/**
+ * Published inside the transaction of any change to an election's ranked
+ * ballots: a vote cast, re-ranked or withdrawn, or a candidate nominated or
+ * removed. Listeners run synchronously, so the ballot version bump commits
+ * (or rolls back) together with the change itself.
+ * <p>
+ * {@code voterId} names the one voter whose ballot changed, or is null when
+ * the change touches many ballots at once (e.g. a candidate and its votes
+ * were removed).
+ */
+public record BallotsChangedEvent(UUID electionId, UUID voterId) {
+  public BallotsChangedEvent(UUID electionId) {
+    this(electionId, null);
+  }
+}
@@ -3,8 +3,9 @@ package com.gpt.springbonk.service.event;
 import java.util.UUID;
 
 /**
- * Published when an election is closed and tabulation has run. The winner
+ * Raised when an election is closed and tabulation has run. The winner
  * title may be null if no winner could be determined (ties, errors, etc).
+ * Goes through the outbox, like ElectionOpenedEvent.
  */
 public record ElectionClosedEvent(
     UUID electionId,
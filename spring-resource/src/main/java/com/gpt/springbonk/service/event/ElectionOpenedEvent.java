@@ -3,8 +3,10 @@ package com.gpt.springbonk.service.event;
 import java.util.UUID;
 
 /**
- * Published when an election is first created or reopened. Listeners
- * (e.g. NotificationService) use this to notify the electorate.
+ * Raised when an election is first created or reopened. Listeners
+ * (e.g. NotificationService) use this to notify the electorate. Goes
+ * through the outbox, so listeners run after the raising transaction
+ * commits, in a transaction of their own.
  */
 public record ElectionOpenedEvent(UUID electionId, String title) {
 }
@@ -5,7 +5,8 @@ import java.util.UUID;
 /**
  * Published when a user posts a comment on a review. The notification
  * listener uses this to ping the review author (but not the commenter
- * themselves if they're commenting on their own review).
+ * themselves if they're commenting on their own review). Goes through the
+ * outbox, like ElectionOpenedEvent.
  */
 public record ReviewCommentedEvent(
     UUID reviewId,
@@ -4,7 +4,8 @@ import java.util.UUID;
 
 /**
  * Published when a user adds (not removes) a like on a review. The
- * notification listener uses this to ping the review author.
+ * notification listener uses this to ping the review author. Goes through
+ * the outbox, like ElectionOpenedEvent.
  */
 public record ReviewLikedEvent(
     UUID reviewId,
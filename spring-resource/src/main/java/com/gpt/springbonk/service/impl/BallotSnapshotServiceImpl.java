@@ -0,0 +1,146 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.exception.ResourceNotFoundException;
+import com.gpt.springbonk.model.BallotSnapshot;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionCandidateEntry;
+import com.gpt.springbonk.model.record.ElectionRankedBallotEntry;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import com.gpt.springbonk.repository.BallotSnapshotRepository;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.util.BallotSnapshotCodec;
+import jakarta.transaction.Transactional;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
+import static com.gpt.springbonk.util.BallotUtility.processBallotEntries;
+
+/// Callers catch {@link ElectionCannotBeCompletedException} (an election without candidates or
+/// votes) and carry on, closing with a flagged result; it must not doom their transaction.
+@Slf4j
+@Service
+@Transactional(dontRollbackOn = ElectionCannotBeCompletedException.class)
+@RequiredArgsConstructor
+public class BallotSnapshotServiceImpl implements BallotSnapshotService {
+  private final ElectionRepository electionRepository;
+  private final BallotSnapshotRepository ballotSnapshotRepository;
+  private final CandidateRepository candidateRepository;
+  private final VoteRepository voteRepository;
+
+  @Override
+  public IndexedBallotBox getBallotBox(Election election) {
+    if (election == null) {
+      throw new ElectionCannotBeCompletedException(NO_ELECTION_MESSAGE);
+    }
+
+    UUID electionId = election.getId();
+    long ballotVersion = electionRepository.findBallotVersion(electionId).orElseThrow(
+        () -> new ResourceNotFoundException("Election does not exist.")
+    );
+
+    Optional<BallotSnapshot> snapshot = ballotSnapshotRepository.findById(electionId)
+        .filter(stored -> stored.getBallotVersion() == ballotVersion);
+    if (snapshot.isPresent()) {
+      try {
+        return BallotSnapshotCodec.decode(snapshot.get().getPayload());
+      } catch (IllegalArgumentException e) {
+        log.warn("[BallotSnapshotService] Discarding unreadable snapshot for election {}: {}",
+            electionId, e.getMessage());
+      }
+    }
+
+    IndexedBallotBox ballotBox = compile(electionId);
+    ballotSnapshotRepository.upsert(
+        electionId,
+        ballotVersion,
+        ballotBox.getBallotCount(),
+        BallotSnapshotCodec.encode(ballotBox)
+    );
+    log.info("[BallotSnapshotService] Compiled {} ballots for election {} at version {}",
+        ballotBox.getBallotCount(), electionId, ballotVersion);
+
+    return ballotBox;
+  }
+
+  @Override
+  public Map<UUID, IndexedBallotBox> getBallotBoxes(Collection<Election> elections) {
+    Map<UUID, Long> ballotVersions = elections.stream()
+        .collect(Collectors.toMap(Election::getId, Election::getBallotVersion));
+    Map<UUID, IndexedBallotBox> ballotBoxes = new HashMap<>();
+
+    for (BallotSnapshot snapshot : ballotSnapshotRepository.findAllById(ballotVersions.keySet())) {
+      if (snapshot.getBallotVersion() != ballotVersions.get(snapshot.getElectionId())) {
+        continue;
+      }
+      try {
+        ballotBoxes.put(
+            snapshot.getElectionId(), BallotSnapshotCodec.decode(snapshot.getPayload()));
+      } catch (IllegalArgumentException e) {
+        log.warn("[BallotSnapshotService] Discarding unreadable snapshot for election {}: {}",
+            snapshot.getElectionId(), e.getMessage());
+      }
+    }
+
+    List<UUID> stale = ballotVersions.keySet().stream()
+        .filter(electionId -> !ballotBoxes.containsKey(electionId))
+        .toList();
+    if (stale.isEmpty()) {
+      return ballotBoxes;
+    }
+
+    Map<UUID, List<UUID>> candidateIds = candidateRepository.findIdsByElectionIds(stale).stream()
+        .collect(Collectors.groupingBy(ElectionCandidateEntry::electionId,
+            Collectors.mapping(ElectionCandidateEntry::candidateId, Collectors.toList())));
+    Map<UUID, List<RankedBallotEntry>> entries;
+    try (Stream<ElectionRankedBallotEntry> rows =
+             voteRepository.streamRankedBallotsByElectionIds(stale)) {
+      entries = rows.collect(Collectors.groupingBy(ElectionRankedBallotEntry::electionId,
+          Collectors.mapping(ElectionRankedBallotEntry::entry, Collectors.toList())));
+    }
+
+    for (UUID electionId : stale) {
+      try {
+        ballotBoxes.put(electionId, processBallotEntries(
+            candidateIds.get(electionId), entries.getOrDefault(electionId, List.of()).stream()));
+      } catch (ElectionCannotBeCompletedException e) {
+        // Left out, as documented; one empty election must not fail the rest.
+        log.info("[BallotSnapshotService] Leaving out election {}: {}", electionId,
+            e.getMessage());
+      }
+    }
+    log.info("[BallotSnapshotService] Loaded ballots of {} elections, {} compiled from votes",
+        ballotBoxes.size(), stale.size());
+    return ballotBoxes;
+  }
+
+  /// One id query and one streamed projection; no Vote, Candidate or voter entities are loaded.
+  private IndexedBallotBox compile(UUID electionId) {
+    List<UUID> candidateIds = candidateRepository.findIdsByElectionId(electionId);
+    try (Stream<RankedBallotEntry> entries = voteRepository.streamRankedBallots(electionId)) {
+      return processBallotEntries(candidateIds, entries);
+    }
+  }
+
+  /// Runs inside the publishing transaction, so the bump commits with the ballot change.
+  @EventListener
+  public void onBallotsChanged(BallotsChangedEvent event) {
+    electionRepository.incrementBallotVersion(event.electionId());
+  }
+}
@@ -15,6 +15,7 @@ import com.gpt.springbonk.service.BookService;
 import com.gpt.springbonk.service.CandidateService;
 import com.gpt.springbonk.service.ElectionService;
 import com.gpt.springbonk.service.ShelfService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
 import java.util.List;
@@ -22,6 +23,7 @@ import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 
@@ -39,6 +41,8 @@ public class CandidateServiceImpl implements CandidateService {
 
   private final CandidateRepository candidateRepository;
 
+  private final ApplicationEventPublisher publisher;
+
   // endregion
 
   @Override
@@ -89,7 +93,9 @@ public class CandidateServiceImpl implements CandidateService {
     }
     bookService.addBookToShelf(bookId, shelfService.getNominatedShelf(userId).getId(), userId);
 
-    return new CandidateResponse(candidateRepository.saveAndFlush(candidate));
+    Candidate saved = candidateRepository.saveAndFlush(candidate);
+    publisher.publishEvent(new BallotsChangedEvent(electionId));
+    return new CandidateResponse(saved);
   }
 
   @Override
@@ -110,6 +116,7 @@ public class CandidateServiceImpl implements CandidateService {
       throw new AccessDeniedException("User not permitted to remove this nomination.");
     }
     candidateRepository.delete(candidate);
+    publisher.publishEvent(new BallotsChangedEvent(electionId));
   }
 
   @Override
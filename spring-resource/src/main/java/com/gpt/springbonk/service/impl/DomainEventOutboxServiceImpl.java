@@ -0,0 +1,114 @@
+package com.gpt.springbonk.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gpt.springbonk.config.OutboxProperties;
+import com.gpt.springbonk.model.OutboxEvent;
+import com.gpt.springbonk.repository.OutboxEventRepository;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.event.ElectionClosedEvent;
+import com.gpt.springbonk.service.event.ElectionOpenedEvent;
+import com.gpt.springbonk.service.event.ReviewCommentedEvent;
+import com.gpt.springbonk.service.event.ReviewLikedEvent;
+import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+/**
+ * Events go into {@code domain_event_outbox} as JSON under their simple class name. Only the types
+ * registered here are accepted or relayed, so a row can never name an arbitrary class.
+ * <p>
+ * Events whose listeners keep state that must change together with the data
+ * ({@code ElectionChangedEvent}, {@code ElectionDeletedEvent}, {@code BallotsChangedEvent}) are
+ * still published inline and do not come through here.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class DomainEventOutboxServiceImpl implements DomainEventOutboxService {
+  private static final Map<String, Class<?>> EVENT_TYPES = Stream.of(
+      ElectionOpenedEvent.class,
+      ElectionClosedEvent.class,
+      ReviewLikedEvent.class,
+      ReviewCommentedEvent.class
+  ).collect(Collectors.toMap(Class::getSimpleName, Function.identity()));
+
+  /// Longest error text kept on a failed event.
+  private static final int MAX_ERROR_LENGTH = 2000;
+
+  private final OutboxEventRepository outboxEventRepository;
+  private final ObjectMapper objectMapper;
+  private final ApplicationEventPublisher publisher;
+  private final OutboxProperties properties;
+
+  @Override
+  @Transactional(Transactional.TxType.MANDATORY)
+  public void enqueue(Object event) {
+    String eventType = event.getClass().getSimpleName();
+    if (EVENT_TYPES.get(eventType) != event.getClass()) {
+      throw new IllegalArgumentException("Not an outbox event type: " + event.getClass());
+    }
+    String payload;
+    try {
+      payload = objectMapper.writeValueAsString(event);
+    } catch (JsonProcessingException e) {
+      throw new IllegalArgumentException("Unserializable outbox event: " + eventType, e);
+    }
+    outboxEventRepository.save(new OutboxEvent(eventType, payload, ZonedDateTime.now()));
+  }
+
+  @Override
+  public List<Long> findReady(int limit) {
+    return outboxEventRepository.findReadyIds(
+        ZonedDateTime.now(), properties.maxAttempts(), limit);
+  }
+
+  @Override
+  public boolean relay(long id) {
+    Optional<OutboxEvent> stored = outboxEventRepository.lockById(id);
+    if (stored.isEmpty()) {
+      return false;
+    }
+    OutboxEvent outboxEvent = stored.get();
+    Class<?> eventType = EVENT_TYPES.get(outboxEvent.getEventType());
+    if (eventType == null) {
+      throw new IllegalStateException("Unknown outbox event type: " + outboxEvent.getEventType());
+    }
+    Object event;
+    try {
+      event = objectMapper.readValue(outboxEvent.getPayload(), eventType);
+    } catch (JsonProcessingException e) {
+      throw new IllegalStateException("Unreadable outbox event " + id, e);
+    }
+
+    publisher.publishEvent(event);
+    outboxEventRepository.delete(outboxEvent);
+    return true;
+  }
+
+  @Override
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  public void recordFailure(long id, String error) {
+    outboxEventRepository.findById(id).ifPresent(outboxEvent -> {
+      int attempts = outboxEvent.getAttempts() + 1;
+      outboxEvent.setAttempts(attempts);
+      outboxEvent.setAvailableAt(ZonedDateTime.now().plus(properties.backoffAfter(attempts)));
+      outboxEvent.setLastError(error == null || error.length() <= MAX_ERROR_LENGTH
+          ? error : error.substring(0, MAX_ERROR_LENGTH));
+      if (attempts >= properties.maxAttempts()) {
+        log.error("[DomainEventOutboxService] Giving up on {} event {} after {} attempts: {}",
+            outboxEvent.getEventType(), id, attempts, error);
+      }
+    });
+  }
+}
@@ -0,0 +1,62 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.config.OutboxProperties;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.DomainEventRelayService;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * Drains the outbox in the background, so announcement listeners (notification fan-out above
+ * all) no longer run inside, and lengthen, the request that raised the event.
+ * <p>
+ * Events are delivered in id order, each in its own transaction (see
+ * {@link DomainEventOutboxService#relay}); listeners therefore see an event only once the
+ * transaction that raised it has committed, much as an after-commit
+ * {@code @TransactionalEventListener} would, but the event survives a crash in between. A failed
+ * delivery is counted and retried later without holding up the events behind it. Delivery is at
+ * least once: a listener that succeeds but whose transaction then fails to commit runs again.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DomainEventRelayServiceImpl implements DomainEventRelayService {
+  private final DomainEventOutboxService outboxService;
+  private final OutboxProperties properties;
+
+  @Scheduled(fixedDelayString = "${outbox.poll-interval:1s}")
+  public void poll() {
+    int delivered = drain();
+    if (delivered > 0) {
+      log.debug("[DomainEventRelayService] Relayed {} outbox events.", delivered);
+    }
+  }
+
+  @Override
+  public int drain() {
+    int delivered = 0;
+    boolean more = true;
+    while (more) {
+      List<Long> ready = outboxService.findReady(properties.batchSize());
+      int batchDelivered = 0;
+      for (long id : ready) {
+        try {
+          if (outboxService.relay(id)) {
+            batchDelivered++;
+          }
+        } catch (RuntimeException e) {
+          log.warn("[DomainEventRelayService] Delivery of outbox event {} failed: {}", id,
+              e.getMessage());
+          outboxService.recordFailure(id, e.toString());
+        }
+      }
+      delivered += batchDelivered;
+      // A full batch that another relay held entirely is left to that relay.
+      more = ready.size() >= properties.batchSize() && batchDelivered > 0;
+    }
+    return delivered;
+  }
+}
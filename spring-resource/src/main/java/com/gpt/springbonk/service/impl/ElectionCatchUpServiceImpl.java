@@ -0,0 +1,147 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ElectionResultRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.ElectionCatchUpService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.event.ElectionClosedEvent;
+import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * The bulk counterpart of {@code ElectionService#closeElection}, for recovering after downtime.
+ * <p>
+ * A page of overdue elections is locked with {@code FOR UPDATE SKIP LOCKED}, so nodes starting
+ * together split the backlog instead of closing anything twice, and an election already being
+ * closed elsewhere is left to that closure. Ballots are loaded for the whole page in a handful of
+ * queries, tabulated in parallel off the entities, and the results and status changes are
+ * flushed together, where Hibernate's JDBC batching groups them into batched statements.
+ * <p>
+ * A tabulation that fails is recorded as a flagged result, as a scheduled closure would. A
+ * database failure rolls the page back; its elections remain overdue and are closed through
+ * their closure jobs.
+ * <p>
+ * No {@code ElectionChangedEvent} is published per election: its scheduling listener would
+ * reload each election only to delete a job already deleted here in bulk. The page's jobs go in
+ * one statement, the caller cancels its own deadlines, and cached pairwise matrices are evicted
+ * directly.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ElectionCatchUpServiceImpl implements ElectionCatchUpService {
+  private final ElectionRepository electionRepository;
+  private final ElectionResultRepository electionResultRepository;
+  private final CandidateRepository candidateRepository;
+  private final BallotSnapshotService ballotSnapshotService;
+  private final InstantRunoffService instantRunoffService;
+  private final ElectionClosureJobService closureJobService;
+  private final PairwiseMatrixService pairwiseMatrixService;
+  private final DomainEventOutboxService outboxService;
+
+  @Override
+  public List<UUID> closeOverduePage(int pageSize) {
+    ZonedDateTime now = ZonedDateTime.now();
+    List<Election> elections = electionRepository.lockOverdue(now, pageSize);
+    if (elections.isEmpty()) {
+      return List.of();
+    }
+
+    Map<UUID, IndexedBallotBox> ballotBoxes = ballotSnapshotService.getBallotBoxes(elections);
+
+    // Tabulate off the entities: the workers only see ballot boxes.
+    Map<UUID, Tabulation> tabulations = elections.stream()
+        .map(Election::getId)
+        .toList()
+        .parallelStream()
+        .map(electionId -> tabulate(electionId, ballotBoxes.get(electionId)))
+        .collect(Collectors.toMap(Tabulation::electionId, Function.identity()));
+
+    List<ElectionResult> results = new ArrayList<>(elections.size());
+    for (Election election : elections) {
+      Tabulation tabulation = tabulations.get(election.getId());
+      results.add(tabulation.result() != null
+          ? new ElectionResult(tabulation.result(), now, election)
+          : new ElectionResult(Flag.SCHEDULING_ERROR, now, election));
+      election.setStatus(Status.CLOSED);
+      election.setEndDateTime(now);
+    }
+    electionResultRepository.saveAll(results);
+    electionRepository.flush();
+
+    List<UUID> electionIds = elections.stream().map(Election::getId).toList();
+    closureJobService.removeAll(electionIds);
+
+    // Announce to the electorate.
+    Map<UUID, String> winnerTitles = winnerTitles(results);
+    for (ElectionResult result : results) {
+      Election election = result.getElection();
+      pairwiseMatrixService.evict(election.getId());
+      outboxService.enqueue(new ElectionClosedEvent(
+          election.getId(),
+          election.getTitle(),
+          result.getWinnerId() == null ? null : winnerTitles.get(result.getWinnerId())
+      ));
+    }
+
+    log.info("[ElectionCatchUpService] Closed {} overdue elections ({} flagged).",
+        elections.size(), tabulations.values().stream().filter(t -> t.result() == null).count());
+    return electionIds;
+  }
+
+  private Tabulation tabulate(UUID electionId, IndexedBallotBox ballotBox) {
+    if (ballotBox == null) {
+      log.error("[ElectionCatchUpService] Election {} has no candidates or no votes; flagging"
+          + " its result.", electionId);
+      return new Tabulation(electionId, null);
+    }
+    try {
+      return new Tabulation(electionId, instantRunoffService.conductElection(ballotBox));
+    } catch (RuntimeException e) {
+      log.error("A flagged result has been created due to an exception encountered during "
+          + "tabulation of election {}.", electionId, e);
+      return new Tabulation(electionId, null);
+    }
+  }
+
+  /// Book titles of the winning candidates, in one query.
+  private Map<UUID, String> winnerTitles(List<ElectionResult> results) {
+    List<UUID> winnerIds = results.stream()
+        .map(ElectionResult::getWinnerId)
+        .filter(Objects::nonNull)
+        .toList();
+    if (winnerIds.isEmpty()) {
+      return Map.of();
+    }
+    return candidateRepository.findAllWithBookByIdIn(winnerIds).stream()
+        .filter(candidate -> candidate.getBook() != null && candidate.getBook().getTitle() != null)
+        .collect(Collectors.toMap(Candidate::getId, candidate -> candidate.getBook().getTitle()));
+  }
+
+  /// A failed tabulation has no result.
+  private record Tabulation(UUID electionId, ElectionResultRecord result) {
+  }
+}
@@ -0,0 +1,154 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.config.ClosureProperties;
+import com.gpt.springbonk.model.record.ClosureExecutorStatsRecord;
+import com.gpt.springbonk.service.ElectionClosureExecutorService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import com.gpt.springbonk.service.ElectionService;
+import com.gpt.springbonk.util.TransientFailures;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Closes claimed elections on virtual threads, at most {@code election.closure.concurrency} at a
+ * time.
+ * <p>
+ * Every submission gets its own virtual thread, which waits for a permit before touching the
+ * database; callers keep the number waiting below {@code election.closure.queue-capacity} by
+ * checking {@link #remainingCapacity()} before they claim more jobs, so claimed jobs do not sit
+ * out their lease in the queue.
+ * <p>
+ * A transient database failure (see {@link TransientFailures}) is retried with exponential
+ * backoff and jitter, keeping the permit, so a struggling database sees fewer closures rather
+ * than more. Any other failure, or running out of attempts, gives the closure up: its job keeps
+ * the lease until it lapses and is then claimed again. Failures of the tabulation itself never
+ * reach this far; {@link ElectionService#closeDueElection} records them as a flagged result.
+ * A closure that is no longer due when its turn comes (the end date moved, or the job's lease
+ * passed to another node) is dropped without touching the job.
+ */
+@Slf4j
+@Service
+public class ElectionClosureExecutorServiceImpl implements ElectionClosureExecutorService {
+  private final ElectionService electionService;
+  private final ElectionClosureJobService closureJobService;
+  private final ClosureProperties properties;
+  private final Semaphore permits;
+
+  private final AtomicInteger queued = new AtomicInteger();
+  private final AtomicInteger running = new AtomicInteger();
+  private final LongAdder completed = new LongAdder();
+  private final LongAdder retried = new LongAdder();
+  private final LongAdder failed = new LongAdder();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  public ElectionClosureExecutorServiceImpl(
+      ElectionService electionService,
+      ElectionClosureJobService closureJobService,
+      ClosureProperties properties
+  ) {
+    this.electionService = electionService;
+    this.closureJobService = closureJobService;
+    this.properties = properties;
+    this.permits = new Semaphore(properties.concurrency(), true);
+  }
+
+  @Override
+  public int remainingCapacity() {
+    return Math.max(0, properties.queueCapacity() - queued.get() - running.get());
+  }
+
+  @Override
+  public void submit(UUID electionId) {
+    long claimedAt = System.nanoTime();
+    queued.incrementAndGet();
+    // CHOICE: Heavy work is done in virtual threads regardless of app-wide configuration.
+    Thread.ofVirtual().name("election-closure-" + electionId).start(() -> {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        queued.decrementAndGet();
+        Thread.currentThread().interrupt();
+        return;
+      }
+      queued.decrementAndGet();
+      running.incrementAndGet();
+      try {
+        close(electionId, claimedAt);
+      } finally {
+        running.decrementAndGet();
+        permits.release();
+      }
+    });
+  }
+
+  @Override
+  public ClosureExecutorStatsRecord getStats() {
+    long done = completed.sum();
+    return new ClosureExecutorStatsRecord(
+        queued.get(),
+        running.get(),
+        done,
+        retried.sum(),
+        failed.sum(),
+        Duration.ofNanos(done == 0 ? 0 : totalLatencyNanos.sum() / done),
+        Duration.ofNanos(maxLatencyNanos.get()));
+  }
+
+  private void close(UUID electionId, long claimedAt) {
+    Duration backoff = properties.retryBackoff();
+    for (int attempt = 1; ; attempt++) {
+      try {
+        if (electionService.closeDueElection(electionId, properties.nodeId())) {
+          closureJobService.complete(electionId);
+          recordCompletion(electionId, claimedAt);
+        }
+        return;
+      } catch (RuntimeException e) {
+        if (!TransientFailures.isTransient(e) || attempt >= properties.maxAttempts()) {
+          failed.increment();
+          log.error("[ElectionClosureExecutor] Gave up closing election {} after {} attempts; "
+              + "it is retried once its lease lapses.", electionId, attempt, e);
+          return;
+        }
+        retried.increment();
+        log.warn("[ElectionClosureExecutor] Attempt {} to close election {} failed transiently "
+            + "({}); retrying in about {}.", attempt, electionId, e.getMessage(), backoff);
+        if (!sleep(backoff)) {
+          return;
+        }
+        backoff = backoff.multipliedBy(2).compareTo(properties.maxRetryBackoff()) > 0
+            ? properties.maxRetryBackoff()
+            : backoff.multipliedBy(2);
+      }
+    }
+  }
+
+  private void recordCompletion(UUID electionId, long claimedAt) {
+    long latency = System.nanoTime() - claimedAt;
+    completed.increment();
+    totalLatencyNanos.add(latency);
+    maxLatencyNanos.accumulateAndGet(latency, Math::max);
+    log.debug("[ElectionClosureExecutor] Closed election {} {} ms after its claim.", electionId,
+        latency / 1_000_000);
+  }
+
+  /// Sleep between half and all of {@code backoff}; false if interrupted.
+  private static boolean sleep(Duration backoff) {
+    long millis = backoff.toMillis();
+    try {
+      Thread.sleep(millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1));
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
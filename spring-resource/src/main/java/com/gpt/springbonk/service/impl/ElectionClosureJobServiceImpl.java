@@ -0,0 +1,72 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.config.ClosureProperties;
+import com.gpt.springbonk.model.ElectionClosureJob;
+import com.gpt.springbonk.repository.ElectionClosureJobRepository;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import jakarta.transaction.Transactional;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Closure jobs in {@code election_closure_jobs}.
+ * <p>
+ * Each call is its own transaction, so a claim commits (and its lease becomes visible to other
+ * nodes) before any of the claimed elections is closed.
+ */
+@Slf4j
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ElectionClosureJobServiceImpl implements ElectionClosureJobService {
+  private final ElectionClosureJobRepository jobRepository;
+  private final ClosureProperties properties;
+
+  @Override
+  public void schedule(UUID electionId, ZonedDateTime dueAt) {
+    jobRepository.upsert(electionId, dueAt);
+    log.debug("[ElectionClosureJobService] Closure of election {} due at {}", electionId, dueAt);
+  }
+
+  @Override
+  public void remove(UUID electionId) {
+    jobRepository.deleteById(electionId);
+  }
+
+  @Override
+  public void removeAll(Collection<UUID> electionIds) {
+    jobRepository.deleteAllByElectionIds(electionIds);
+  }
+
+  @Override
+  public List<ElectionClosureJob> getPendingJobs() {
+    return jobRepository.findAll();
+  }
+
+  @Override
+  public List<UUID> claimDue(int limit) {
+    ZonedDateTime now = ZonedDateTime.now();
+    List<UUID> claimed = jobRepository.claimDue(
+        properties.nodeId(), now, now.plus(properties.lease()), limit);
+    if (!claimed.isEmpty()) {
+      log.info("[ElectionClosureJobService] {} claimed {} closure jobs", properties.nodeId(),
+          claimed.size());
+    }
+    return claimed;
+  }
+
+  @Override
+  public void complete(UUID electionId) {
+    jobRepository.deleteClaimed(electionId, properties.nodeId());
+  }
+
+  @Override
+  public int backfill() {
+    return jobRepository.insertMissing();
+  }
+}
@@ -0,0 +1,90 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
+import com.gpt.springbonk.exception.ResourceNotFoundException;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.service.ElectionResultCacheService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.service.event.ElectionDeletedEvent;
+import com.gpt.springbonk.util.LruCache;
+import java.util.UUID;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Tabulation results keyed by (election, ballot version, method).
+ * <p>
+ * The ballot version is read before and after tabulating; a result is only stored when the two
+ * match, so a vote committed mid-run can't get its ballots filed under the older version. Stale
+ * versions are dropped when the ballots change and otherwise age out of the LRU.
+ */
+@Slf4j
+@Service
+public class ElectionResultCacheServiceImpl implements ElectionResultCacheService {
+  private final ElectionRepository electionRepository;
+  private final LruCache<ResultKey, ElectionResultRecord> results;
+
+  public ElectionResultCacheServiceImpl(
+      ElectionRepository electionRepository,
+      TabulationProperties tabulationProperties
+  ) {
+    this.electionRepository = electionRepository;
+    this.results = new LruCache<>(tabulationProperties.resultCacheSize());
+  }
+
+  @Override
+  public ElectionResultRecord getOrTabulate(
+      UUID electionId,
+      SingleWinnerVotingSystemMethod methodology,
+      Supplier<ElectionResultRecord> tabulation
+  ) {
+    long ballotVersion = currentBallotVersion(electionId);
+    ResultKey key = new ResultKey(electionId, ballotVersion, methodology);
+
+    ElectionResultRecord cached = results.get(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    ElectionResultRecord result = tabulation.get();
+
+    if (result != null && currentBallotVersion(electionId) == ballotVersion) {
+      results.put(key, result);
+    } else {
+      log.debug("[ElectionResultCacheService] Ballots for election {} changed during tabulation;"
+          + " not caching.", electionId);
+    }
+    return result;
+  }
+
+  private long currentBallotVersion(UUID electionId) {
+    return electionRepository.findBallotVersion(electionId).orElseThrow(
+        () -> new ResourceNotFoundException("Election does not exist.")
+    );
+  }
+
+  // region Event Listeners
+
+  @EventListener
+  public void onBallotsChanged(BallotsChangedEvent event) {
+    results.removeKeysIf(key -> key.electionId().equals(event.electionId()));
+  }
+
+  @EventListener
+  public void onElectionDeleted(ElectionDeletedEvent event) {
+    results.removeKeysIf(key -> key.electionId().equals(event.electionId()));
+  }
+
+  // endregion
+
+  private record ResultKey(
+      UUID electionId,
+      long ballotVersion,
+      SingleWinnerVotingSystemMethod methodology
+  ) {
+  }
+}
@@ -0,0 +1,127 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.model.record.RoundStreamSummaryRecord;
+import com.gpt.springbonk.repository.ElectionResultRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.ElectionRoundStreamService;
+import com.gpt.springbonk.service.ElectionService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import jakarta.transaction.Transactional;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Sends instant runoff rounds as server-sent events.
+ * <p>
+ * Everything that needs the database (the election, its stored result or its ballots) is loaded
+ * on the request thread, inside its transaction. A replay is then written out straight away; a
+ * live tabulation runs on its own virtual thread and sends each round from the round listener of
+ * {@link InstantRunoffService}, so the first rounds reach the client while later ones are still
+ * being counted. A client that goes away makes the next send fail, which abandons the tabulation.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ElectionRoundStreamServiceImpl implements ElectionRoundStreamService {
+  private static final Duration STREAM_TIMEOUT = Duration.ofMinutes(1);
+
+  private final ElectionService electionService;
+  private final ElectionResultRepository electionResultRepository;
+  private final BallotSnapshotService ballotSnapshotService;
+  private final InstantRunoffService instantRunoffService;
+
+  @Override
+  @Transactional
+  public SseEmitter streamRounds(UUID electionId) {
+    Election election = electionService.getElection(electionId);
+    SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT.toMillis());
+
+    Optional<ElectionResult> storedResult = election.getStatus() == Status.CLOSED
+        ? electionResultRepository.findFirstByElection_IdOrderByClosureTimeDesc(electionId)
+        : Optional.empty();
+    if (storedResult.isPresent()) {
+      replay(emitter, storedResult.get());
+      return emitter;
+    }
+
+    IndexedBallotBox ballotBox;
+    try {
+      ballotBox = ballotSnapshotService.getBallotBox(election);
+    } catch (ElectionCannotBeCompletedException e) {
+      fail(emitter, electionId, e);
+      return emitter;
+    }
+
+    Thread.ofVirtual().name("round-stream-" + electionId).start(() -> {
+      try {
+        ElectionResultRecord result = instantRunoffService.conductElection(
+            ballotBox, round -> send(emitter, ROUND_EVENT, round));
+        send(emitter, SUMMARY_EVENT, new RoundStreamSummaryRecord(
+            electionId, result.winnerId(), result.totalVotes(), false, List.of()));
+        emitter.complete();
+      } catch (ElectionCannotBeCompletedException e) {
+        fail(emitter, electionId, e);
+      } catch (UncheckedIOException e) {
+        log.info("[ElectionRoundStreamService] Client left the round stream for election {}",
+            electionId);
+        emitter.completeWithError(e.getCause());
+      } catch (RuntimeException e) {
+        // Nothing else on this thread would see it; end the stream instead of leaving it open
+        // until the timeout.
+        log.error("[ElectionRoundStreamService] Round stream for election {} failed", electionId,
+            e);
+        emitter.completeWithError(e);
+      }
+    });
+    return emitter;
+  }
+
+  private void replay(SseEmitter emitter, ElectionResult result) {
+    List<RoundResultRecord> rounds = result.getRounds() == null ? List.of() : result.getRounds();
+    log.info("[ElectionRoundStreamService] Replaying {} stored rounds of result {}",
+        rounds.size(), result.getId());
+    try {
+      rounds.forEach(round -> send(emitter, ROUND_EVENT, round));
+      send(emitter, SUMMARY_EVENT, new RoundStreamSummaryRecord(
+          result.getElection().getId(), result.getWinnerId(), result.getTotalVotes(), true,
+          List.copyOf(result.getFlags())));
+      emitter.complete();
+    } catch (UncheckedIOException e) {
+      emitter.completeWithError(e.getCause());
+    }
+  }
+
+  private void fail(SseEmitter emitter, UUID electionId, ElectionCannotBeCompletedException e) {
+    log.info("[ElectionRoundStreamService] Election {} cannot be tabulated: {}", electionId,
+        e.getMessage());
+    try {
+      send(emitter, FAILURE_EVENT, e.getMessage());
+      emitter.complete();
+    } catch (UncheckedIOException sendFailure) {
+      emitter.completeWithError(sendFailure.getCause());
+    }
+  }
+
+  private static void send(SseEmitter emitter, String name, Object data) {
+    try {
+      emitter.send(SseEmitter.event().name(name).data(data));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -1,30 +1,48 @@
 package com.gpt.springbonk.service.impl;
 
+import com.gpt.springbonk.config.ClosureProperties;
 import com.gpt.springbonk.constant.enumeration.election.Status;
 import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.record.ClosureExecutorStatsRecord;
 import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.service.ElectionCatchUpService;
+import com.gpt.springbonk.service.ElectionClosureExecutorService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
 import com.gpt.springbonk.service.ElectionSchedulingService;
-import com.gpt.springbonk.service.ElectionService;
 import com.gpt.springbonk.service.event.ElectionChangedEvent;
 import com.gpt.springbonk.service.event.ElectionDeletedEvent;
+import com.gpt.springbonk.util.DeadlineWheel;
 import jakarta.transaction.Transactional;
 import java.time.Instant;
-import java.time.ZonedDateTime;
-import java.util.Map;
+import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ScheduledFuture;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
+/**
+ * Closes elections when their end date passes, on whichever node gets there first.
+ * <p>
+ * Closure times live in the {@code election_closure_jobs} table rather than in this process, so
+ * they survive restarts and are shared by every node. Each node polls the table and leases due
+ * jobs with {@code FOR UPDATE SKIP LOCKED} (see {@link ElectionClosureJobService}); only the
+ * leaseholder closes the election (through {@link ElectionClosureExecutorService}), and only it
+ * deletes the job afterwards. A node that dies or gives up mid-closure leaves its lease to
+ * expire, after which another node claims the job again.
+ * {@code ElectionService#closeDueElection} locks the election row and returns early once it is
+ * CLOSED, so a late retry cannot tabulate twice, and skips elections whose end date moved or
+ * whose job lease this node lost while the closure was queued.
+ * <p>
+ * When to sweep is decided locally by one {@link DeadlineWheel} holding every deadline this node
+ * knows of, ticked by a single scheduled task: rescheduling an election only moves its wheel
+ * entry, and elections falling due in the same tick are claimed together in one sweep. The
+ * slower fixed-delay poll still sweeps on its own, for deadlines set or moved on other nodes.
+ */
 @Slf4j
 @Service
 @Transactional
-@RequiredArgsConstructor
 public class ElectionSchedulingServiceImpl implements ElectionSchedulingService {
 
   /*
@@ -35,73 +53,127 @@ public class ElectionSchedulingServiceImpl implements ElectionSchedulingService
 
   // region DI
 
-  private final TaskScheduler scheduler;
   private final ElectionRepository electionRepository;
-  private final ElectionService electionService;
+  private final ElectionClosureJobService closureJobService;
+  private final ElectionClosureExecutorService closureExecutor;
+  private final ElectionCatchUpService catchUpService;
 
   // endregion
 
-  private final Map<UUID, ScheduledFuture<?>> futures = new ConcurrentHashMap<>();
+  private final DeadlineWheel<UUID> deadlines;
+  private final int claimBatchSize;
+  private final int catchUpPageSize;
+  /// Set when a sweep stopped on a full executor queue; the next tick sweeps again.
+  private volatile boolean backlogged;
+
+  public ElectionSchedulingServiceImpl(
+      ElectionRepository electionRepository,
+      ElectionClosureJobService closureJobService,
+      ElectionClosureExecutorService closureExecutor,
+      ElectionCatchUpService catchUpService,
+      ClosureProperties properties
+  ) {
+    this.electionRepository = electionRepository;
+    this.closureJobService = closureJobService;
+    this.closureExecutor = closureExecutor;
+    this.catchUpService = catchUpService;
+    this.deadlines = new DeadlineWheel<>(properties.tick(), properties.wheelSlots(), Instant.now());
+    this.claimBatchSize = properties.claimBatchSize();
+    this.catchUpPageSize = properties.catchUpPageSize();
+  }
 
-  /// On startup, (re)hydrate schedule for any still-open elections in the future.
+  /**
+   * On startup, close every overdue election in bulk pages (see {@link ElectionCatchUpService}),
+   * then create jobs for open elections that have none and load every deadline.
+   */
   @EventListener(ApplicationReadyEvent.class)
   @Override
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
   public void bootstrap() {
-    log.info("[ElectionSchedulingService] Rehydrating election closure schedule.");
-    electionRepository.findAllOpenEndingAfter(ZonedDateTime.now()).forEach(this::scheduleOrRunNow);
+    catchUp();
+    int created = closureJobService.backfill();
+    closureJobService.getPendingJobs()
+        .forEach(job -> deadlines.schedule(job.getElectionId(), job.getDueAt().toInstant()));
+    log.info("[ElectionSchedulingService] Closure schedule rehydrated; {} jobs created, "
+        + "{} pending.", created, deadlines.size());
+  }
+
+  /// Page through overdue elections, one transaction per page, until none are left.
+  private void catchUp() {
+    long start = System.nanoTime();
+    int closed = 0;
+    try {
+      for (List<UUID> page;
+          !(page = catchUpService.closeOverduePage(catchUpPageSize)).isEmpty(); ) {
+        page.forEach(deadlines::cancel);
+        closed += page.size();
+      }
+    } catch (RuntimeException e) {
+      log.error("[ElectionSchedulingService] Catch-up stopped after {} elections; the rest close "
+          + "through their jobs.", closed, e);
+    }
+    if (closed > 0) {
+      log.info("[ElectionSchedulingService] Caught up on {} overdue elections in {} ms.", closed,
+          (System.nanoTime() - start) / 1_000_000);
+    }
   }
 
   /// Schedule (or reschedule) a single election (C/U ops).
   @Override
   public void schedule(Election election) {
-    cancel(election.getId());
-    scheduleOrRunNow(election);
+    if (election.getEndDateTime() == null || election.getStatus() == Status.CLOSED) {
+      cancel(election.getId());
+      return;
+    }
+    closureJobService.schedule(election.getId(), election.getEndDateTime());
+    deadlines.schedule(election.getId(), election.getEndDateTime().toInstant());
   }
 
   /// Cancel a scheduled closure (D ops).
   @Override
   public void cancel(UUID electionId) {
-    var f = futures.remove(electionId);
+    closureJobService.remove(electionId);
+    deadlines.cancel(electionId);
+    log.debug("Cancelled scheduled closure for election {}", electionId);
+  }
 
-    if (f != null) {
-      f.cancel(false);
-      log.debug("Cancelled scheduled closure for election {}", electionId);
+  /// Advance the deadline wheel; sweep once if anything fell due or the last sweep was cut short.
+  @Scheduled(fixedRateString = "${election.closure.tick:1s}")
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  public void tick() {
+    List<UUID> due = deadlines.advance(Instant.now());
+    if (!due.isEmpty() || backlogged) {
+      log.debug("[ElectionSchedulingService] {} deadlines passed; sweeping.", due.size());
+      sweep();
     }
   }
 
-  private void scheduleOrRunNow(Election election) {
-
-    if (election.getEndDateTime() == null) return;
-
-    if (election.getStatus() == Status.CLOSED) return;
-
-    Instant when = election.getEndDateTime().toInstant();
-
-    if (when.isBefore(Instant.now())) {
-      runCloseOnVirtualThread(election.getId());
-      return;
+  /// Safety net for deadlines this node's wheel never heard of.
+  @Scheduled(fixedDelayString = "${election.closure.poll-interval:30s}")
+  @Transactional(Transactional.TxType.NOT_SUPPORTED)
+  public void pollDueClosures() {
+    sweep();
+    ClosureExecutorStatsRecord stats = closureExecutor.getStats();
+    if (stats.queued() > 0 || stats.running() > 0) {
+      log.info("[ElectionSchedulingService] Closure executor: {}", stats);
     }
-
-    ScheduledFuture<?> future = scheduler.schedule(
-        () -> runCloseOnVirtualThread(election.getId()),
-        when
-    );
-    futures.put(election.getId(), future);
-    log.debug("Scheduled closure for election {} at {}", election.getId(),
-        election.getEndDateTime());
   }
 
-  private void runCloseOnVirtualThread(UUID electionId) {
-    // CHOICE: Heavy work is done in virtual threads regardless of app-wide configuration.
-    Thread.startVirtualThread(() -> {
-      try {
-        electionService.closeElection(electionId);
-
-        futures.remove(electionId);
-      } catch (Exception ex) {
-        log.error("Failed to close election {}: {}", electionId, ex.getMessage(), ex);
+  /// Claim due closure jobs in batches, as far as the executor has room, and hand them over.
+  private void sweep() {
+    while (true) {
+      int limit = Math.min(claimBatchSize, closureExecutor.remainingCapacity());
+      if (limit == 0) {
+        backlogged = true;
+        return;
       }
-    });
+      List<UUID> claimed = closureJobService.claimDue(limit);
+      claimed.forEach(closureExecutor::submit);
+      if (claimed.size() < limit) {
+        backlogged = false;
+        return;
+      }
+    }
   }
 
   @EventListener
@@ -2,6 +2,7 @@ package com.gpt.springbonk.service.impl;
 
 import com.gpt.springbonk.constant.enumeration.election.Flag;
 import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
 import com.gpt.springbonk.exception.ElectionScheduleException;
 import com.gpt.springbonk.exception.ResourceNotFoundException;
 import com.gpt.springbonk.keycloak.KeycloakUserService;
@@ -11,21 +12,28 @@ import com.gpt.springbonk.model.dto.request.ElectionRequest;
 import com.gpt.springbonk.model.dto.response.ElectionResponse;
 import com.gpt.springbonk.model.dto.response.ElectionResultResponse;
 import com.gpt.springbonk.model.dto.response.VoteResponse;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.repository.ElectionClosureJobRepository;
 import com.gpt.springbonk.repository.ElectionRepository;
 import com.gpt.springbonk.repository.ElectionResultRepository;
 import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.ElectionResultCacheService;
 import com.gpt.springbonk.service.ElectionService;
 import com.gpt.springbonk.service.SingleWinnerMethodDistributionService;
 import com.gpt.springbonk.service.event.ElectionChangedEvent;
 import com.gpt.springbonk.service.event.ElectionClosedEvent;
 import com.gpt.springbonk.service.event.ElectionDeletedEvent;
 import com.gpt.springbonk.service.event.ElectionOpenedEvent;
+import com.gpt.springbonk.util.TransientFailures;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -46,13 +54,16 @@ import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinner
 public class ElectionServiceImpl implements ElectionService {
   // region DI
   private final SingleWinnerMethodDistributionService singleWinnerMethodDistributionService;
+  private final ElectionResultCacheService electionResultCacheService;
   private final KeycloakUserService keycloakUserService;
 
   private final VoteRepository voteRepository;
   private final ElectionRepository electionRepository;
   private final ElectionResultRepository electionResultRepository;
+  private final ElectionClosureJobRepository closureJobRepository;
 
   private final ApplicationEventPublisher publisher;
+  private final DomainEventOutboxService outboxService;
 
   // endregion
 
@@ -71,7 +82,7 @@ public class ElectionServiceImpl implements ElectionService {
     Election saved = electionRepository.saveAndFlush(election);
 
     publisher.publishEvent(new ElectionChangedEvent(saved.getId()));
-    publisher.publishEvent(new ElectionOpenedEvent(saved.getId(), saved.getTitle()));
+    outboxService.enqueue(new ElectionOpenedEvent(saved.getId(), saved.getTitle()));
 
     return new ElectionResponse(saved);
   }
@@ -189,7 +200,7 @@ public class ElectionServiceImpl implements ElectionService {
     Election saved = electionRepository.saveAndFlush(election);
 
     publisher.publishEvent(new ElectionChangedEvent(saved.getId()));
-    publisher.publishEvent(new ElectionOpenedEvent(saved.getId(), saved.getTitle()));
+    outboxService.enqueue(new ElectionOpenedEvent(saved.getId(), saved.getTitle()));
 
     return new ElectionResponse(saved);
   }
@@ -221,7 +232,7 @@ public class ElectionServiceImpl implements ElectionService {
     List<ElectionResultResponse> results = electionResultRepository
         .findAllByElection_IdOrderByClosureTimeDesc(electionId)
         .stream()
-        .map(ElectionResultResponse::new)
+        .map(result -> new ElectionResultResponse(result, false))
         .toList();
     log.info("[ElectionService] Loaded {} historical results for election {}", results.size(),
         electionId);
@@ -241,6 +252,17 @@ public class ElectionServiceImpl implements ElectionService {
         .orElseThrow(() ->
             new ResourceNotFoundException("Election result does not exist for this election."));
   }
+
+  @Override
+  public List<RoundResultRecord> getElectionResultRounds(
+      @NotNull UUID electionId,
+      @NotNull UUID resultId
+  ) {
+    return electionResultRepository.findByIdAndElection_Id(resultId, electionId)
+        .map(ElectionResult::getRounds)
+        .orElseThrow(() ->
+            new ResourceNotFoundException("Election result does not exist for this election."));
+  }
   // endregion
 
   @Override
@@ -248,7 +270,18 @@ public class ElectionServiceImpl implements ElectionService {
       UUID electionId
   ) {
     Election election = getElection(electionId);
-    return singleWinnerMethodDistributionService.distributeByMethodology(election, INSTANT_RUNOFF);
+    return electionResultCacheService.getOrTabulate(electionId, INSTANT_RUNOFF,
+        () -> singleWinnerMethodDistributionService.distributeByMethodology(
+            election, INSTANT_RUNOFF));
+  }
+
+  @Override
+  public ElectionComparisonRecord compareMethods(
+      UUID electionId,
+      Collection<SingleWinnerVotingSystemMethod> methodologies
+  ) {
+    return singleWinnerMethodDistributionService.compareMethods(
+        getElection(electionId), methodologies);
   }
 
   // region Helper Methods
@@ -280,10 +313,38 @@ public class ElectionServiceImpl implements ElectionService {
 
   @Override
   public void closeElection(UUID electionId) {
-    Election election = getElection(electionId);
+    Election election = lockElection(electionId);
 
     if (election.getStatus() == Status.CLOSED) return;
 
+    close(election);
+  }
+
+  @Override
+  public boolean closeDueElection(UUID electionId, String leaseOwner) {
+    Election election = lockElection(electionId);
+
+    if (election.getStatus() == Status.CLOSED) return true;
+
+    if (election.getEndDateTime() == null
+        || election.getEndDateTime().isAfter(ZonedDateTime.now())
+        || !closureJobRepository.existsByElectionIdAndLeaseOwner(electionId, leaseOwner)) {
+      log.info("[ElectionService] Skipping closure of election {}: no longer due for {}",
+          electionId, leaseOwner);
+      return false;
+    }
+
+    close(election);
+    return true;
+  }
+
+  private Election lockElection(UUID electionId) {
+    return electionRepository.findByIdForUpdate(electionId)
+        .orElseThrow(() -> new ResourceNotFoundException("Election does not exist."));
+  }
+
+  private void close(Election election) {
+    UUID electionId = election.getId();
     ElectionResultRecord electionResultRecord;
     ElectionResult result;
 
@@ -291,6 +352,10 @@ public class ElectionServiceImpl implements ElectionService {
       electionResultRecord = runRankedChoiceElection(electionId);
       result = new ElectionResult(electionResultRecord, ZonedDateTime.now(), election);
     } catch (Exception e) {
+      if (TransientFailures.isTransient(e)) {
+        // A flagged result would be final; let the closure executor retry instead.
+        throw e;
+      }
       result = new ElectionResult(Flag.SCHEDULING_ERROR, ZonedDateTime.now(), election);
       log.error(
           "A flagged result has been created due to an exception encountered during tabulation.",
@@ -307,7 +372,7 @@ public class ElectionServiceImpl implements ElectionService {
     // Announce to the electorate.
     String winnerTitle = lookupWinnerTitle(election, result.getWinnerId());
     publisher.publishEvent(new ElectionChangedEvent(election.getId()));
-    publisher.publishEvent(new ElectionClosedEvent(
+    outboxService.enqueue(new ElectionClosedEvent(
         election.getId(),
         election.getTitle(),
         winnerTitle
@@ -0,0 +1,149 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.exception.ResourceNotFoundException;
+import com.gpt.springbonk.model.record.LiveTallyRecord;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.LiveTallyService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.service.event.ElectionDeletedEvent;
+import com.gpt.springbonk.util.LiveTally;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Keeps an in-memory {@link LiveTally} per election that has been looked at.
+ * <p>
+ * Ballot changes are applied after their transaction commits: the changed voter's ranking is
+ * re-read (one small query) and their first choice replaced, so a late or repeated event can't
+ * double count. Changes touching many ballots, such as removing a candidate, drop the tally and
+ * the next read rebuilds it.
+ * <p>
+ * Loads and re-reads run outside the map's locks, so a slow query never blocks other elections
+ * sharing its bin. Each read takes the election's ballot version first, and the tally drops a
+ * read older than what it already holds (see {@link LiveTally#applyFirstChoice}). A full load
+ * is only kept if the version did not move while it ran; otherwise it serves the one request and
+ * the next read loads again.
+ * <p>
+ * Tallies live only in this instance's memory; with several instances, each keeps its own.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LiveTallyServiceImpl implements LiveTallyService {
+  private final ElectionRepository electionRepository;
+  private final CandidateRepository candidateRepository;
+  private final VoteRepository voteRepository;
+
+  private final Map<UUID, LiveTally> tallies = new ConcurrentHashMap<>();
+
+  @Override
+  @Transactional
+  public LiveTallyRecord getLiveTally(UUID electionId) {
+    LiveTally tally = tallies.get(electionId);
+    if (tally == null) {
+      tally = cache(load(electionId));
+    }
+    synchronized (tally) {
+      return tally.toRecord();
+    }
+  }
+
+  /**
+   * Publish a freshly loaded tally, unless another load got there first. It is put in place before
+   * the version is checked again, so a ballot change committed after the check finds it and is
+   * applied; one committed during the load moved the version and the tally is withdrawn.
+   */
+  private LiveTally cache(LiveTally loaded) {
+    UUID electionId = loaded.getElectionId();
+    LiveTally current = tallies.putIfAbsent(electionId, loaded);
+    if (current != null) {
+      return current;
+    }
+    if (ballotVersion(electionId) != loaded.getBallotVersion()) {
+      tallies.remove(electionId, loaded);
+    }
+    return loaded;
+  }
+
+  private LiveTally load(UUID electionId) {
+    long ballotVersion = ballotVersion(electionId);
+    List<UUID> candidateIds = candidateRepository.findIdsByElectionId(electionId);
+    LiveTally tally = new LiveTally(electionId, candidateIds, ballotVersion);
+
+    UUID currentVoter = null;
+    try (Stream<RankedBallotEntry> entries = voteRepository.streamRankedBallots(electionId)) {
+      for (RankedBallotEntry entry : (Iterable<RankedBallotEntry>) entries::iterator) {
+        // Entries come grouped by voter in rank order; the first of each group is the choice.
+        if (!entry.voterId().equals(currentVoter)) {
+          currentVoter = entry.voterId();
+          tally.setFirstChoice(currentVoter, entry.candidateId());
+        }
+      }
+    }
+
+    log.info("[LiveTallyService] Loaded live tally for election {} at ballot version {}",
+        electionId, ballotVersion);
+    return tally;
+  }
+
+  private long ballotVersion(UUID electionId) {
+    return electionRepository.findBallotVersion(electionId).orElseThrow(
+        () -> new ResourceNotFoundException("Election does not exist."));
+  }
+
+  // region Event Listeners
+
+  @Transactional(Transactional.TxType.REQUIRES_NEW)
+  @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+  public void onBallotsChanged(BallotsChangedEvent event) {
+    if (event.voterId() == null) {
+      tallies.remove(event.electionId());
+      return;
+    }
+
+    if (!tallies.containsKey(event.electionId())) {
+      return;
+    }
+    // Read outside the map; the version goes first, so the ranking is at least that new.
+    Optional<Long> readVersion = electionRepository.findBallotVersion(event.electionId());
+    if (readVersion.isEmpty()) {
+      tallies.remove(event.electionId());
+      return;
+    }
+    List<UUID> ranking =
+        voteRepository.findRankedCandidateIds(event.voterId(), event.electionId());
+    UUID firstChoice = ranking.isEmpty() ? null : ranking.getFirst();
+
+    LiveTally tally = tallies.get(event.electionId());
+    if (tally == null) {
+      return;
+    }
+    synchronized (tally) {
+      if (!tally.applyFirstChoice(event.voterId(), firstChoice, readVersion.get())) {
+        log.debug("[LiveTallyService] Dropped a stale read of voter {} in election {}",
+            event.voterId(), event.electionId());
+      }
+    }
+  }
+
+  @EventListener
+  public void onElectionDeleted(ElectionDeletedEvent event) {
+    tallies.remove(event.electionId());
+  }
+
+  // endregion
+}
@@ -1,23 +1,48 @@
 package com.gpt.springbonk.service.impl;
 
-import com.gpt.springbonk.constant.enumeration.system.VotingSystemMethod;
+import com.gpt.springbonk.constant.enumeration.system.multiple.MultipleWinnerVotingSystemMethod;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
 import com.gpt.springbonk.model.Election;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
-import com.gpt.springbonk.service.AbstractMethodDistributionService;
+import com.gpt.springbonk.service.BallotSnapshotService;
 import com.gpt.springbonk.service.MultipleWinnerMethodDistributionService;
+import com.gpt.springbonk.service.ScoredBallotService;
+import com.gpt.springbonk.service.SequentialProportionalApprovalService;
+import com.gpt.springbonk.service.SingleTransferableVoteService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
+
 /**
  * This service connects the requested election type for multiple winner voting systems to the appropriate method.
+ * <p>
+ * Ranked methods read the election's ballot snapshot; approval methods read its scored ballots.
  */
 @Service
+@RequiredArgsConstructor
 public class MultipleWinnerMethodDistributionServiceImpl
-    extends AbstractMethodDistributionService implements MultipleWinnerMethodDistributionService {
+    implements MultipleWinnerMethodDistributionService {
+  private final BallotSnapshotService ballotSnapshotService;
+  private final ScoredBallotService scoredBallotService;
+  private final SingleTransferableVoteService singleTransferableVoteService;
+  private final SequentialProportionalApprovalService sequentialProportionalApprovalService;
+
   @Override
   public ElectionResultRecord distributeByMethodology(
       Election election,
-      VotingSystemMethod methodology
+      MultipleWinnerVotingSystemMethod methodology,
+      int seats
   ) {
-    return null;
+    if (election == null) {
+      throw new ElectionCannotBeCompletedException(NO_ELECTION_MESSAGE);
+    }
+
+    return switch (methodology) {
+      case SINGLE_TRANSFERABLE_VOTE -> singleTransferableVoteService
+          .conductElection(ballotSnapshotService.getBallotBox(election), seats);
+      case SEQUENTIAL_PROPORTIONAL_APPROVAL -> sequentialProportionalApprovalService
+          .conductElection(scoredBallotService.getBallotBox(election), seats);
+    };
   }
 }
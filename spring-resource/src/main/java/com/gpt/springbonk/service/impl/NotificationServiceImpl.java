@@ -103,6 +103,8 @@ public class NotificationServiceImpl implements NotificationService {
 
   // region Event listeners
 
+  // These events arrive from the outbox relay, each in the relay's transaction for that event.
+
   @EventListener
   public void onElectionOpened(ElectionOpenedEvent event) {
     String title = event.title() == null ? "Untitled" : event.title();
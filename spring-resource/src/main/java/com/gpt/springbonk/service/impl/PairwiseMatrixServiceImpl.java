@@ -0,0 +1,84 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.service.event.ElectionChangedEvent;
+import com.gpt.springbonk.service.event.ElectionDeletedEvent;
+import com.gpt.springbonk.util.LruCache;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+/**
+ * Builds pairwise matrices, sharding large ballot boxes across the common pool, and keeps the
+ * matrix of each closed election in memory.
+ * <p>
+ * Open elections are never cached: their ballots can change between runs. Any change to an
+ * election or its ballots (reopening included) drops its entry. At most
+ * {@code election.tabulation.result-cache-size} matrices are kept, least recently used dropped
+ * first.
+ */
+@Slf4j
+@Service
+public class PairwiseMatrixServiceImpl implements PairwiseMatrixService {
+  private final TabulationProperties tabulationProperties;
+
+  private final LruCache<UUID, PairwiseMatrix> closedElectionMatrices;
+
+  public PairwiseMatrixServiceImpl(TabulationProperties tabulationProperties) {
+    this.tabulationProperties = tabulationProperties;
+    this.closedElectionMatrices = new LruCache<>(tabulationProperties.resultCacheSize());
+  }
+
+  @Override
+  public PairwiseMatrix getMatrix(Election election, IndexedBallotBox ballotBox) {
+    if (election.getId() == null || election.getStatus() != Status.CLOSED) {
+      return buildMatrix(ballotBox);
+    }
+    PairwiseMatrix cached = closedElectionMatrices.get(election.getId());
+    if (cached != null) {
+      return cached;
+    }
+    // Built outside the cache's lock; two first reads may both build, and the last one is kept.
+    log.info("[PairwiseMatrixService] Caching pairwise matrix for closed election {}",
+        election.getId());
+    PairwiseMatrix matrix = buildMatrix(ballotBox);
+    closedElectionMatrices.put(election.getId(), matrix);
+    return matrix;
+  }
+
+  @Override
+  public PairwiseMatrix buildMatrix(IndexedBallotBox ballotBox) {
+    return PairwiseMatrix.of(ballotBox, tabulationProperties.pairwiseShardSize());
+  }
+
+  @Override
+  public void evict(UUID electionId) {
+    closedElectionMatrices.remove(electionId);
+  }
+
+  // region Event Listeners
+
+  @EventListener
+  public void onElectionChanged(ElectionChangedEvent event) {
+    evict(event.electionId());
+  }
+
+  @EventListener
+  public void onBallotsChanged(BallotsChangedEvent event) {
+    evict(event.electionId());
+  }
+
+  @EventListener
+  public void onElectionDeleted(ElectionDeletedEvent event) {
+    evict(event.electionId());
+  }
+
+  // endregion
+}
@@ -14,6 +14,7 @@ import com.gpt.springbonk.repository.ReviewCommentRepository;
 import com.gpt.springbonk.repository.ReviewLikeRepository;
 import com.gpt.springbonk.repository.ReviewRepository;
 import com.gpt.springbonk.service.BookService;
+import com.gpt.springbonk.service.DomainEventOutboxService;
 import com.gpt.springbonk.service.ReviewService;
 import com.gpt.springbonk.service.event.ReviewCommentedEvent;
 import com.gpt.springbonk.service.event.ReviewLikedEvent;
@@ -25,7 +26,6 @@ import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.access.AccessDeniedException;
@@ -41,7 +41,7 @@ public class ReviewServiceImpl implements ReviewService {
   private final ReviewLikeRepository likeRepository;
   private final BookService bookService;
   private final KeycloakUserService keycloakUserService;
-  private final ApplicationEventPublisher eventPublisher;
+  private final DomainEventOutboxService outboxService;
 
   // region Review CRUD
 
@@ -130,7 +130,7 @@ public class ReviewServiceImpl implements ReviewService {
     ReviewComment comment = new ReviewComment(review, author, body);
     ReviewComment saved = commentRepository.saveAndFlush(comment);
 
-    eventPublisher.publishEvent(new ReviewCommentedEvent(
+    outboxService.enqueue(new ReviewCommentedEvent(
         review.getId(),
         authorId,
         author.getUsername(),
@@ -184,7 +184,7 @@ public class ReviewServiceImpl implements ReviewService {
           likeRepository.saveAndFlush(new ReviewLike(review, user));
           // Fire the event only on the "now liked" branch so we don't
           // notify on un-likes.
-          eventPublisher.publishEvent(new ReviewLikedEvent(
+          outboxService.enqueue(new ReviewLikedEvent(
               review.getId(),
               userId,
               user.getUsername(),
@@ -0,0 +1,56 @@
+package com.gpt.springbonk.service.impl;
+
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ScoredBallotRepository;
+import com.gpt.springbonk.service.ScoredBallotService;
+import com.gpt.springbonk.util.ScoredBallotCodec;
+import jakarta.transaction.Transactional;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_CANDIDATES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+
+/// Comparisons catch {@link ElectionCannotBeCompletedException} and report it per method; it must
+/// not doom the caller's transaction.
+@Slf4j
+@Service
+@Transactional(dontRollbackOn = ElectionCannotBeCompletedException.class)
+@RequiredArgsConstructor
+public class ScoredBallotServiceImpl implements ScoredBallotService {
+  private final CandidateRepository candidateRepository;
+  private final ScoredBallotRepository scoredBallotRepository;
+
+  @Override
+  public ScoredBallotBox getBallotBox(Election election) {
+    if (election == null) {
+      throw new ElectionCannotBeCompletedException(NO_ELECTION_MESSAGE);
+    }
+
+    List<UUID> candidateIds = candidateRepository.findIdsByElectionId(election.getId());
+    if (candidateIds.isEmpty()) {
+      throw new ElectionCannotBeCompletedException(NO_CANDIDATES_MESSAGE);
+    }
+
+    ScoredBallotBox.Builder builder = new ScoredBallotBox.Builder(candidateIds);
+    for (byte[] scores : scoredBallotRepository.findScoresByElectionId(election.getId())) {
+      try {
+        builder.addBallot(ScoredBallotCodec.decode(scores));
+      } catch (IllegalArgumentException e) {
+        log.warn("[ScoredBallotService] Skipping unreadable ballot in election {}: {}",
+            election.getId(), e.getMessage());
+      }
+    }
+    if (builder.getBallotCount() == 0) {
+      throw new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE);
+    }
+    return builder.build();
+  }
+}
@@ -3,32 +3,201 @@ package com.gpt.springbonk.service.impl;
 import com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod;
 import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
 import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.ScoredBallotBox;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.MethodComparisonRecord;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.CondorcetMethod;
 import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.ScoreMethod;
+import com.gpt.springbonk.service.ScoredBallotService;
 import com.gpt.springbonk.service.SingleWinnerMethodDistributionService;
-import lombok.RequiredArgsConstructor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.INSTANT_RUNOFF;
+
 /**
  * This service connects the requested election type for single winner voting systems to the appropriate method.
+ * <p>
+ * Condorcet-family methods are registered from every {@link CondorcetMethod} bean and share one
+ * pairwise matrix per tabulation. Score-family methods are registered from every
+ * {@link ScoreMethod} bean and read scored ballots instead of rankings.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class SingleWinnerMethodDistributionServiceImpl implements
     SingleWinnerMethodDistributionService {
   private final InstantRunoffService instantRunoffService;
+  private final BallotSnapshotService ballotSnapshotService;
+  private final PairwiseMatrixService pairwiseMatrixService;
+  private final ScoredBallotService scoredBallotService;
+  private final Map<SingleWinnerVotingSystemMethod, CondorcetMethod> condorcetMethods =
+      new EnumMap<>(SingleWinnerVotingSystemMethod.class);
+  private final Map<SingleWinnerVotingSystemMethod, ScoreMethod> scoreMethods =
+      new EnumMap<>(SingleWinnerVotingSystemMethod.class);
+
+  public SingleWinnerMethodDistributionServiceImpl(
+      InstantRunoffService instantRunoffService,
+      BallotSnapshotService ballotSnapshotService,
+      PairwiseMatrixService pairwiseMatrixService,
+      List<CondorcetMethod> condorcetMethods,
+      ScoredBallotService scoredBallotService,
+      List<ScoreMethod> scoreMethods
+  ) {
+    this.instantRunoffService = instantRunoffService;
+    this.ballotSnapshotService = ballotSnapshotService;
+    this.pairwiseMatrixService = pairwiseMatrixService;
+    this.scoredBallotService = scoredBallotService;
+    condorcetMethods.forEach(method -> this.condorcetMethods.put(method.getMethod(), method));
+    scoreMethods.forEach(method -> this.scoreMethods.put(method.getMethod(), method));
+  }
 
   @Override
   public ElectionResultRecord distributeByMethodology(
       Election election,
       SingleWinnerVotingSystemMethod methodology
   ) {
-    return switch (methodology) {
-      case INSTANT_RUNOFF -> instantRunoffService.conductElection(election);
-      case SCHULZE -> null;
-      default -> throw new ElectionCannotBeCompletedException("Methodology not supported");
-    };
+    ScoreMethod scoreMethod = scoreMethods.get(methodology);
+    if (scoreMethod != null) {
+      return scoreMethod.conductElection(scoredBallotService.getBallotBox(election));
+    }
+
+    CondorcetMethod condorcetMethod = condorcetMethods.get(methodology);
+    if (methodology != SingleWinnerVotingSystemMethod.INSTANT_RUNOFF && condorcetMethod == null) {
+      throw new ElectionCannotBeCompletedException("Methodology not supported");
+    }
+
+    IndexedBallotBox ballotBox = ballotSnapshotService.getBallotBox(election);
+
+    if (methodology == SingleWinnerVotingSystemMethod.INSTANT_RUNOFF) {
+      return instantRunoffService.conductElection(ballotBox);
+    }
+    return condorcetMethod.conductElection(
+        pairwiseMatrixService.getMatrix(election, ballotBox),
+        ballotBox
+    );
+  }
+
+  @Override
+  public ElectionComparisonRecord compareMethods(
+      Election election,
+      Collection<SingleWinnerVotingSystemMethod> methodologies
+  ) {
+    Set<SingleWinnerVotingSystemMethod> requested = new LinkedHashSet<>(methodologies);
+    if (requested.isEmpty()) {
+      requested.add(INSTANT_RUNOFF);
+      requested.addAll(condorcetMethods.keySet());
+      requested.addAll(scoreMethods.keySet());
+    }
+
+    // Load on this thread: the repositories need its transaction; the tabulators do not.
+    long loadStart = System.nanoTime();
+    boolean needsRankings = requested.stream()
+        .anyMatch(method -> method == INSTANT_RUNOFF || condorcetMethods.containsKey(method));
+    boolean needsMatrix = requested.stream().anyMatch(condorcetMethods::containsKey);
+    boolean needsScores = requested.stream().anyMatch(scoreMethods::containsKey);
+
+    Loaded<IndexedBallotBox> ballotBox = needsRankings
+        ? Loaded.of(() -> ballotSnapshotService.getBallotBox(election))
+        : null;
+    Loaded<PairwiseMatrix> matrix = null;
+    if (needsMatrix) {
+      matrix = ballotBox.error() == null
+          ? Loaded.of(() -> pairwiseMatrixService.getMatrix(election, ballotBox.value()))
+          : new Loaded<>(null, ballotBox.error());
+    }
+    Loaded<ScoredBallotBox> scoredBallotBox = needsScores
+        ? Loaded.of(() -> scoredBallotService.getBallotBox(election))
+        : null;
+    long loadMicros = (System.nanoTime() - loadStart) / 1_000;
+
+    List<MethodComparisonRecord> results = new ArrayList<>(requested.size());
+    try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+      List<Future<MethodComparisonRecord>> futures = new ArrayList<>(requested.size());
+      Loaded<PairwiseMatrix> sharedMatrix = matrix;
+      for (SingleWinnerVotingSystemMethod methodology : requested) {
+        futures.add(executor.submit(
+            () -> compare(methodology, ballotBox, sharedMatrix, scoredBallotBox)));
+      }
+      for (Future<MethodComparisonRecord> future : futures) {
+        results.add(future.get());
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new ElectionCannotBeCompletedException("Method comparison was interrupted");
+    } catch (ExecutionException e) {
+      throw new IllegalStateException("Method comparison failed", e.getCause());
+    }
+
+    log.info("[SingleWinnerMethodDistributionService] Compared {} methods for election {} "
+        + "(ballots loaded in {} us)", results.size(), election.getId(), loadMicros);
+    return new ElectionComparisonRecord(election.getId(), loadMicros, results);
+  }
+
+  private MethodComparisonRecord compare(
+      SingleWinnerVotingSystemMethod methodology,
+      Loaded<IndexedBallotBox> ballotBox,
+      Loaded<PairwiseMatrix> matrix,
+      Loaded<ScoredBallotBox> scoredBallotBox
+  ) {
+    ScoreMethod scoreMethod = scoreMethods.get(methodology);
+    CondorcetMethod condorcetMethod = condorcetMethods.get(methodology);
+
+    Loaded<?> input;
+    Supplier<ElectionResultRecord> tabulation;
+    if (scoreMethod != null) {
+      input = scoredBallotBox;
+      tabulation = () -> scoreMethod.conductElection(scoredBallotBox.value());
+    } else if (condorcetMethod != null) {
+      input = matrix;
+      tabulation = () -> condorcetMethod.conductElection(matrix.value(), ballotBox.value());
+    } else if (methodology == INSTANT_RUNOFF) {
+      input = ballotBox;
+      tabulation = () -> instantRunoffService.conductElection(ballotBox.value());
+    } else {
+      return new MethodComparisonRecord(methodology, null, null, 0, "Methodology not supported");
+    }
+
+    if (input.error() != null) {
+      return new MethodComparisonRecord(methodology, null, null, 0, input.error());
+    }
+
+    long start = System.nanoTime();
+    try {
+      ElectionResultRecord result = tabulation.get();
+      return new MethodComparisonRecord(methodology, result.winnerId(), result.ranking(),
+          (System.nanoTime() - start) / 1_000, null);
+    } catch (RuntimeException e) {
+      return new MethodComparisonRecord(methodology, null, null,
+          (System.nanoTime() - start) / 1_000, e.getMessage());
+    }
+  }
+
+  /// Ballots loaded for a comparison, or why they could not be.
+  private record Loaded<T>(T value, String error) {
+    static <T> Loaded<T> of(Supplier<T> loader) {
+      try {
+        return new Loaded<>(loader.get(), null);
+      } catch (ElectionCannotBeCompletedException e) {
+        return new Loaded<>(null, e.getMessage());
+      }
+    }
   }
 }
@@ -2,19 +2,34 @@ package com.gpt.springbonk.service.impl;
 
 import com.gpt.springbonk.exception.DuplicateVoteException;
 import com.gpt.springbonk.exception.ResourceNotFoundException;
+import com.gpt.springbonk.keycloak.KeycloakUser;
 import com.gpt.springbonk.keycloak.KeycloakUserService;
 import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.ScoredBallot;
 import com.gpt.springbonk.model.Vote;
 import com.gpt.springbonk.model.dto.response.VoteResponse;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ScoredBallotRepository;
 import com.gpt.springbonk.repository.VoteRepository;
 import com.gpt.springbonk.service.CandidateService;
 import com.gpt.springbonk.service.VotingService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.util.ScoredBallotCodec;
 import jakarta.transaction.Transactional;
 import jakarta.validation.constraints.NotNull;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 @Slf4j
@@ -25,9 +40,14 @@ public class VotingServiceImpl implements VotingService {
   // region DI
 
   private final VoteRepository voteRepository;
+  private final CandidateRepository candidateRepository;
+  private final ElectionRepository electionRepository;
+  private final ScoredBallotRepository scoredBallotRepository;
   private final CandidateService candidateService;
   private final KeycloakUserService keycloakUserService;
 
+  private final ApplicationEventPublisher publisher;
+
   // endregion
 
   @Override
@@ -54,7 +74,9 @@ public class VotingServiceImpl implements VotingService {
       }
       vote.setRank(rank);
     }
-    return new VoteResponse(voteRepository.saveAndFlush(vote));
+    Vote saved = voteRepository.saveAndFlush(vote);
+    publisher.publishEvent(new BallotsChangedEvent(candidate.getElection().getId(), userId));
+    return new VoteResponse(saved);
   }
 
   @Override
@@ -67,6 +89,124 @@ public class VotingServiceImpl implements VotingService {
       throw new ResourceNotFoundException("This user has no recorded votes for this candidate.");
     }
     voteRepository.delete(vote);
+    publisher.publishEvent(
+        new BallotsChangedEvent(vote.getCandidate().getElection().getId(), userId));
+  }
+
+  @Override
+  public List<VoteResponse> submitBallot(
+      @NotNull UUID electionId,
+      @NotNull UUID userId,
+      @NotNull List<UUID> rankedCandidateIds
+  ) {
+    Set<UUID> electionCandidateIds = new HashSet<>(
+        candidateRepository.findIdsByElectionId(electionId));
+    if (electionCandidateIds.isEmpty() && !electionRepository.existsById(electionId)) {
+      throw new ResourceNotFoundException("Election does not exist.");
+    }
+
+    Set<UUID> seen = new HashSet<>();
+    for (UUID candidateId : rankedCandidateIds) {
+      if (!electionCandidateIds.contains(candidateId)) {
+        throw new ResourceNotFoundException("Candidate does not belong to this election.");
+      }
+      if (!seen.add(candidateId)) {
+        throw new DuplicateVoteException("A candidate can only be ranked once per ballot.");
+      }
+    }
+
+    Map<UUID, Vote> existingVotes = new HashMap<>();
+    voteRepository.findByVoter_IdAndCandidate_Election_IdOrderByRankAsc(userId, electionId)
+        .forEach(vote -> existingVotes.put(vote.getCandidate().getId(), vote));
+
+    List<Vote> removed = existingVotes.values().stream()
+        .filter(vote -> !seen.contains(vote.getCandidate().getId()))
+        .toList();
+
+    List<Vote> ballot = new ArrayList<>(rankedCandidateIds.size());
+    List<Vote> changed = new ArrayList<>();
+    KeycloakUser voter = null;
+
+    for (int i = 0; i < rankedCandidateIds.size(); i++) {
+      UUID candidateId = rankedCandidateIds.get(i);
+      int rank = i + 1;
+      Vote vote = existingVotes.get(candidateId);
+
+      if (vote == null) {
+        if (voter == null) {
+          voter = keycloakUserService.getUserById(userId);
+        }
+        vote = new Vote(voter, candidateRepository.getReferenceById(candidateId), rank);
+        changed.add(vote);
+      } else if (vote.getRank() != rank) {
+        vote.setRank(rank);
+        changed.add(vote);
+      }
+      ballot.add(vote);
+    }
+
+    if (removed.isEmpty() && changed.isEmpty()) {
+      return ballot.stream().map(VoteResponse::new).toList();
+    }
+
+    // One DELETE ... WHERE id IN (...), then inserts and updates flushed together so Hibernate
+    // can group them into JDBC batches (see hibernate.jdbc.batch_size).
+    voteRepository.deleteAllInBatch(removed);
+    voteRepository.saveAll(changed);
+    voteRepository.flush();
+
+    log.info("[VotingService] Ballot for election {} by {}: {} ranked, {} written, {} removed",
+        electionId, userId, ballot.size(), changed.size(), removed.size());
+    publisher.publishEvent(new BallotsChangedEvent(electionId, userId));
+
+    return ballot.stream().map(VoteResponse::new).toList();
+  }
+
+  @Override
+  public Map<UUID, Integer> submitScoredBallot(
+      @NotNull UUID electionId,
+      @NotNull UUID userId,
+      @NotNull Map<UUID, Integer> scores
+  ) {
+    Set<UUID> electionCandidateIds = new HashSet<>(
+        candidateRepository.findIdsByElectionId(electionId));
+    if (electionCandidateIds.isEmpty() && !electionRepository.existsById(electionId)) {
+      throw new ResourceNotFoundException("Election does not exist.");
+    }
+    if (!electionCandidateIds.containsAll(scores.keySet())) {
+      throw new ResourceNotFoundException("Candidate does not belong to this election.");
+    }
+
+    ScoredBallot ballot = scoredBallotRepository
+        .findByElection_IdAndVoter_Id(electionId, userId)
+        .orElse(null);
+
+    if (scores.isEmpty()) {
+      if (ballot == null) {
+        return Map.of();
+      }
+      scoredBallotRepository.delete(ballot);
+    } else {
+      byte[] packed = ScoredBallotCodec.encode(scores);
+      if (ballot == null) {
+        ballot = new ScoredBallot(
+            electionRepository.getReferenceById(electionId),
+            keycloakUserService.getUserById(userId),
+            packed
+        );
+      } else if (Arrays.equals(ballot.getScores(), packed)) {
+        return Map.copyOf(scores);
+      } else {
+        ballot.setScores(packed);
+      }
+      scoredBallotRepository.saveAndFlush(ballot);
+    }
+
+    log.info("[VotingService] Scored ballot for election {} by {}: {} candidates scored",
+        electionId, userId, scores.size());
+    publisher.publishEvent(new BallotsChangedEvent(electionId, userId));
+
+    return Map.copyOf(scores);
   }
 
   @Override
@@ -0,0 +1,178 @@
+package com.gpt.springbonk.util;
+
+import com.gpt.springbonk.model.IndexedBallotBox;
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Binary encoding of an {@link IndexedBallotBox} for {@code ballot_snapshots.payload}.
+ * <p>
+ * Layout, all counts and indexes as unsigned LEB128 varints:
+ * <pre>
+ * format version (1 byte)
+ * candidate count, then each candidate id as two big-endian longs
+ * ballot count, then for each ballot its length followed by its candidate indexes
+ * </pre>
+ * With fewer than 128 candidates every index is one byte, so a ballot costs its length plus one.
+ */
+public class BallotSnapshotCodec {
+  public static final byte FORMAT_VERSION = 1;
+
+  private BallotSnapshotCodec() {
+  }
+
+  public static byte[] encode(IndexedBallotBox ballotBox) {
+    UUID[] candidateIds = ballotBox.getCandidateIds();
+    int[] preferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+
+    Writer writer = new Writer(
+        1 + 5 + candidateIds.length * 16 + 5 + offsets.length + preferences.length);
+    writer.writeByte(FORMAT_VERSION);
+
+    writer.writeVarInt(candidateIds.length);
+    for (UUID candidateId : candidateIds) {
+      writer.writeLong(candidateId.getMostSignificantBits());
+      writer.writeLong(candidateId.getLeastSignificantBits());
+    }
+
+    writer.writeVarInt(ballotBox.getBallotCount());
+    for (int ballot = 0; ballot < ballotBox.getBallotCount(); ballot++) {
+      writer.writeVarInt(offsets[ballot + 1] - offsets[ballot]);
+      for (int p = offsets[ballot]; p < offsets[ballot + 1]; p++) {
+        writer.writeVarInt(preferences[p]);
+      }
+    }
+
+    return writer.toByteArray();
+  }
+
+  /**
+   * Decode a payload written by {@link #encode(IndexedBallotBox)}.
+   * <p>
+   * Every count and length is checked against the bytes left before anything is allocated, so a
+   * corrupt payload fails here rather than with an oversized array or a broken ballot box.
+   *
+   * @throws IllegalArgumentException if the payload is from another format version or corrupt;
+   *                                  the only exception this method throws
+   */
+  public static IndexedBallotBox decode(byte[] payload) {
+    if (payload == null) {
+      throw new IllegalArgumentException("Ballot snapshot has no payload");
+    }
+    Reader reader = new Reader(payload);
+
+    byte formatVersion = reader.readByte();
+    if (formatVersion != FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported ballot snapshot format " + formatVersion);
+    }
+
+    UUID[] candidateIds = new UUID[reader.readCount(16, "candidate count")];
+    for (int i = 0; i < candidateIds.length; i++) {
+      candidateIds[i] = new UUID(reader.readLong(), reader.readLong());
+    }
+
+    // Each ballot takes at least its length byte, each preference at least one byte.
+    int ballotCount = reader.readCount(1, "ballot count");
+    int[] offsets = new int[ballotCount + 1];
+    int[] preferences = new int[Math.max(16, payload.length - reader.position)];
+    int preferenceCount = 0;
+
+    for (int ballot = 0; ballot < ballotCount; ballot++) {
+      int length = reader.readCount(1, "ballot length");
+      for (int i = 0; i < length; i++) {
+        int candidate = reader.readVarInt();
+        if (candidate < 0 || candidate >= candidateIds.length) {
+          throw new IllegalArgumentException("Ballot snapshot references an unknown candidate");
+        }
+        preferences[preferenceCount++] = candidate;
+      }
+      offsets[ballot + 1] = preferenceCount;
+    }
+    if (reader.position != payload.length) {
+      throw new IllegalArgumentException("Ballot snapshot has trailing bytes");
+    }
+
+    return IndexedBallotBox.of(
+        candidateIds, Arrays.copyOf(preferences, preferenceCount), offsets);
+  }
+
+  private static class Writer {
+    private byte[] buffer;
+    private int size;
+
+    Writer(int initialCapacity) {
+      buffer = new byte[initialCapacity];
+    }
+
+    void writeByte(int value) {
+      if (size == buffer.length) {
+        buffer = Arrays.copyOf(buffer, buffer.length * 2);
+      }
+      buffer[size++] = (byte) value;
+    }
+
+    void writeVarInt(int value) {
+      while ((value & ~0x7F) != 0) {
+        writeByte((value & 0x7F) | 0x80);
+        value >>>= 7;
+      }
+      writeByte(value);
+    }
+
+    void writeLong(long value) {
+      for (int shift = 56; shift >= 0; shift -= 8) {
+        writeByte((int) (value >>> shift));
+      }
+    }
+
+    byte[] toByteArray() {
+      return Arrays.copyOf(buffer, size);
+    }
+  }
+
+  private static class Reader {
+    private final byte[] buffer;
+    private int position;
+
+    Reader(byte[] buffer) {
+      this.buffer = buffer;
+    }
+
+    byte readByte() {
+      if (position >= buffer.length) {
+        throw new IllegalArgumentException("Ballot snapshot is truncated");
+      }
+      return buffer[position++];
+    }
+
+    int readVarInt() {
+      int value = 0;
+      for (int shift = 0; shift < 35; shift += 7) {
+        byte next = readByte();
+        value |= (next & 0x7F) << shift;
+        if ((next & 0x80) == 0) {
+          return value;
+        }
+      }
+      throw new IllegalArgumentException("Ballot snapshot holds a malformed varint");
+    }
+
+    /// A count of items taking at least {@code bytesEach} bytes apiece, all still to be read.
+    int readCount(int bytesEach, String what) {
+      int count = readVarInt();
+      if (count < 0 || (long) count * bytesEach > buffer.length - position) {
+        throw new IllegalArgumentException("Ballot snapshot holds an impossible " + what);
+      }
+      return count;
+    }
+
+    long readLong() {
+      long value = 0;
+      for (int i = 0; i < 8; i++) {
+        value = (value << 8) | (readByte() & 0xFF);
+      }
+      return value;
+    }
+  }
+}
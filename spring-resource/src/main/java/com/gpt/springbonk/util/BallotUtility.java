@@ -4,13 +4,25 @@ import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
 import com.gpt.springbonk.keycloak.KeycloakUser;
 import com.gpt.springbonk.model.BallotBox;
 import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.IndexedBallotBox;
 import com.gpt.springbonk.model.Vote;
 import com.gpt.springbonk.model.VoteCount;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -21,6 +33,9 @@ import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO
 @Slf4j
 @RequiredArgsConstructor
 public class BallotUtility {
+  /// Smallest slice of ballots worth handing to its own fork-join task.
+  private static final int MIN_SHARD_SIZE = 2048;
+
   // Tested effectively ✔
   public static BallotBox processCandidates(List<Candidate> candidates) {
     if (candidates == null || candidates.isEmpty()) {
@@ -78,4 +93,212 @@ public class BallotUtility {
 
     return voteCount;
   }
-}
\ No newline at end of file
+
+  /**
+   * Assemble an indexed ballot box from projected vote rows, grouped by voter and ordered by rank
+   * (see {@code VoteRepository#streamRankedBallots}). Rows are consumed once, straight into the
+   * builder; no per-voter lists are kept.
+   * <p>
+   * Candidates are registered in the order a {@link BallotBox} would iterate them, so tabulations
+   * see the same candidate order as the entity-walking {@link #processCandidates(List)}. Throws
+   * the same exceptions when there are no candidates or no votes.
+   */
+  public static IndexedBallotBox processBallotEntries(
+      Collection<UUID> candidateIds,
+      Stream<RankedBallotEntry> entries
+  ) {
+    if (candidateIds == null || candidateIds.isEmpty()) {
+      throw new ElectionCannotBeCompletedException(NO_CANDIDATES_MESSAGE);
+    }
+
+    // Filled one by one, like BallotBox's HashMap, so both iterate candidates alike.
+    Set<UUID> candidateOrder = new HashSet<>();
+    candidateOrder.addAll(candidateIds);
+
+    IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+    candidateOrder.forEach(builder::addCandidate);
+
+    UUID currentVoter = null;
+    for (Iterator<RankedBallotEntry> iterator = entries.iterator(); iterator.hasNext(); ) {
+      RankedBallotEntry entry = iterator.next();
+      if (!entry.voterId().equals(currentVoter)) {
+        if (currentVoter != null) {
+          builder.endBallot();
+        }
+        currentVoter = entry.voterId();
+      }
+      builder.addPreference(entry.candidateId());
+    }
+    if (currentVoter != null) {
+      builder.endBallot();
+    }
+
+    if (builder.getBallotCount() == 0) {
+      throw new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE);
+    }
+    return builder.build();
+  }
+
+  /**
+   * Primitive counterpart of {@link #conductRound(BallotBox, List, int, int)}.
+   * <p>
+   * Fills {@code tally} (indexed like the ballot box's candidates) with this round's votes and
+   * returns the number of votes cast. Semantics match the UUID round exactly, including the
+   * all-way-tie correction and {@link ElectionCannotBeCompletedException#FULL_WAY_TIE}.
+   */
+  public static int conductRound(
+      IndexedBallotBox ballotBox,
+      BitSet eliminatedCandidates,
+      int allWayTieCorrectionCount,
+      int[] tally
+  ) {
+    Arrays.fill(tally, 0);
+
+    int votesCast = tallyBallots(
+        ballotBox, eliminatedCandidates, allWayTieCorrectionCount, tally,
+        0, ballotBox.getBallotCount());
+
+    if (votesCast < 0) {
+      throw new ElectionCannotBeCompletedException(FULL_WAY_TIE);
+    }
+    return votesCast;
+  }
+
+  /**
+   * As {@link #conductRound(IndexedBallotBox, BitSet, int, int[])}, but boxes holding at least
+   * {@code parallelThreshold} ballots are split into shards and tallied on the common fork-join
+   * pool. Each shard counts into its own array and the arrays are summed on the way back up, so no
+   * counter is shared between threads. Smaller boxes, or a threshold of zero or less, stay
+   * sequential.
+   */
+  public static int conductRound(
+      IndexedBallotBox ballotBox,
+      BitSet eliminatedCandidates,
+      int allWayTieCorrectionCount,
+      int[] tally,
+      int parallelThreshold
+  ) {
+    int ballotCount = ballotBox.getBallotCount();
+    if (parallelThreshold <= 0 || ballotCount < parallelThreshold) {
+      return conductRound(ballotBox, eliminatedCandidates, allWayTieCorrectionCount, tally);
+    }
+
+    int parallelism = ForkJoinPool.getCommonPoolParallelism();
+    int shardSize = Math.max(MIN_SHARD_SIZE, ballotCount / (parallelism * 4));
+
+    ShardTally result = ForkJoinPool.commonPool().invoke(new RoundShardTask(
+        ballotBox, eliminatedCandidates, allWayTieCorrectionCount, 0, ballotCount, shardSize));
+
+    if (result.votesCast() < 0) {
+      throw new ElectionCannotBeCompletedException(FULL_WAY_TIE);
+    }
+    System.arraycopy(result.tally(), 0, tally, 0, tally.length);
+    return result.votesCast();
+  }
+
+  /**
+   * Tallies ballots [from, to) into {@code tally} without clearing it. Returns the votes cast, or
+   * -1 if a ballot with active candidates had no choice left after the all-way-tie correction, so
+   * callers on other threads can report the tie without throwing across the pool.
+   */
+  private static int tallyBallots(
+      IndexedBallotBox ballotBox,
+      BitSet eliminatedCandidates,
+      int allWayTieCorrectionCount,
+      int[] tally,
+      int from,
+      int to
+  ) {
+    int[] preferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+    int votesCast = 0;
+
+    for (int ballot = from; ballot < to; ballot++) {
+      int skip = allWayTieCorrectionCount;
+      int choice = -1;
+      boolean hasActiveCandidate = false;
+
+      for (int p = offsets[ballot], end = offsets[ballot + 1]; p < end; p++) {
+        int candidate = preferences[p];
+        if (eliminatedCandidates.get(candidate)) {
+          continue;
+        }
+        hasActiveCandidate = true;
+        if (skip-- == 0) {
+          choice = candidate;
+          break;
+        }
+      }
+
+      if (choice >= 0) {
+        tally[choice]++;
+        votesCast++;
+      } else if (hasActiveCandidate) {
+        return -1;
+      }
+    }
+
+    return votesCast;
+  }
+
+  private record ShardTally(int[] tally, int votesCast) {
+  }
+
+  /// Fork/join tasks are never serialized here; the ballot box is left out of the serial form.
+  private static class RoundShardTask extends RecursiveTask<ShardTally> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final transient IndexedBallotBox ballotBox;
+    private final BitSet eliminatedCandidates;
+    private final int allWayTieCorrectionCount;
+    private final int from;
+    private final int to;
+    private final int shardSize;
+
+    RoundShardTask(
+        IndexedBallotBox ballotBox,
+        BitSet eliminatedCandidates,
+        int allWayTieCorrectionCount,
+        int from,
+        int to,
+        int shardSize
+    ) {
+      this.ballotBox = ballotBox;
+      this.eliminatedCandidates = eliminatedCandidates;
+      this.allWayTieCorrectionCount = allWayTieCorrectionCount;
+      this.from = from;
+      this.to = to;
+      this.shardSize = shardSize;
+    }
+
+    @Override
+    protected ShardTally compute() {
+      if (to - from <= shardSize) {
+        int[] tally = new int[ballotBox.getCandidateCount()];
+        int votesCast = tallyBallots(
+            ballotBox, eliminatedCandidates, allWayTieCorrectionCount, tally, from, to);
+        return new ShardTally(tally, votesCast);
+      }
+
+      int middle = (from + to) >>> 1;
+      RoundShardTask left = new RoundShardTask(
+          ballotBox, eliminatedCandidates, allWayTieCorrectionCount, from, middle, shardSize);
+      RoundShardTask right = new RoundShardTask(
+          ballotBox, eliminatedCandidates, allWayTieCorrectionCount, middle, to, shardSize);
+      left.fork();
+      ShardTally rightResult = right.compute();
+      ShardTally leftResult = left.join();
+
+      if (leftResult.votesCast() < 0 || rightResult.votesCast() < 0) {
+        return new ShardTally(leftResult.tally(), -1);
+      }
+      int[] merged = leftResult.tally();
+      int[] other = rightResult.tally();
+      for (int i = 0; i < merged.length; i++) {
+        merged[i] += other[i];
+      }
+      return new ShardTally(merged, leftResult.votesCast() + rightResult.votesCast());
+    }
+  }
+}
@@ -0,0 +1,146 @@
+package com.gpt.springbonk.util;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A synchronized hashed timing wheel of deadlines, one per key.
+ * <p>
+ * Time is cut into ticks of {@code tickDuration}; a deadline rounds up to its tick and is linked
+ * into the slot that tick hashes to, among {@code slots} (a power of two). Deadlines more than a
+ * turn of the wheel away share a slot with nearer ones and are simply passed over until their tick
+ * comes round. Scheduling, rescheduling and cancelling are constant time: a map finds the key's
+ * entry and the entry unlinks itself from its slot's list.
+ * <p>
+ * {@link #advance} moves the wheel to a point in time and returns every key that fell due on the
+ * way, so deadlines that share a tick come back as one batch. A deadline already past when it is
+ * scheduled falls due on the next advance.
+ */
+public class DeadlineWheel<K> {
+  private final Instant origin;
+  private final long tickNanos;
+  private final Entry<K>[] slots;
+  private final int mask;
+  private final Map<K, Entry<K>> entries = new HashMap<>();
+  private long currentTick;
+
+  public DeadlineWheel(Duration tickDuration, int slots, Instant start) {
+    if (tickDuration.isNegative() || tickDuration.isZero()) {
+      throw new IllegalArgumentException("Tick duration must be positive.");
+    }
+    if (slots < 1 || Integer.bitCount(slots) != 1) {
+      throw new IllegalArgumentException("Slot count must be a power of two.");
+    }
+    this.origin = start;
+    this.tickNanos = tickDuration.toNanos();
+    this.slots = newSlots(slots);
+    this.mask = slots - 1;
+    this.currentTick = tickOf(start);
+  }
+
+  /// Set (or move) the deadline of {@code key}.
+  public synchronized void schedule(K key, Instant deadline) {
+    Entry<K> entry = entries.get(key);
+    if (entry == null) {
+      entry = new Entry<>(key);
+      entries.put(key, entry);
+    } else {
+      unlink(entry);
+    }
+    entry.tick = Math.max(Math.ceilDiv(nanosOf(deadline), tickNanos), currentTick + 1);
+    link(entry);
+  }
+
+  /// Drop the deadline of {@code key}; false if it had none.
+  public synchronized boolean cancel(K key) {
+    Entry<K> entry = entries.remove(key);
+    if (entry == null) {
+      return false;
+    }
+    unlink(entry);
+    return true;
+  }
+
+  /**
+   * Move the wheel forward to {@code now} and remove and return the keys whose deadline has passed.
+   * A wheel already at or past {@code now} returns nothing.
+   */
+  public synchronized List<K> advance(Instant now) {
+    long target = tickOf(now);
+    List<K> due = new ArrayList<>();
+    long steps = Math.min(target - currentTick, slots.length);
+    for (long step = 1; step <= steps; step++) {
+      int slot = (int) ((currentTick + step) & mask);
+      for (Entry<K> entry = slots[slot], next; entry != null; entry = next) {
+        next = entry.next;
+        if (entry.tick <= target) {
+          unlink(entry);
+          entries.remove(entry.key);
+          due.add(entry.key);
+        }
+      }
+    }
+    currentTick = Math.max(currentTick, target);
+    return due;
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <K> Entry<K>[] newSlots(int count) {
+    return (Entry<K>[]) new Entry<?>[count];
+  }
+
+  private long tickOf(Instant instant) {
+    return Math.floorDiv(nanosOf(instant), tickNanos);
+  }
+
+  /// Nanoseconds since the wheel's origin, saturating for deadlines centuries away.
+  private long nanosOf(Instant instant) {
+    try {
+      return Duration.between(origin, instant).toNanos();
+    } catch (ArithmeticException e) {
+      return instant.isAfter(origin) ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+  }
+
+  private void link(Entry<K> entry) {
+    int slot = (int) (entry.tick & mask);
+    entry.prev = null;
+    entry.next = slots[slot];
+    if (entry.next != null) {
+      entry.next.prev = entry;
+    }
+    slots[slot] = entry;
+  }
+
+  private void unlink(Entry<K> entry) {
+    if (entry.prev != null) {
+      entry.prev.next = entry.next;
+    } else {
+      slots[(int) (entry.tick & mask)] = entry.next;
+    }
+    if (entry.next != null) {
+      entry.next.prev = entry.prev;
+    }
+    entry.prev = null;
+    entry.next = null;
+  }
+
+  private static final class Entry<K> {
+    private final K key;
+    private long tick;
+    private Entry<K> prev;
+    private Entry<K> next;
+
+    private Entry(K key) {
+      this.key = key;
+    }
+  }
+}
@@ -0,0 +1,105 @@
+package com.gpt.springbonk.util;
+
+import com.gpt.springbonk.model.record.LiveTallyRecord;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * First-preference counts for one election, kept current one voter at a time.
+ * <p>
+ * Each voter's current first choice is remembered, so applying a voter's new first choice is
+ * idempotent: re-applying the same state, or applying it after a full load that already saw it,
+ * changes nothing. Callers synchronize on the instance.
+ * <p>
+ * Reads happen outside any lock, so a slow read can arrive after a newer one. Each update carries
+ * the election's ballot version read before its ranking; {@link #applyFirstChoice} drops an update
+ * older than the load or than the last update applied for the same voter.
+ */
+public class LiveTally {
+  private final UUID electionId;
+  private final long ballotVersion;
+  private final Map<UUID, UUID> firstChoices = new HashMap<>();
+  private final Map<UUID, Integer> counts = new HashMap<>();
+  private final Map<UUID, Long> voterVersions = new HashMap<>();
+
+  public LiveTally(UUID electionId, Collection<UUID> candidateIds) {
+    this(electionId, candidateIds, 0);
+  }
+
+  /// A tally loaded from ballots as of {@code ballotVersion}.
+  public LiveTally(UUID electionId, Collection<UUID> candidateIds, long ballotVersion) {
+    this.electionId = electionId;
+    this.ballotVersion = ballotVersion;
+    candidateIds.forEach(candidateId -> counts.put(candidateId, 0));
+  }
+
+  public UUID getElectionId() {
+    return electionId;
+  }
+
+  public long getBallotVersion() {
+    return ballotVersion;
+  }
+
+  /**
+   * Record a voter's first choice as read at {@code readVersion}, unless the tally already holds
+   * a newer read of that voter; false if it was dropped as stale.
+   */
+  public boolean applyFirstChoice(UUID voterId, UUID candidateId, long readVersion) {
+    long newest = Math.max(ballotVersion, voterVersions.getOrDefault(voterId, Long.MIN_VALUE));
+    if (readVersion < newest) {
+      return false;
+    }
+    voterVersions.put(voterId, readVersion);
+    setFirstChoice(voterId, candidateId);
+    return true;
+  }
+
+  /// Record a voter's first choice; null means the voter no longer ranks anyone.
+  public void setFirstChoice(UUID voterId, UUID candidateId) {
+    UUID previous = candidateId == null
+        ? firstChoices.remove(voterId)
+        : firstChoices.put(voterId, candidateId);
+
+    if (Objects.equals(previous, candidateId)) {
+      return;
+    }
+    if (previous != null) {
+      counts.merge(previous, -1, Integer::sum);
+    }
+    if (candidateId != null) {
+      counts.merge(candidateId, 1, Integer::sum);
+    }
+  }
+
+  public LiveTallyRecord toRecord() {
+    UUID leader = null;
+    int leaderVotes = -1;
+    boolean shared = false;
+
+    for (Map.Entry<UUID, Integer> entry : counts.entrySet()) {
+      if (entry.getValue() > leaderVotes) {
+        leader = entry.getKey();
+        leaderVotes = entry.getValue();
+        shared = false;
+      } else if (entry.getValue() == leaderVotes) {
+        shared = true;
+      }
+    }
+
+    int ballotCount = firstChoices.size();
+    UUID provisionalWinner = shared || ballotCount == 0 ? null : leader;
+
+    return new LiveTallyRecord(
+        electionId,
+        Map.copyOf(counts),
+        ballotCount,
+        provisionalWinner,
+        // Same test as the first instant runoff round.
+        provisionalWinner != null && leaderVotes > ballotCount / 2
+    );
+  }
+}
@@ -0,0 +1,42 @@
+package com.gpt.springbonk.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * A small synchronized least-recently-used map. Reads count as use; once {@code maximumSize}
+ * entries are held, each insert drops the entry used longest ago.
+ */
+public class LruCache<K, V> {
+  private final LinkedHashMap<K, V> entries;
+
+  public LruCache(int maximumSize) {
+    this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maximumSize;
+      }
+    };
+  }
+
+  public synchronized V get(K key) {
+    return entries.get(key);
+  }
+
+  public synchronized void put(K key, V value) {
+    entries.put(key, value);
+  }
+
+  public synchronized void remove(K key) {
+    entries.remove(key);
+  }
+
+  public synchronized void removeKeysIf(Predicate<K> predicate) {
+    entries.keySet().removeIf(predicate);
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+}
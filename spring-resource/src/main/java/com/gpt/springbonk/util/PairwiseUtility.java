@@ -0,0 +1,104 @@
+package com.gpt.springbonk.util;
+
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.PairwiseResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Shared pieces of the Condorcet-family tabulators: turning scores into tiered rankings, building
+ * result records, and Smith set detection.
+ */
+public class PairwiseUtility {
+  private PairwiseUtility() {
+  }
+
+  /**
+   * Orders candidates by score, highest first, grouping equal scores into one tier. Within a tier
+   * candidates keep their matrix order.
+   */
+  public static List<List<UUID>> rankByScore(UUID[] candidateIds, long[] scores) {
+    Integer[] order = new Integer[candidateIds.length];
+    Arrays.setAll(order, i -> i);
+    Arrays.sort(order, (a, b) -> Long.compare(scores[b], scores[a]));
+
+    List<List<UUID>> ranking = new ArrayList<>();
+    for (int position = 0; position < order.length; position++) {
+      if (position == 0 || scores[order[position]] != scores[order[position - 1]]) {
+        ranking.add(new ArrayList<>());
+      }
+      ranking.getLast().add(candidateIds[order[position]]);
+    }
+    return ranking;
+  }
+
+  /// The unique first-tier candidate, or null when first place is shared (or nobody ran).
+  public static UUID winnerOf(List<List<UUID>> ranking) {
+    if (ranking.isEmpty() || ranking.getFirst().size() != 1) {
+      return null;
+    }
+    return ranking.getFirst().getFirst();
+  }
+
+  public static ElectionResultRecord toResult(
+      PairwiseMatrix matrix,
+      List<List<UUID>> ranking,
+      List<RoundResultRecord> rounds,
+      int[][] strengths
+  ) {
+    return new ElectionResultRecord(
+        winnerOf(ranking),
+        rounds,
+        matrix.getBallotCount(),
+        ranking,
+        new PairwiseResultRecord(
+            List.of(matrix.getCandidateIds()),
+            matrix.getPreferences(),
+            strengths
+        )
+    );
+  }
+
+  /**
+   * The Smith set of the active candidates: the smallest non-empty set whose members all beat or
+   * tie every candidate outside it. Computed as the candidates that reach every other active
+   * candidate through "beats or ties" edges.
+   */
+  public static BitSet smithSet(PairwiseMatrix matrix, BitSet activeCandidates) {
+    int candidateCount = matrix.getCandidateCount();
+    int[][] preferences = matrix.getPreferences();
+    BitSet[] reaches = new BitSet[candidateCount];
+
+    for (int i = activeCandidates.nextSetBit(0); i >= 0; i = activeCandidates.nextSetBit(i + 1)) {
+      reaches[i] = new BitSet(candidateCount);
+      for (int j = activeCandidates.nextSetBit(0); j >= 0; j = activeCandidates.nextSetBit(j + 1)) {
+        if (i == j || preferences[i][j] >= preferences[j][i]) {
+          reaches[i].set(j);
+        }
+      }
+    }
+
+    for (int k = activeCandidates.nextSetBit(0); k >= 0; k = activeCandidates.nextSetBit(k + 1)) {
+      for (int i = activeCandidates.nextSetBit(0); i >= 0; i = activeCandidates.nextSetBit(i + 1)) {
+        if (reaches[i].get(k)) {
+          reaches[i].or(reaches[k]);
+        }
+      }
+    }
+
+    BitSet smith = new BitSet(candidateCount);
+    for (int i = activeCandidates.nextSetBit(0); i >= 0; i = activeCandidates.nextSetBit(i + 1)) {
+      BitSet unreached = (BitSet) activeCandidates.clone();
+      unreached.andNot(reaches[i]);
+      if (unreached.isEmpty()) {
+        smith.set(i);
+      }
+    }
+    return smith;
+  }
+}
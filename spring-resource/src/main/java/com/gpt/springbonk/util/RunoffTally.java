@@ -0,0 +1,167 @@
+package com.gpt.springbonk.util;
+
+import com.gpt.springbonk.constant.enumeration.process.RunoffTallyMode;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Round-to-round vote state for an instant runoff over an {@link IndexedBallotBox}.
+ * <p>
+ * In {@link RunoffTallyMode#FULL_RECOUNT} every round re-walks every ballot. In
+ * {@link RunoffTallyMode#INCREMENTAL} each ballot keeps a cursor on its current top choice and
+ * sits in that candidate's bucket; eliminating a candidate only advances the ballots in its
+ * bucket.
+ * <p>
+ * INCREMENTAL falls back to a full recount only for all-way-tie correction rounds, the rounds
+ * after one in which every remaining candidate tied: they count each ballot's n-th active choice,
+ * which the cursors do not track. The recount goes into a separate array, leaving the bucket
+ * counts untouched. A correction round can still eliminate candidates; {@link #eliminate} then
+ * advances their buckets as after any other round. The buckets only ever reflect each ballot's
+ * first active choice given the eliminated set, however each elimination was decided, so they
+ * stay valid, and the next uncorrected round reads them directly again.
+ * <p>
+ * Full recounts over at least {@code parallelThreshold} ballots are tallied in parallel shards,
+ * see {@link BallotUtility#conductRound(IndexedBallotBox, BitSet, int, int[], int)}.
+ * <p>
+ * Not thread safe; one instance per tabulation.
+ */
+public class RunoffTally {
+  private final IndexedBallotBox ballotBox;
+  private final RunoffTallyMode mode;
+  private final int parallelThreshold;
+
+  private final BitSet eliminatedCandidates;
+  private final int[] tally;
+  private int[] roundTally;
+  private int votesCast;
+
+  // region Incremental state
+  private int[] cursors;
+  private int[][] buckets;
+  private int[] bucketSizes;
+  // endregion
+
+  public RunoffTally(IndexedBallotBox ballotBox, RunoffTallyMode mode) {
+    this(ballotBox, mode, 0);
+  }
+
+  public RunoffTally(IndexedBallotBox ballotBox, RunoffTallyMode mode, int parallelThreshold) {
+    this.ballotBox = ballotBox;
+    this.mode = mode;
+    this.parallelThreshold = parallelThreshold;
+    this.eliminatedCandidates = new BitSet(ballotBox.getCandidateCount());
+    this.tally = new int[ballotBox.getCandidateCount()];
+    this.roundTally = tally;
+  }
+
+  /**
+   * Counts a round and returns the number of votes cast. The per-candidate counts are available
+   * from {@link #getTally()} until the next call.
+   */
+  public int conductRound(int allWayTieCorrectionCount) {
+    if (mode == RunoffTallyMode.INCREMENTAL && allWayTieCorrectionCount == 0) {
+      if (cursors == null) {
+        distributeBallots();
+      }
+      roundTally = tally;
+      return votesCast;
+    }
+
+    if (mode == RunoffTallyMode.FULL_RECOUNT) {
+      roundTally = tally;
+    } else if (roundTally == tally) {
+      // Keep the bucket counts intact for the next uncorrected round.
+      roundTally = new int[tally.length];
+    }
+    return BallotUtility.conductRound(
+        ballotBox, eliminatedCandidates, allWayTieCorrectionCount, roundTally, parallelThreshold);
+  }
+
+  /**
+   * Eliminates the given candidates. In incremental mode, ballots on an eliminated candidate move
+   * to their next active choice, or are exhausted.
+   */
+  public void eliminate(int[] candidates) {
+    for (int candidate : candidates) {
+      eliminatedCandidates.set(candidate);
+    }
+
+    if (cursors == null) {
+      return;
+    }
+
+    int[] preferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+
+    for (int candidate : candidates) {
+      int[] bucket = buckets[candidate];
+      for (int i = 0, size = bucketSizes[candidate]; i < size; i++) {
+        int ballot = bucket[i];
+        int next = advance(preferences, cursors[ballot] + 1, offsets[ballot + 1]);
+        cursors[ballot] = next;
+        if (next < offsets[ballot + 1]) {
+          addToBucket(preferences[next], ballot);
+        } else {
+          votesCast--;
+        }
+      }
+      buckets[candidate] = null;
+      bucketSizes[candidate] = 0;
+      tally[candidate] = 0;
+    }
+  }
+
+  public int[] getTally() {
+    return roundTally;
+  }
+
+  public BitSet getEliminatedCandidates() {
+    return eliminatedCandidates;
+  }
+
+  private void distributeBallots() {
+    int ballotCount = ballotBox.getBallotCount();
+    int candidateCount = ballotBox.getCandidateCount();
+    int[] preferences = ballotBox.getPreferences();
+    int[] offsets = ballotBox.getOffsets();
+
+    cursors = new int[ballotCount];
+    buckets = new int[candidateCount][];
+    bucketSizes = new int[candidateCount];
+    Arrays.fill(tally, 0);
+    votesCast = 0;
+
+    for (int ballot = 0; ballot < ballotCount; ballot++) {
+      int first = advance(preferences, offsets[ballot], offsets[ballot + 1]);
+      cursors[ballot] = first;
+      if (first < offsets[ballot + 1]) {
+        addToBucket(preferences[first], ballot);
+        votesCast++;
+      }
+    }
+  }
+
+  /// Returns the first position in [from, end) holding an active candidate, or end.
+  private int advance(int[] preferences, int from, int end) {
+    int position = from;
+    while (position < end && eliminatedCandidates.get(preferences[position])) {
+      position++;
+    }
+    return position;
+  }
+
+  private void addToBucket(int candidate, int ballot) {
+    int[] bucket = buckets[candidate];
+    int size = bucketSizes[candidate];
+    if (bucket == null) {
+      bucket = new int[8];
+    } else if (size == bucket.length) {
+      bucket = Arrays.copyOf(bucket, size * 2);
+    }
+    bucket[size] = ballot;
+    buckets[candidate] = bucket;
+    bucketSizes[candidate] = size + 1;
+    tally[candidate]++;
+  }
+}
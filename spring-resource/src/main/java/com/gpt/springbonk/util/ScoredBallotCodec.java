@@ -0,0 +1,60 @@
+package com.gpt.springbonk.util;
+
+import com.gpt.springbonk.model.ScoredBallotBox;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary encoding of one voter's scores for {@code scored_ballots.scores}.
+ * <p>
+ * Layout: a format version byte, then one entry per scored candidate: the candidate id as two
+ * big-endian longs followed by the score as one byte. Candidates are named rather than indexed so
+ * a stored ballot stays valid when nominations change; scores for withdrawn candidates are simply
+ * skipped when decoding.
+ */
+public class ScoredBallotCodec {
+  public static final byte FORMAT_VERSION = 1;
+
+  private static final int ENTRY_SIZE = 2 * Long.BYTES + 1;
+
+  private ScoredBallotCodec() {
+  }
+
+  public static byte[] encode(Map<UUID, Integer> scores) {
+    ByteBuffer buffer = ByteBuffer.allocate(1 + scores.size() * ENTRY_SIZE);
+    buffer.put(FORMAT_VERSION);
+    scores.forEach((candidateId, score) -> {
+      if (score < 0 || score > ScoredBallotBox.MAX_SCORE) {
+        throw new IllegalArgumentException("Scores must be between 0 and "
+            + ScoredBallotBox.MAX_SCORE);
+      }
+      buffer.putLong(candidateId.getMostSignificantBits());
+      buffer.putLong(candidateId.getLeastSignificantBits());
+      buffer.put(score.byteValue());
+    });
+    return buffer.array();
+  }
+
+  /**
+   * Decode a payload written by {@link #encode(Map)}.
+   *
+   * @throws IllegalArgumentException if the payload is from another format version or corrupt
+   */
+  public static Map<UUID, Integer> decode(byte[] payload) {
+    if (payload.length == 0 || payload[0] != FORMAT_VERSION) {
+      throw new IllegalArgumentException("Unsupported scored ballot format");
+    }
+    if ((payload.length - 1) % ENTRY_SIZE != 0) {
+      throw new IllegalArgumentException("Scored ballot payload is truncated");
+    }
+
+    ByteBuffer buffer = ByteBuffer.wrap(payload, 1, payload.length - 1);
+    Map<UUID, Integer> scores = new HashMap<>();
+    while (buffer.hasRemaining()) {
+      scores.put(new UUID(buffer.getLong(), buffer.getLong()), (int) buffer.get());
+    }
+    return scores;
+  }
+}
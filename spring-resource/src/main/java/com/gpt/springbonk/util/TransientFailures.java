@@ -0,0 +1,55 @@
+package com.gpt.springbonk.util;
+
+import jakarta.persistence.LockTimeoutException;
+import jakarta.persistence.PessimisticLockException;
+import jakarta.persistence.QueryTimeoutException;
+import java.sql.SQLException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.util.Set;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+/**
+ * Tells database failures worth retrying (a dropped connection, a lock or statement timeout, a
+ * deadlock or serialization failure) from ones that will fail the same way again.
+ * <p>
+ * The whole cause chain is examined, since Spring, Hibernate and the driver each wrap the last.
+ */
+public final class TransientFailures {
+  /*
+   * LOCK_IN_POINT FOR PGSQL: SQLSTATEs.
+   * Serialization failure, deadlock, lock not available, statement timeout and server shutdown;
+   * any class 08 (connection exception) state is transient as well.
+   */
+  private static final Set<String> TRANSIENT_SQL_STATES =
+      Set.of("40001", "40P01", "55P03", "57014", "57P01", "57P02", "57P03");
+
+  private TransientFailures() {
+  }
+
+  public static boolean isTransient(Throwable failure) {
+    for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+      if (cause instanceof TransientDataAccessException
+          || cause instanceof RecoverableDataAccessException
+          || cause instanceof CannotCreateTransactionException
+          || cause instanceof LockTimeoutException
+          || cause instanceof PessimisticLockException
+          || cause instanceof QueryTimeoutException
+          || cause instanceof SQLTransientException
+          || cause instanceof SQLRecoverableException) {
+        return true;
+      }
+      if (cause instanceof SQLException sql && sql.getSQLState() != null
+          && (sql.getSQLState().startsWith("08")
+          || TRANSIENT_SQL_STATES.contains(sql.getSQLState()))) {
+        return true;
+      }
+      if (cause.getCause() == cause) {
+        break;
+      }
+    }
+    return false;
+  }
+}
@@ -0,0 +1,196 @@
+package com.gpt.springbonk.support;
+
+import com.gpt.springbonk.constant.enumeration.process.EliminationMessage;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.support.ElectorateGenerator.Geometric;
+import com.gpt.springbonk.support.ElectorateGenerator.ImpartialCulture;
+import com.gpt.springbonk.support.ElectorateGenerator.Mallows;
+import com.gpt.springbonk.support.ElectorateGenerator.Spatial;
+import com.gpt.springbonk.support.ElectorateGenerator.Uniform;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Property-based differential testing of a tabulation engine against a reference.
+ * <p>
+ * Each trial draws a small random electorate from {@link ElectorateGenerator}: two to six
+ * candidates, up to forty mostly truncated ballots, over every preference model. Small and
+ * ragged is deliberate; that is where pairwise ties, all-way ties and the all-way-tie correction
+ * rounds live. Both engines tabulate the same {@link IndexedBallotBox} and their {@link Outcome}s
+ * are compared: the winner, every round's votes, eliminations and message, or the exception
+ * message when tabulation fails.
+ * <p>
+ * On the first divergence the electorate is shrunk: ballots are removed in halving chunks, then
+ * preferences are trimmed off the end of each remaining ballot, keeping every change that still
+ * diverges, until no single removal does. The {@link Divergence} carries that minimal ballot set
+ * with both outcomes.
+ */
+@Slf4j
+public record DifferentialHarness(
+    Function<IndexedBallotBox, ElectionResultRecord> reference,
+    Function<IndexedBallotBox, ElectionResultRecord> candidate
+) {
+  private static final int MAX_CANDIDATES = 6;
+  private static final int MAX_BALLOTS = 40;
+
+  /// Run {@code trials} electorates drawn from {@code seed}; empty when the engines always agree.
+  public Optional<Divergence> run(long seed, int trials) {
+    SplittableRandom random = new SplittableRandom(seed);
+    for (int trial = 0; trial < trials; trial++) {
+      ElectorateGenerator generator = electorate(random);
+      IndexedBallotBox ballotBox = generator.indexed(1 + random.nextInt(MAX_BALLOTS));
+      if (diverges(ballotBox)) {
+        log.info("[DifferentialHarness] Divergence on trial {} of {}; shrinking {} ballots",
+            trial + 1, trials, ballotBox.getBallotCount());
+        IndexedBallotBox minimal = shrink(ballotBox);
+        return Optional.of(new Divergence(
+            generator, trial, ballots(minimal), outcome(reference, minimal),
+            outcome(candidate, minimal)));
+      }
+    }
+    return Optional.empty();
+  }
+
+  public boolean diverges(IndexedBallotBox ballotBox) {
+    return !outcome(reference, ballotBox).equals(outcome(candidate, ballotBox));
+  }
+
+  /// Smallest ballot set derived from {@code ballotBox} on which the engines still disagree.
+  public IndexedBallotBox shrink(IndexedBallotBox ballotBox) {
+    UUID[] candidateIds = ballotBox.getCandidateIds();
+    List<int[]> ballots = ballots(ballotBox);
+
+    boolean progress = true;
+    while (progress) {
+      progress = false;
+
+      for (int chunk = Math.max(1, ballots.size() / 2); chunk >= 1; chunk /= 2) {
+        for (int from = 0; from + chunk <= ballots.size(); ) {
+          List<int[]> fewer = new ArrayList<>(ballots.subList(0, from));
+          fewer.addAll(ballots.subList(from + chunk, ballots.size()));
+          if (!fewer.isEmpty() && diverges(pack(candidateIds, fewer))) {
+            ballots = fewer;
+            progress = true;
+          } else {
+            from += chunk;
+          }
+        }
+      }
+
+      for (int i = 0; i < ballots.size(); i++) {
+        while (ballots.get(i).length > 1) {
+          List<int[]> shorter = new ArrayList<>(ballots);
+          shorter.set(i, Arrays.copyOf(ballots.get(i), ballots.get(i).length - 1));
+          if (!diverges(pack(candidateIds, shorter))) {
+            break;
+          }
+          ballots = shorter;
+          progress = true;
+        }
+      }
+    }
+    return pack(candidateIds, ballots);
+  }
+
+  public static Outcome outcome(
+      Function<IndexedBallotBox, ElectionResultRecord> engine,
+      IndexedBallotBox ballotBox
+  ) {
+    ElectionResultRecord result;
+    try {
+      result = engine.apply(ballotBox);
+    } catch (RuntimeException e) {
+      return new Outcome(null, List.of(), e.getClass().getSimpleName() + ": " + e.getMessage());
+    }
+
+    List<RoundOutcome> rounds = new ArrayList<>();
+    for (RoundResultRecord round : result.rounds()) {
+      Set<UUID> eliminated = round.eliminatedCandidateIds() == null
+          ? null : new HashSet<>(round.eliminatedCandidateIds());
+      rounds.add(new RoundOutcome(round.votes(), eliminated, round.eliminationMessage()));
+    }
+    return new Outcome(result.winnerId(), rounds, null);
+  }
+
+  public static IndexedBallotBox pack(UUID[] candidateIds, List<int[]> ballots) {
+    int[] offsets = new int[ballots.size() + 1];
+    for (int i = 0; i < ballots.size(); i++) {
+      offsets[i + 1] = offsets[i] + ballots.get(i).length;
+    }
+    int[] preferences = new int[offsets[ballots.size()]];
+    for (int i = 0; i < ballots.size(); i++) {
+      System.arraycopy(ballots.get(i), 0, preferences, offsets[i], ballots.get(i).length);
+    }
+    return IndexedBallotBox.of(candidateIds, preferences, offsets);
+  }
+
+  public static List<int[]> ballots(IndexedBallotBox ballotBox) {
+    List<int[]> ballots = new ArrayList<>(ballotBox.getBallotCount());
+    int[] offsets = ballotBox.getOffsets();
+    for (int ballot = 0; ballot < ballotBox.getBallotCount(); ballot++) {
+      ballots.add(Arrays.copyOfRange(
+          ballotBox.getPreferences(), offsets[ballot], offsets[ballot + 1]));
+    }
+    return ballots;
+  }
+
+  private static ElectorateGenerator electorate(SplittableRandom random) {
+    int candidateCount = 2 + random.nextInt(MAX_CANDIDATES - 1);
+    ElectorateGenerator generator = ElectorateGenerator.impartialCulture(candidateCount)
+        .withSeed(random.nextLong())
+        .withModel(switch (random.nextInt(3)) {
+          case 0 -> new ImpartialCulture();
+          case 1 -> new Mallows(random.nextDouble());
+          default -> new Spatial(1 + random.nextInt(2));
+        })
+        .withTruncation(random.nextBoolean()
+            ? new Uniform(candidateCount)
+            : new Geometric(random.nextDouble()));
+    return random.nextInt(4) == 0 && candidateCount > 2
+        ? generator.withClones(1)
+        : generator;
+  }
+
+  /// What an engine made of an electorate, reduced to what two engines must agree on.
+  public record Outcome(UUID winnerId, List<RoundOutcome> rounds, String failure) {
+  }
+
+  /// Eliminations are compared as a set; their order within a round carries no meaning.
+  public record RoundOutcome(
+      Map<UUID, Integer> votes,
+      Set<UUID> eliminatedCandidateIds,
+      EliminationMessage eliminationMessage
+  ) {
+  }
+
+  public record Divergence(
+      ElectorateGenerator electorate,
+      int trial,
+      List<int[]> minimalBallots,
+      Outcome expected,
+      Outcome actual
+  ) {
+    @Override
+    public String toString() {
+      StringBuilder description = new StringBuilder()
+          .append("Engines diverge on trial ").append(trial).append(" of ").append(electorate)
+          .append("\nMinimal ballots (candidate indexes, most preferred first):");
+      minimalBallots.forEach(ballot -> description.append("\n  ").append(Arrays.toString(ballot)));
+      return description
+          .append("\nReference: ").append(expected)
+          .append("\nCandidate: ").append(actual)
+          .toString();
+    }
+  }
+}
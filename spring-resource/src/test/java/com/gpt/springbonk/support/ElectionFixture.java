@@ -0,0 +1,82 @@
+package com.gpt.springbonk.support;
+
+import com.gpt.springbonk.keycloak.KeycloakUser;
+import com.gpt.springbonk.model.Book;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.Vote;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import lombok.Getter;
+
+/**
+ * The four-book election the service tests start from: blue, red, yellow and green, nominated by
+ * jim, jane, john and jade. Nobody has voted until {@link #vote} or {@link #castBlueByAttrition()}
+ * is called; the election has no id, so tests that need one set it themselves.
+ */
+@Getter
+public class ElectionFixture {
+  private final KeycloakUser jim = voter("jim");
+  private final KeycloakUser jane = voter("jane");
+  private final KeycloakUser john = voter("john");
+  private final KeycloakUser jade = voter("jade");
+
+  private final Election election = new Election();
+
+  private final Candidate blue = candidate("The Blue Book", "A Blue Rat", jim);
+  private final Candidate red = candidate("The Red Book", "A Red Capybara", jane);
+  private final Candidate yellow = candidate("The Yellow Book", "A Yellow Porcupine", john);
+  private final Candidate green = candidate("The Green Book", "A Green Hedgehog", jade);
+
+  public ElectionFixture() {
+    election.setCandidates(List.of(blue, red, yellow, green));
+  }
+
+  /// Adds one ballot, ranking the candidates in the order given.
+  public void vote(KeycloakUser voter, Candidate... ranking) {
+    for (int rank = 1; rank <= ranking.length; rank++) {
+      Candidate candidate = ranking[rank - 1];
+      candidate.addVote(new Vote(voter, candidate, rank));
+    }
+  }
+
+  /// Four complete ballots that blue wins, by attrition, under instant runoff.
+  public void castBlueByAttrition() {
+    vote(jim, blue, red, green, yellow);
+    vote(jane, green, yellow, blue, red);
+    vote(john, blue, green, yellow, red);
+    vote(jade, red, green, blue, yellow);
+  }
+
+  /// The cast ballots as the vote repository streams them: by voter, then by rank.
+  public List<RankedBallotEntry> rankedBallots() {
+    List<RankedBallotEntry> ballots = new ArrayList<>();
+    for (Candidate candidate : election.getCandidates()) {
+      candidate.getVotes().forEach(vote -> ballots.add(new RankedBallotEntry(
+          vote.getVoter().getId(), candidate.getId(), vote.getRank())));
+    }
+    ballots.sort(Comparator.comparing(RankedBallotEntry::voterId)
+        .thenComparing(RankedBallotEntry::rank));
+    return ballots;
+  }
+
+  public List<UUID> candidateIds() {
+    return election.getCandidates().stream().map(Candidate::getId).toList();
+  }
+
+  private static KeycloakUser voter(String username) {
+    KeycloakUser voter = new KeycloakUser();
+    voter.setId(UUID.randomUUID());
+    voter.setUsername(username);
+    return voter;
+  }
+
+  private Candidate candidate(String title, String author, KeycloakUser nominator) {
+    Candidate candidate = new Candidate(election, new Book(title, author), nominator);
+    candidate.setId(UUID.randomUUID());
+    return candidate;
+  }
+}
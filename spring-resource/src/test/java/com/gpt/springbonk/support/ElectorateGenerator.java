@@ -0,0 +1,444 @@
+package com.gpt.springbonk.support;
+
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.keycloak.KeycloakUser;
+import com.gpt.springbonk.model.BallotBox;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.Vote;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeded synthetic electorates for load, benchmark and differential tests.
+ * <p>
+ * A generator is an immutable description: a {@link PreferenceModel} over {@code candidateCount}
+ * candidates, a {@link Truncation} deciding how much of each ranking a voter fills in, an optional
+ * number of clones of the first candidate and a seed. The same description always yields the same
+ * ballots, in every output form:
+ * <ul>
+ *   <li>{@link #indexed(int)}, packed straight into arrays, cheap at a million ballots;</li>
+ *   <li>{@link #ballotBox(int)} and {@link #election(int)}, the entity-side shapes;</li>
+ *   <li>{@link #writeCopyScript(int, Writer)}, a psql script seeding Postgres with
+ *   {@code COPY ... FROM STDIN}, streamed ballot by ballot.</li>
+ * </ul>
+ * Candidate {@code i} of the reference order is candidate index {@code i} in every output; clones
+ * take the last indexes.
+ */
+public record ElectorateGenerator(
+    int candidateCount,
+    PreferenceModel model,
+    Truncation truncation,
+    int clones,
+    long seed
+) {
+  public static final long DEFAULT_SEED = 42L;
+
+  public ElectorateGenerator {
+    if (candidateCount < 1) {
+      throw new IllegalArgumentException("An electorate needs at least one candidate");
+    }
+    if (clones < 0 || clones >= candidateCount) {
+      throw new IllegalArgumentException("Clones must leave at least one original candidate");
+    }
+  }
+
+  /// Every ranking equally likely, every ballot complete.
+  public static ElectorateGenerator impartialCulture(int candidateCount) {
+    return new ElectorateGenerator(
+        candidateCount, new ImpartialCulture(), new Full(), 0, DEFAULT_SEED);
+  }
+
+  public ElectorateGenerator withModel(PreferenceModel model) {
+    return new ElectorateGenerator(candidateCount, model, truncation, clones, seed);
+  }
+
+  public ElectorateGenerator withTruncation(Truncation truncation) {
+    return new ElectorateGenerator(candidateCount, model, truncation, clones, seed);
+  }
+
+  /// Make the last {@code clones} candidates clones of candidate 0: ranked right after it.
+  public ElectorateGenerator withClones(int clones) {
+    return new ElectorateGenerator(candidateCount, model, truncation, clones, seed);
+  }
+
+  public ElectorateGenerator withSeed(long seed) {
+    return new ElectorateGenerator(candidateCount, model, truncation, clones, seed);
+  }
+
+  public UUID[] candidateIds() {
+    SplittableRandom random = new SplittableRandom(seed);
+    UUID[] candidateIds = new UUID[candidateCount];
+    for (int i = 0; i < candidateCount; i++) {
+      candidateIds[i] = randomId(random);
+    }
+    return candidateIds;
+  }
+
+  public IndexedBallotBox indexed(int ballotCount) {
+    int[] offsets = new int[ballotCount + 1];
+    int[][] preferences = {new int[Math.min(ballotCount, 1 << 16) * candidateCount]};
+    int[] size = {0};
+    forEachBallot(ballotCount, (ballot, ranking, length) -> {
+      if (size[0] + length > preferences[0].length) {
+        preferences[0] = Arrays.copyOf(preferences[0],
+            (int) Math.min(Integer.MAX_VALUE - 8, 2L * preferences[0].length + length));
+      }
+      System.arraycopy(ranking, 0, preferences[0], size[0], length);
+      size[0] += length;
+      offsets[ballot + 1] = size[0];
+    });
+    return IndexedBallotBox.of(
+        candidateIds(), Arrays.copyOf(preferences[0], size[0]), offsets);
+  }
+
+  /// The ballots of {@link #indexed(int)}, keyed by voter as the entity path builds them.
+  public BallotBox ballotBox(int ballotCount) {
+    UUID[] candidateIds = candidateIds();
+    List<Candidate> candidates = candidates(candidateIds, new Election());
+
+    BallotBox ballotBox = new BallotBox();
+    candidates.forEach(ballotBox::addCandidate);
+    forEachBallot(ballotCount, (ballot, ranking, length) -> {
+      List<UUID> orderedPreferences = new ArrayList<>(length);
+      for (int i = 0; i < length; i++) {
+        orderedPreferences.add(candidateIds[ranking[i]]);
+      }
+      ballotBox.addBallot(voter(ballot), orderedPreferences);
+    });
+    return ballotBox;
+  }
+
+  /// The ballots of {@link #indexed(int)}, as an election whose candidates carry their votes.
+  public Election election(int ballotCount) {
+    Election election = new Election();
+    List<Candidate> candidates = candidates(candidateIds(), election);
+    forEachBallot(ballotCount, (ballot, ranking, length) -> {
+      KeycloakUser voter = voter(ballot);
+      for (int i = 0; i < length; i++) {
+        Candidate candidate = candidates.get(ranking[i]);
+        candidate.addVote(new Vote(voter, candidate, i + 1));
+      }
+    });
+    election.setCandidates(candidates);
+    return election;
+  }
+
+  /**
+   * Write a psql script that seeds one {@link Status#INDEFINITE} election with these ballots: the
+   * voters and an owner in {@code keycloak_user}, one book per candidate, the election, its
+   * candidates and their votes, all in one transaction. Rows are written as they are generated,
+   * so the script can be far larger than memory. Load with {@code psql -f}. Voter ids depend only
+   * on the seed and ballot number, so seed each election in one database with its own seed.
+   *
+   * @return the id of the seeded election
+   */
+  public UUID writeCopyScript(int ballotCount, Writer out) {
+    UUID[] candidateIds = candidateIds();
+    SplittableRandom ids = new SplittableRandom(~seed);
+    UUID ownerId = randomId(ids);
+    UUID electionId = randomId(ids);
+    String now = LocalDateTime.of(2026, 1, 1, 0, 0).toString().replace('T', ' ');
+
+    try {
+      out.write("BEGIN;\n");
+
+      out.write("COPY keycloak_user (id, username, avatar) FROM STDIN;\n");
+      row(out, ownerId, "owner-" + seed, "");
+      for (int ballot = 0; ballot < ballotCount; ballot++) {
+        row(out, voterId(ballot), "voter-" + ballot, "");
+      }
+      out.write("\\.\n");
+
+      UUID[] bookIds = new UUID[candidateCount];
+      out.write("COPY books (id, title, author, created_date) FROM STDIN;\n");
+      for (int i = 0; i < candidateCount; i++) {
+        bookIds[i] = randomId(ids);
+        row(out, bookIds[i], "Book " + i, "Author " + i, now);
+      }
+      out.write("\\.\n");
+
+      out.write("COPY elections (id, title, user_id, created_date, status) FROM STDIN;\n");
+      row(out, electionId, "Synthetic election " + seed, ownerId, now, Status.INDEFINITE);
+      out.write("\\.\n");
+
+      out.write("COPY candidates (id, created_date, election_id, book_id, nominator_id) "
+          + "FROM STDIN;\n");
+      for (int i = 0; i < candidateCount; i++) {
+        row(out, candidateIds[i], now, electionId, bookIds[i], ownerId);
+      }
+      out.write("\\.\n");
+
+      out.write("COPY votes (id, voter_id, candidate_id, rank) FROM STDIN;\n");
+      forEachBallot(ballotCount, (ballot, ranking, length) -> {
+        UUID voterId = voterId(ballot);
+        for (int i = 0; i < length; i++) {
+          row(out, randomId(ids), voterId, candidateIds[ranking[i]], i + 1);
+        }
+      });
+      out.write("\\.\n");
+
+      out.write("COMMIT;\n");
+      out.flush();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return electionId;
+  }
+
+  /**
+   * Generate {@code ballotCount} ballots in order. The ranking array is reused between calls;
+   * only its first {@code length} entries are the ballot.
+   */
+  public void forEachBallot(int ballotCount, BallotConsumer consumer) {
+    SplittableRandom random = new SplittableRandom(seed);
+    int originals = candidateCount - clones;
+    PreferenceModel.Sampler sampler = model.sampler(originals, random.split());
+
+    int[] base = new int[originals];
+    int[] ranking = new int[candidateCount];
+    int[] cloneOrder = new int[clones];
+    for (int i = 0; i < clones; i++) {
+      cloneOrder[i] = originals + i;
+    }
+
+    for (int ballot = 0; ballot < ballotCount; ballot++) {
+      sampler.rank(base, random);
+
+      int next = 0;
+      for (int candidate : base) {
+        ranking[next++] = candidate;
+        if (candidate == 0 && clones > 0) {
+          shuffle(cloneOrder, random);
+          System.arraycopy(cloneOrder, 0, ranking, next, clones);
+          next += clones;
+        }
+      }
+
+      int length = truncation.length(candidateCount, random);
+      length = Math.max(1, Math.min(candidateCount, length));
+      consumer.accept(ballot, ranking, length);
+    }
+  }
+
+  private void row(Writer out, Object... values) {
+    try {
+      for (int i = 0; i < values.length; i++) {
+        if (i > 0) {
+          out.write('\t');
+        }
+        out.write(String.valueOf(values[i]));
+      }
+      out.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private List<Candidate> candidates(UUID[] candidateIds, Election election) {
+    List<Candidate> candidates = new ArrayList<>(candidateIds.length);
+    for (UUID candidateId : candidateIds) {
+      Candidate candidate = new Candidate(election, null, null);
+      candidate.setId(candidateId);
+      candidates.add(candidate);
+    }
+    return candidates;
+  }
+
+  private KeycloakUser voter(int ballot) {
+    KeycloakUser voter = new KeycloakUser();
+    voter.setId(voterId(ballot));
+    voter.setUsername("voter-" + ballot);
+    return voter;
+  }
+
+  private UUID voterId(int ballot) {
+    return new UUID(seed, ballot);
+  }
+
+  private static UUID randomId(SplittableRandom random) {
+    return new UUID(random.nextLong(), random.nextLong());
+  }
+
+  private static void shuffle(int[] values, SplittableRandom random) {
+    for (int i = values.length - 1; i > 0; i--) {
+      int j = random.nextInt(i + 1);
+      int swap = values[i];
+      values[i] = values[j];
+      values[j] = swap;
+    }
+  }
+
+  @FunctionalInterface
+  public interface BallotConsumer {
+    void accept(int ballot, int[] ranking, int length);
+  }
+
+  // region Preference models
+
+  /// How a voter orders the original (non-clone) candidates.
+  public sealed interface PreferenceModel permits ImpartialCulture, Mallows, Spatial {
+    /// Per-electorate state, e.g. candidate positions, drawn once from {@code random}.
+    Sampler sampler(int candidateCount, SplittableRandom random);
+
+    @FunctionalInterface
+    interface Sampler {
+      /// Fill {@code ranking} with a full ranking of candidates {@code 0..ranking.length - 1}.
+      void rank(int[] ranking, SplittableRandom random);
+    }
+  }
+
+  /// Uniformly random rankings.
+  public record ImpartialCulture() implements PreferenceModel {
+    @Override
+    public Sampler sampler(int candidateCount, SplittableRandom random) {
+      return (ranking, ballotRandom) -> {
+        for (int i = 0; i < ranking.length; i++) {
+          ranking[i] = i;
+        }
+        shuffle(ranking, ballotRandom);
+      };
+    }
+  }
+
+  /**
+   * Rankings scattered around the reference order {@code 0, 1, 2, ...}: a ranking {@code d}
+   * swaps away from it has probability proportional to {@code dispersion^d}. Zero gives the
+   * reference order on every ballot, one is impartial culture.
+   * <p>
+   * Sampled by repeated insertion: candidate {@code i} goes {@code k} places above the bottom of
+   * the first {@code i} with probability proportional to {@code dispersion^k}, drawn directly from
+   * the truncated geometric distribution.
+   */
+  public record Mallows(double dispersion) implements PreferenceModel {
+    public Mallows {
+      if (dispersion < 0 || dispersion > 1) {
+        throw new IllegalArgumentException("Mallows dispersion must be within [0, 1]");
+      }
+    }
+
+    @Override
+    public Sampler sampler(int candidateCount, SplittableRandom random) {
+      return (ranking, ballotRandom) -> {
+        for (int i = 0; i < ranking.length; i++) {
+          int displacement = displacement(i, ballotRandom);
+          int position = i - displacement;
+          System.arraycopy(ranking, position, ranking, position + 1, displacement);
+          ranking[position] = i;
+        }
+      };
+    }
+
+    private int displacement(int maximum, SplittableRandom random) {
+      if (dispersion == 0 || maximum == 0) {
+        return 0;
+      }
+      if (dispersion == 1) {
+        return random.nextInt(maximum + 1);
+      }
+      double u = random.nextDouble();
+      double tail = 1 - Math.pow(dispersion, maximum + 1);
+      int displacement = (int) (Math.log(1 - u * tail) / Math.log(dispersion));
+      return Math.min(displacement, maximum);
+    }
+  }
+
+  /**
+   * Voters and candidates are uniform points in a {@code dimensions}-dimensional unit cube; each
+   * voter ranks candidates nearest first. One dimension is a left-right spectrum.
+   */
+  public record Spatial(int dimensions) implements PreferenceModel {
+    public Spatial {
+      if (dimensions < 1) {
+        throw new IllegalArgumentException("Spatial models need at least one dimension");
+      }
+    }
+
+    @Override
+    public Sampler sampler(int candidateCount, SplittableRandom random) {
+      double[][] positions = new double[candidateCount][dimensions];
+      for (double[] position : positions) {
+        for (int d = 0; d < dimensions; d++) {
+          position[d] = random.nextDouble();
+        }
+      }
+
+      double[] voter = new double[dimensions];
+      double[] distances = new double[candidateCount];
+      Integer[] order = new Integer[candidateCount];
+      return (ranking, ballotRandom) -> {
+        for (int d = 0; d < dimensions; d++) {
+          voter[d] = ballotRandom.nextDouble();
+        }
+        for (int c = 0; c < candidateCount; c++) {
+          double distance = 0;
+          for (int d = 0; d < dimensions; d++) {
+            double delta = positions[c][d] - voter[d];
+            distance += delta * delta;
+          }
+          distances[c] = distance;
+          order[c] = c;
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(distances[a], distances[b]));
+        for (int c = 0; c < candidateCount; c++) {
+          ranking[c] = order[c];
+        }
+      };
+    }
+  }
+
+  // endregion
+
+  // region Truncation
+
+  /// How many preferences of a full ranking a voter writes down. Always at least one.
+  public sealed interface Truncation permits Full, Fixed, Uniform, Geometric {
+    int length(int candidateCount, SplittableRandom random);
+  }
+
+  /// Every candidate ranked.
+  public record Full() implements Truncation {
+    @Override
+    public int length(int candidateCount, SplittableRandom random) {
+      return candidateCount;
+    }
+  }
+
+  /// The top {@code preferences} candidates only.
+  public record Fixed(int preferences) implements Truncation {
+    @Override
+    public int length(int candidateCount, SplittableRandom random) {
+      return preferences;
+    }
+  }
+
+  /// Between one and {@code maxPreferences} preferences, uniformly.
+  public record Uniform(int maxPreferences) implements Truncation {
+    @Override
+    public int length(int candidateCount, SplittableRandom random) {
+      return 1 + random.nextInt(Math.min(candidateCount, Math.max(1, maxPreferences)));
+    }
+  }
+
+  /// After each preference the voter carries on with probability {@code continuation}.
+  public record Geometric(double continuation) implements Truncation {
+    @Override
+    public int length(int candidateCount, SplittableRandom random) {
+      int length = 1;
+      while (length < candidateCount && random.nextDouble() < continuation) {
+        length++;
+      }
+      return length;
+    }
+  }
+
+  // endregion
+}
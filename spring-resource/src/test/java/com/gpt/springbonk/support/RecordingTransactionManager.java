@@ -0,0 +1,98 @@
+package com.gpt.springbonk.support;
+
+import java.io.Serial;
+import lombok.Getter;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionManager;
+import org.springframework.transaction.annotation.AnnotationTransactionAttributeSource;
+import org.springframework.transaction.interceptor.TransactionInterceptor;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+
+/**
+ * An in-memory transaction manager for unit tests that need Spring's transaction semantics
+ * without a database: propagation into an existing transaction, participants marking the whole
+ * transaction rollback-only, and the {@code UnexpectedRollbackException} a commit then throws.
+ * <p>
+ * {@link #proxy} wraps a service the way the application context does, reading the same
+ * {@code @Transactional} annotations.
+ */
+public class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+  @Serial
+  private static final long serialVersionUID = 1L;
+
+  private final transient ThreadLocal<Transaction> current = new ThreadLocal<>();
+  @Getter
+  private int commits;
+  @Getter
+  private int rollbacks;
+
+  public <T> T proxy(T target, Class<T> type) {
+    ProxyFactory factory = new ProxyFactory(target);
+    factory.setInterfaces(type);
+    factory.addAdvice(new TransactionInterceptor(
+        (TransactionManager) this, new AnnotationTransactionAttributeSource()));
+    return type.cast(factory.getProxy());
+  }
+
+  @Override
+  protected Object doGetTransaction() {
+    return new Participant(current.get());
+  }
+
+  @Override
+  protected boolean isExistingTransaction(Object transaction) {
+    return ((Participant) transaction).transaction != null;
+  }
+
+  @Override
+  protected void doBegin(Object transaction, TransactionDefinition definition) {
+    Participant participant = (Participant) transaction;
+    participant.transaction = new Transaction();
+    current.set(participant.transaction);
+  }
+
+  @Override
+  protected void doCommit(DefaultTransactionStatus status) {
+    commits++;
+  }
+
+  @Override
+  protected void doRollback(DefaultTransactionStatus status) {
+    rollbacks++;
+  }
+
+  @Override
+  protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+    ((Participant) status.getTransaction()).transaction.rollbackOnly = true;
+  }
+
+  @Override
+  protected void doCleanupAfterCompletion(Object transaction) {
+    current.remove();
+  }
+
+  private static final class Transaction {
+    private boolean rollbackOnly;
+  }
+
+  /// One caller's view of the thread's transaction, as each {@link #doGetTransaction} returns.
+  private static final class Participant implements SmartTransactionObject {
+    private Transaction transaction;
+
+    private Participant(Transaction transaction) {
+      this.transaction = transaction;
+    }
+
+    @Override
+    public boolean isRollbackOnly() {
+      return transaction != null && transaction.rollbackOnly;
+    }
+
+    @Override
+    public void flush() {
+    }
+  }
+}
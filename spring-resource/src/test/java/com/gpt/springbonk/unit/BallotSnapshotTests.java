@@ -0,0 +1,239 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.model.BallotSnapshot;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionCandidateEntry;
+import com.gpt.springbonk.model.record.ElectionRankedBallotEntry;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
+import com.gpt.springbonk.repository.BallotSnapshotRepository;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.impl.BallotSnapshotServiceImpl;
+import com.gpt.springbonk.support.ElectionFixture;
+import com.gpt.springbonk.util.BallotSnapshotCodec;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.gpt.springbonk.util.BallotUtility.processCandidates;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BallotSnapshotTests {
+  private final ElectionFixture fixture = new ElectionFixture();
+  private final Election election = fixture.getElection();
+  private final Candidate blue = fixture.getBlue();
+  private final Candidate red = fixture.getRed();
+  private final Candidate yellow = fixture.getYellow();
+  private final Candidate green = fixture.getGreen();
+
+  @Nested
+  class CodecTests {
+    @Test
+    void decode_shouldRoundTrip_withFourBallots() {
+      fixture.vote(fixture.getJim(), blue, red, yellow, green);
+      fixture.vote(fixture.getJane(), green, red, blue, yellow);
+      fixture.vote(fixture.getJohn(), red, green, yellow, blue);
+      fixture.vote(fixture.getJade(), yellow, blue, green, red);
+
+      IndexedBallotBox expected = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+      IndexedBallotBox actual = BallotSnapshotCodec.decode(BallotSnapshotCodec.encode(expected));
+
+      assertArrayEquals(expected.getCandidateIds(), actual.getCandidateIds());
+      assertArrayEquals(expected.getPreferences(), actual.getPreferences());
+      assertArrayEquals(expected.getOffsets(), actual.getOffsets());
+      assertEquals(expected.indexOf(red.getId()), actual.indexOf(red.getId()));
+    }
+
+    @Test
+    void decode_shouldRoundTrip_withWideIndexesAndEmptyBallots() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      List<UUID> candidates = new ArrayList<>();
+      for (int i = 0; i < 300; i++) {
+        candidates.add(UUID.randomUUID());
+        builder.addCandidate(candidates.getLast());
+      }
+      builder.addBallot(List.of(candidates.get(299), candidates.get(0), candidates.get(128)));
+      builder.addBallot(List.of());
+      builder.addBallot(candidates);
+
+      IndexedBallotBox expected = builder.build();
+      IndexedBallotBox actual = BallotSnapshotCodec.decode(BallotSnapshotCodec.encode(expected));
+
+      assertEquals(3, actual.getBallotCount());
+      assertArrayEquals(expected.getPreferences(), actual.getPreferences());
+      assertArrayEquals(expected.getOffsets(), actual.getOffsets());
+    }
+
+    @Test
+    void decode_shouldReject_unknownFormat() {
+      byte[] payload = BallotSnapshotCodec.encode(new IndexedBallotBox.Builder().build());
+      payload[0] = 99;
+
+      assertThrows(IllegalArgumentException.class, () -> BallotSnapshotCodec.decode(payload));
+      assertThrows(IllegalArgumentException.class,
+          () -> BallotSnapshotCodec.decode(new byte[] {BallotSnapshotCodec.FORMAT_VERSION, 1}));
+    }
+
+    @Test
+    void decode_shouldReject_countsThePayloadCannotHold() {
+      byte version = BallotSnapshotCodec.FORMAT_VERSION;
+      byte[][] corrupt = {
+          // A candidate count that reads as negative.
+          {version, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F},
+          // Two million candidates in a handful of bytes.
+          {version, (byte) 0x80, (byte) 0x80, 0x01},
+          // No candidates, then a ballot count far beyond the payload.
+          {version, 0, (byte) 0xFF, (byte) 0xFF, 0x7F},
+          // One empty-candidate ballot claiming a hundred preferences.
+          {version, 0, 1, 100, 0},
+          // A trailing byte after the last ballot.
+          {version, 0, 1, 0, 0},
+          null
+      };
+
+      for (byte[] payload : corrupt) {
+        assertThrows(IllegalArgumentException.class, () -> BallotSnapshotCodec.decode(payload));
+      }
+    }
+
+    @Test
+    void decode_shouldOnlyThrowIllegalArgument_forDamagedPayloads() {
+      fixture.castBlueByAttrition();
+      byte[] valid = BallotSnapshotCodec.encode(
+          IndexedBallotBox.of(processCandidates(election.getCandidates())));
+      Random random = new Random(6);
+
+      for (int length = 0; length < valid.length; length++) {
+        byte[] truncated = Arrays.copyOf(valid, length);
+        assertThrows(IllegalArgumentException.class, () -> BallotSnapshotCodec.decode(truncated));
+      }
+      for (int i = 0; i < 2_000; i++) {
+        byte[] damaged = valid.clone();
+        damaged[1 + random.nextInt(valid.length - 1)] = (byte) random.nextInt(256);
+        try {
+          IndexedBallotBox decoded = BallotSnapshotCodec.decode(damaged);
+          assertTrue(Arrays.stream(decoded.getPreferences())
+              .allMatch(index -> index >= 0 && index < decoded.getCandidateCount()));
+        } catch (IllegalArgumentException expected) {
+          // Detected as corrupt.
+        }
+      }
+    }
+  }
+
+  @Nested
+  class ServiceTests {
+    private final ElectionRepository electionRepository = mock(ElectionRepository.class);
+    private final BallotSnapshotRepository snapshotRepository =
+        mock(BallotSnapshotRepository.class);
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final VoteRepository voteRepository = mock(VoteRepository.class);
+    private final BallotSnapshotServiceImpl snapshots = new BallotSnapshotServiceImpl(
+        electionRepository, snapshotRepository, candidateRepository, voteRepository);
+
+    /// Stubs the single and bulk compile queries with the election's candidates and ballots.
+    private void compilable(Election target, List<UUID> candidateIds,
+        List<RankedBallotEntry> ballots) {
+      when(candidateRepository.findIdsByElectionId(target.getId())).thenReturn(candidateIds);
+      when(candidateRepository.findIdsByElectionIds(List.of(target.getId()))).thenReturn(
+          candidateIds.stream().map(id -> new ElectionCandidateEntry(target.getId(), id))
+              .toList());
+      when(voteRepository.streamRankedBallots(target.getId()))
+          .thenAnswer(invocation -> ballots.stream());
+      when(voteRepository.streamRankedBallotsByElectionIds(List.of(target.getId())))
+          .thenAnswer(invocation -> ballots.stream().map(entry -> new ElectionRankedBallotEntry(
+              target.getId(), entry.voterId(), entry.candidateId(), entry.rank())));
+    }
+
+    @Test
+    void getBallotBoxes_shouldLeaveOutElectionsThatCannotBeCompiled() {
+      fixture.castBlueByAttrition();
+      election.setId(UUID.randomUUID());
+      Election empty = new Election();
+      empty.setId(UUID.randomUUID());
+
+      BallotSnapshotService ballots =
+          target -> IndexedBallotBox.of(processCandidates(target.getCandidates()));
+      Map<UUID, IndexedBallotBox> boxes = ballots.getBallotBoxes(List.of(election, empty));
+
+      assertEquals(Set.of(election.getId()), boxes.keySet());
+      assertEquals(blue.getId(),
+          new InstantRunoffService().conductElection(boxes.get(election.getId())).winnerId());
+    }
+
+    @Test
+    void getBallotBoxes_shouldLeaveOutElectionsWithoutCandidatesOrVotes() {
+      fixture.castBlueByAttrition();
+      election.setId(UUID.randomUUID());
+      ElectionFixture unvoted = new ElectionFixture();
+      unvoted.getElection().setId(UUID.randomUUID());
+      Election empty = new Election();
+      empty.setId(UUID.randomUUID());
+
+      List<ElectionCandidateEntry> candidates = new ArrayList<>();
+      for (ElectionFixture withCandidates : List.of(fixture, unvoted)) {
+        UUID electionId = withCandidates.getElection().getId();
+        withCandidates.candidateIds()
+            .forEach(id -> candidates.add(new ElectionCandidateEntry(electionId, id)));
+      }
+      when(snapshotRepository.findAllById(any())).thenReturn(List.of());
+      when(candidateRepository.findIdsByElectionIds(any())).thenReturn(candidates);
+      when(voteRepository.streamRankedBallotsByElectionIds(any()))
+          .thenAnswer(invocation -> fixture.rankedBallots().stream().map(entry ->
+              new ElectionRankedBallotEntry(
+                  election.getId(), entry.voterId(), entry.candidateId(), entry.rank())));
+
+      Map<UUID, IndexedBallotBox> boxes =
+          snapshots.getBallotBoxes(List.of(election, unvoted.getElection(), empty));
+
+      assertEquals(Set.of(election.getId()), boxes.keySet());
+      assertEquals(4, boxes.get(election.getId()).getBallotCount());
+    }
+
+    @Test
+    void getBallotBoxes_shouldRecompile_unreadableSnapshots() {
+      fixture.castBlueByAttrition();
+      election.setId(UUID.randomUUID());
+      election.setBallotVersion(3);
+      BallotSnapshot corrupt = new BallotSnapshot();
+      corrupt.setElectionId(election.getId());
+      corrupt.setBallotVersion(3);
+      corrupt.setPayload(new byte[] {BallotSnapshotCodec.FORMAT_VERSION, (byte) 0x80, 0x7F});
+
+      when(electionRepository.findBallotVersion(election.getId())).thenReturn(Optional.of(3L));
+      when(snapshotRepository.findById(election.getId())).thenReturn(Optional.of(corrupt));
+      when(snapshotRepository.findAllById(Set.of(election.getId())))
+          .thenReturn(List.of(corrupt));
+      compilable(election, fixture.candidateIds(), fixture.rankedBallots());
+
+      IndexedBallotBox single = snapshots.getBallotBox(election);
+      IndexedBallotBox bulk = snapshots.getBallotBoxes(List.of(election)).get(election.getId());
+
+      InstantRunoffService instantRunoff = new InstantRunoffService();
+      assertEquals(4, single.getBallotCount());
+      assertEquals(blue.getId(), instantRunoff.conductElection(single).winnerId());
+      assertArrayEquals(single.getPreferences(), bulk.getPreferences());
+      verify(snapshotRepository).upsert(eq(election.getId()), eq(3L), eq(4), any());
+    }
+  }
+}
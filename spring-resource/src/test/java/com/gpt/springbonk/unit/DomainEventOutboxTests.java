@@ -0,0 +1,205 @@
+package com.gpt.springbonk.unit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gpt.springbonk.config.OutboxProperties;
+import com.gpt.springbonk.model.OutboxEvent;
+import com.gpt.springbonk.repository.OutboxEventRepository;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.event.ElectionChangedEvent;
+import com.gpt.springbonk.service.event.ElectionClosedEvent;
+import com.gpt.springbonk.service.event.ElectionOpenedEvent;
+import com.gpt.springbonk.service.event.ReviewLikedEvent;
+import com.gpt.springbonk.service.impl.DomainEventOutboxServiceImpl;
+import com.gpt.springbonk.service.impl.DomainEventRelayServiceImpl;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class DomainEventOutboxTests {
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void backoffAfter_shouldDoubleUpToTheCap() {
+    OutboxProperties properties = OutboxProperties.defaults();
+
+    assertEquals(Duration.ofSeconds(5), properties.backoffAfter(1));
+    assertEquals(Duration.ofSeconds(20), properties.backoffAfter(3));
+    assertEquals(Duration.ofMinutes(10), properties.backoffAfter(9));
+    assertEquals(Duration.ofMinutes(10), properties.backoffAfter(1_000));
+  }
+
+  @Test
+  void outboxEvents_shouldSurviveTheJsonRoundTrip() throws Exception {
+    List<Object> events = List.of(
+        new ElectionOpenedEvent(UUID.randomUUID(), "Spring reading"),
+        new ElectionClosedEvent(UUID.randomUUID(), "Spring reading", null),
+        new ReviewLikedEvent(UUID.randomUUID(), UUID.randomUUID(), "jim", UUID.randomUUID(),
+            UUID.randomUUID(), "The Blue Book"));
+
+    for (Object event : events) {
+      String payload = objectMapper.writeValueAsString(event);
+      assertEquals(event, objectMapper.readValue(payload, event.getClass()));
+    }
+  }
+
+  @Nested
+  class OutboxServiceTests {
+    private final OutboxEventRepository outboxEventRepository = mock(OutboxEventRepository.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final DomainEventOutboxServiceImpl outboxService = new DomainEventOutboxServiceImpl(
+        outboxEventRepository, objectMapper, publisher, OutboxProperties.defaults());
+
+    private OutboxEvent stored(long id, Object event, int attempts) throws Exception {
+      OutboxEvent outboxEvent = new OutboxEvent(event.getClass().getSimpleName(),
+          objectMapper.writeValueAsString(event), ZonedDateTime.now());
+      outboxEvent.setId(id);
+      outboxEvent.setAttempts(attempts);
+      when(outboxEventRepository.lockById(id)).thenReturn(Optional.of(outboxEvent));
+      when(outboxEventRepository.findById(id)).thenReturn(Optional.of(outboxEvent));
+      return outboxEvent;
+    }
+
+    @Test
+    void enqueue_shouldRejectUnregisteredTypes() {
+      assertThrows(IllegalArgumentException.class,
+          () -> outboxService.enqueue(new ElectionChangedEvent(UUID.randomUUID())));
+      assertThrows(IllegalArgumentException.class, () -> outboxService.enqueue("ElectionOpened"));
+      verify(outboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    void enqueue_shouldStoreTheEvent_underItsTypeName() throws Exception {
+      ElectionOpenedEvent event = new ElectionOpenedEvent(UUID.randomUUID(), "Spring reading");
+
+      outboxService.enqueue(event);
+
+      ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+      verify(outboxEventRepository).save(saved.capture());
+      assertEquals("ElectionOpenedEvent", saved.getValue().getEventType());
+      assertEquals(event,
+          objectMapper.readValue(saved.getValue().getPayload(), ElectionOpenedEvent.class));
+      assertEquals(0, saved.getValue().getAttempts());
+    }
+
+    @Test
+    void relay_shouldPublish_thenDelete() throws Exception {
+      ElectionClosedEvent event =
+          new ElectionClosedEvent(UUID.randomUUID(), "Spring reading", "The Blue Book");
+      OutboxEvent outboxEvent = stored(7L, event, 0);
+
+      assertTrue(outboxService.relay(7L));
+
+      InOrder delivery = inOrder(publisher, outboxEventRepository);
+      delivery.verify(publisher).publishEvent((Object) event);
+      delivery.verify(outboxEventRepository).delete(outboxEvent);
+    }
+
+    @Test
+    void relay_shouldSkipEvents_lockedByAnotherRelay() {
+      when(outboxEventRepository.lockById(7L)).thenReturn(Optional.empty());
+
+      assertFalse(outboxService.relay(7L));
+
+      verify(publisher, never()).publishEvent(any(Object.class));
+      verify(outboxEventRepository, never()).delete(any());
+    }
+
+    @Test
+    void relay_shouldKeepTheEvent_whenAListenerFails() throws Exception {
+      stored(7L, new ElectionOpenedEvent(UUID.randomUUID(), "Spring reading"), 0);
+      doThrow(new IllegalStateException("mail server down"))
+          .when(publisher).publishEvent(any(Object.class));
+
+      assertThrows(IllegalStateException.class, () -> outboxService.relay(7L));
+
+      verify(outboxEventRepository, never()).delete(any());
+    }
+
+    @Test
+    void recordFailure_shouldBackOff_andKeepTheError() throws Exception {
+      OutboxEvent outboxEvent =
+          stored(7L, new ElectionOpenedEvent(UUID.randomUUID(), "Spring reading"), 2);
+      ZonedDateTime before = ZonedDateTime.now();
+
+      outboxService.recordFailure(7L, "x".repeat(5_000));
+
+      assertEquals(3, outboxEvent.getAttempts());
+      assertFalse(outboxEvent.getAvailableAt().isBefore(before.plusSeconds(20)));
+      assertTrue(outboxEvent.getAvailableAt().isBefore(before.plusSeconds(21)));
+      assertEquals(2000, outboxEvent.getLastError().length());
+    }
+  }
+
+  @Nested
+  class RelayServiceTests {
+    private final DomainEventOutboxService outbox = mock(DomainEventOutboxService.class);
+
+    /// A relay over the mocked outbox, with batches of two.
+    private final DomainEventRelayServiceImpl relay = new DomainEventRelayServiceImpl(outbox,
+        new OutboxProperties(
+            Duration.ofSeconds(1), 2, 10, Duration.ofSeconds(5), Duration.ofMinutes(10)));
+
+    @Test
+    void drain_shouldRecordFailures_andCarryOn() {
+      when(outbox.findReady(2)).thenReturn(List.of(1L));
+      when(outbox.relay(1L)).thenThrow(new IllegalStateException("mail server down"));
+
+      assertEquals(0, relay.drain());
+
+      verify(outbox).recordFailure(eq(1L), contains("mail server down"));
+    }
+
+    @Test
+    void drain_shouldStop_onAShortBatch() {
+      when(outbox.findReady(2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of(3L));
+      when(outbox.relay(anyLong())).thenReturn(true);
+
+      assertEquals(3, relay.drain());
+
+      verify(outbox, times(2)).findReady(2);
+    }
+
+    @Test
+    void drain_shouldStop_onAnEmptyBatch() {
+      when(outbox.findReady(2)).thenReturn(List.of(1L, 2L)).thenReturn(List.of());
+      when(outbox.relay(anyLong())).thenReturn(true);
+
+      assertEquals(2, relay.drain());
+
+      verify(outbox, times(2)).findReady(2);
+    }
+
+    @Test
+    void drain_shouldStop_whenAnotherRelayHoldsTheWholeBatch() {
+      when(outbox.findReady(2)).thenReturn(List.of(1L, 2L));
+      when(outbox.relay(anyLong())).thenReturn(false);
+
+      assertEquals(0, relay.drain());
+
+      verify(outbox, times(1)).findReady(2);
+    }
+  }
+}
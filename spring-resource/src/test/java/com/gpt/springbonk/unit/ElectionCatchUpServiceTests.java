@@ -0,0 +1,198 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.record.ElectionCandidateEntry;
+import com.gpt.springbonk.model.record.ElectionRankedBallotEntry;
+import com.gpt.springbonk.repository.BallotSnapshotRepository;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ElectionResultRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.event.ElectionClosedEvent;
+import com.gpt.springbonk.service.impl.BallotSnapshotServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionCatchUpServiceImpl;
+import com.gpt.springbonk.support.ElectionFixture;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.FULL_WAY_TIE;
+import static com.gpt.springbonk.util.BallotUtility.processCandidates;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class ElectionCatchUpServiceTests {
+  private final ElectionFixture fixture = new ElectionFixture();
+  private final Election election = fixture.getElection();
+  private final Candidate blue = fixture.getBlue();
+  private final Election empty = new Election();
+
+  private final ElectionRepository electionRepository = mock(ElectionRepository.class);
+  private final ElectionResultRepository electionResultRepository =
+      mock(ElectionResultRepository.class);
+  private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+  private final BallotSnapshotService ballotSnapshotService = mock(BallotSnapshotService.class);
+  private final ElectionClosureJobService jobService = mock(ElectionClosureJobService.class);
+  private final PairwiseMatrixService pairwiseMatrixService = mock(PairwiseMatrixService.class);
+  private final DomainEventOutboxService outboxService = mock(DomainEventOutboxService.class);
+
+  @BeforeEach
+  void overduePage() {
+    fixture.castBlueByAttrition();
+    election.setId(UUID.randomUUID());
+    election.setTitle("Spring reading");
+    election.setStatus(Status.OPEN);
+    election.setEndDateTime(ZonedDateTime.now().minusDays(1));
+
+    empty.setId(UUID.randomUUID());
+    empty.setTitle("Empty shelf");
+    empty.setStatus(Status.OPEN);
+    empty.setEndDateTime(ZonedDateTime.now().minusDays(2));
+
+    when(electionRepository.lockOverdue(any(), eq(10))).thenReturn(List.of(election, empty));
+    // The empty election has no candidates, so it has no ballot box.
+    when(ballotSnapshotService.getBallotBoxes(List.of(election, empty))).thenReturn(Map.of(
+        election.getId(), IndexedBallotBox.of(processCandidates(election.getCandidates()))));
+    when(candidateRepository.findAllWithBookByIdIn(List.of(blue.getId())))
+        .thenReturn(List.of(blue));
+  }
+
+  private ElectionCatchUpServiceImpl catchUp(InstantRunoffService instantRunoffService) {
+    return new ElectionCatchUpServiceImpl(
+        electionRepository, electionResultRepository, candidateRepository,
+        ballotSnapshotService, instantRunoffService, jobService, pairwiseMatrixService,
+        outboxService);
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ElectionResult> savedResults() {
+    ArgumentCaptor<List<ElectionResult>> saved = ArgumentCaptor.forClass(List.class);
+    verify(electionResultRepository).saveAll(saved.capture());
+    return saved.getValue();
+  }
+
+  @Test
+  void closeOverduePage_shouldCloseThePage_andFlagUntabulatableElections() {
+    ZonedDateTime before = ZonedDateTime.now();
+
+    List<UUID> closed = catchUp(new InstantRunoffService()).closeOverduePage(10);
+
+    assertEquals(List.of(election.getId(), empty.getId()), closed);
+    List<ElectionResult> results = savedResults();
+    assertEquals(2, results.size());
+    assertEquals(blue.getId(), results.get(0).getWinnerId());
+    assertTrue(results.get(0).getFlags().isEmpty());
+    assertNull(results.get(1).getWinnerId());
+    assertEquals(List.of(Flag.SCHEDULING_ERROR), results.get(1).getFlags());
+
+    for (Election closedElection : List.of(election, empty)) {
+      assertEquals(Status.CLOSED, closedElection.getStatus());
+      assertFalse(closedElection.getEndDateTime().isBefore(before));
+    }
+    verify(electionRepository).flush();
+  }
+
+  @Test
+  void closeOverduePage_shouldFlagTheResult_whenTabulationFails() {
+    InstantRunoffService failing = mock(InstantRunoffService.class);
+    when(failing.conductElection(any(IndexedBallotBox.class)))
+        .thenThrow(new ElectionCannotBeCompletedException(FULL_WAY_TIE));
+
+    assertEquals(2, catchUp(failing).closeOverduePage(10).size());
+
+    assertTrue(savedResults().stream()
+        .allMatch(result -> result.getFlags().equals(List.of(Flag.SCHEDULING_ERROR))));
+    assertEquals(Status.CLOSED, election.getStatus());
+    verify(outboxService).enqueue(
+        new ElectionClosedEvent(election.getId(), "Spring reading", null));
+  }
+
+  @Test
+  void closeOverduePage_shouldRemoveTheJobs_inOneCall_andAnnounceEachClosure() {
+    catchUp(new InstantRunoffService()).closeOverduePage(10);
+
+    verify(jobService).removeAll(List.of(election.getId(), empty.getId()));
+    verifyNoMoreInteractions(jobService);
+    verify(outboxService).enqueue(
+        new ElectionClosedEvent(election.getId(), "Spring reading", "The Blue Book"));
+    verify(outboxService).enqueue(new ElectionClosedEvent(empty.getId(), "Empty shelf", null));
+    verify(pairwiseMatrixService).evict(election.getId());
+    verify(pairwiseMatrixService).evict(empty.getId());
+  }
+
+  @Test
+  void closeOverduePage_shouldFlagElectionsWithoutVotes_andCloseTheRestOfThePage() {
+    ElectionFixture unvoted = new ElectionFixture();
+    Election noVotes = unvoted.getElection();
+    noVotes.setId(UUID.randomUUID());
+    noVotes.setTitle("Nobody voted");
+    noVotes.setStatus(Status.OPEN);
+    noVotes.setEndDateTime(ZonedDateTime.now().minusDays(3));
+    when(electionRepository.lockOverdue(any(), eq(10))).thenReturn(List.of(noVotes, election));
+
+    // The real snapshot service, compiling both elections from their (missing) votes.
+    BallotSnapshotRepository snapshotRepository = mock(BallotSnapshotRepository.class);
+    VoteRepository voteRepository = mock(VoteRepository.class);
+    List<ElectionCandidateEntry> candidates = new ArrayList<>();
+    for (ElectionFixture withCandidates : List.of(unvoted, fixture)) {
+      UUID electionId = withCandidates.getElection().getId();
+      withCandidates.candidateIds()
+          .forEach(id -> candidates.add(new ElectionCandidateEntry(electionId, id)));
+    }
+    when(snapshotRepository.findAllById(any())).thenReturn(List.of());
+    when(candidateRepository.findIdsByElectionIds(any())).thenReturn(candidates);
+    when(voteRepository.streamRankedBallotsByElectionIds(any()))
+        .thenAnswer(invocation -> fixture.rankedBallots().stream().map(entry ->
+            new ElectionRankedBallotEntry(
+                election.getId(), entry.voterId(), entry.candidateId(), entry.rank())));
+    ElectionCatchUpServiceImpl catchUp = new ElectionCatchUpServiceImpl(
+        electionRepository, electionResultRepository, candidateRepository,
+        new BallotSnapshotServiceImpl(
+            electionRepository, snapshotRepository, candidateRepository, voteRepository),
+        new InstantRunoffService(), jobService, pairwiseMatrixService, outboxService);
+
+    assertEquals(List.of(noVotes.getId(), election.getId()), catchUp.closeOverduePage(10));
+
+    List<ElectionResult> results = savedResults();
+    assertEquals(List.of(Flag.SCHEDULING_ERROR), results.get(0).getFlags());
+    assertEquals(blue.getId(), results.get(1).getWinnerId());
+    assertEquals(Status.CLOSED, noVotes.getStatus());
+    verify(jobService).removeAll(List.of(noVotes.getId(), election.getId()));
+    verify(outboxService).enqueue(new ElectionClosedEvent(noVotes.getId(), "Nobody voted", null));
+  }
+
+  @Test
+  void closeOverduePage_shouldStop_onAnEmptyPage() {
+    when(electionRepository.lockOverdue(any(), eq(10))).thenReturn(List.of());
+
+    assertTrue(catchUp(new InstantRunoffService()).closeOverduePage(10).isEmpty());
+
+    verify(electionResultRepository, never()).saveAll(any());
+    verifyNoMoreInteractions(jobService, outboxService);
+  }
+}
@@ -0,0 +1,398 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.config.ClosureProperties;
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
+import com.gpt.springbonk.keycloak.KeycloakUserService;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.repository.BallotSnapshotRepository;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionClosureJobRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ElectionResultRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import com.gpt.springbonk.service.ElectionResultCacheService;
+import com.gpt.springbonk.service.ElectionService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.ScoredBallotService;
+import com.gpt.springbonk.service.SingleWinnerMethodDistributionService;
+import com.gpt.springbonk.service.event.ElectionChangedEvent;
+import com.gpt.springbonk.service.event.ElectionClosedEvent;
+import com.gpt.springbonk.service.impl.BallotSnapshotServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionClosureExecutorServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionClosureJobServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionResultCacheServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionServiceImpl;
+import com.gpt.springbonk.service.impl.SingleWinnerMethodDistributionServiceImpl;
+import com.gpt.springbonk.support.ElectionFixture;
+import com.gpt.springbonk.support.RecordingTransactionManager;
+import com.gpt.springbonk.util.TransientFailures;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.jpa.repository.Query;
+
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_MAJORITY;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.INSTANT_RUNOFF;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ElectionClosureTests {
+  private final ElectionClosureJobRepository jobRepository =
+      mock(ElectionClosureJobRepository.class);
+  private final ElectionClosureJobService jobService = mock(ElectionClosureJobService.class);
+
+  /// Defaults, but with small batches and retries quick enough to wait out in a test.
+  static ClosureProperties properties(int claimBatchSize, int maxAttempts) {
+    return new ClosureProperties(
+        Duration.ofSeconds(1), 512, Duration.ofSeconds(30), Duration.ofMinutes(2),
+        claimBatchSize, 1, 4, maxAttempts, Duration.ofMillis(2), Duration.ofMillis(4), 100,
+        "node-a");
+  }
+
+  @Nested
+  class ClosureJobServiceTests {
+    @Test
+    void complete_shouldOnlyDeleteTheJob_forTheLeaseholder() {
+      UUID electionId = UUID.randomUUID();
+
+      new ElectionClosureJobServiceImpl(jobRepository, properties(32, 5)).complete(electionId);
+
+      verify(jobRepository).deleteClaimed(electionId, "node-a");
+      verify(jobRepository, never()).deleteById(any());
+    }
+
+    @Test
+    void claimDue_shouldLeaseJobs_toThisNode() {
+      when(jobRepository.claimDue(eq("node-a"), any(), any(), eq(7))).thenReturn(List.of());
+
+      new ElectionClosureJobServiceImpl(jobRepository, properties(32, 5)).claimDue(7);
+
+      ArgumentCaptor<ZonedDateTime> now = ArgumentCaptor.forClass(ZonedDateTime.class);
+      ArgumentCaptor<ZonedDateTime> expiry = ArgumentCaptor.forClass(ZonedDateTime.class);
+      verify(jobRepository).claimDue(eq("node-a"), now.capture(), expiry.capture(), eq(7));
+      assertEquals(Duration.ofMinutes(2), Duration.between(now.getValue(), expiry.getValue()));
+    }
+
+    @Test
+    void upsert_shouldDropTheLease_whenRescheduling() throws NoSuchMethodException {
+      ZonedDateTime dueAt = ZonedDateTime.now().plusDays(1);
+      UUID electionId = UUID.randomUUID();
+
+      new ElectionClosureJobServiceImpl(jobRepository, properties(32, 5))
+          .schedule(electionId, dueAt);
+
+      verify(jobRepository).upsert(electionId, dueAt);
+      String upsert = ElectionClosureJobRepository.class
+          .getMethod("upsert", UUID.class, ZonedDateTime.class)
+          .getAnnotation(Query.class).value();
+      assertTrue(upsert.contains("lease_owner = null"));
+      assertTrue(upsert.contains("lease_expires_at = null"));
+    }
+  }
+
+  @Nested
+  class CloseDueElectionTests {
+    private final ElectionFixture fixture = new ElectionFixture();
+    private final Election election = fixture.getElection();
+    private final Candidate blue = fixture.getBlue();
+
+    private final ElectionRepository electionRepository = mock(ElectionRepository.class);
+    private final ElectionResultRepository electionResultRepository =
+        mock(ElectionResultRepository.class);
+    private final ElectionResultCacheService resultCache = mock(ElectionResultCacheService.class);
+    private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+    private final DomainEventOutboxService outboxService = mock(DomainEventOutboxService.class);
+
+    private ElectionServiceImpl electionService() {
+      return new ElectionServiceImpl(
+          mock(SingleWinnerMethodDistributionService.class), resultCache,
+          mock(KeycloakUserService.class), mock(VoteRepository.class), electionRepository,
+          electionResultRepository, jobRepository, publisher, outboxService);
+    }
+
+    private void dueElection(ZonedDateTime endDateTime) {
+      election.setId(UUID.randomUUID());
+      election.setTitle("Spring reading");
+      election.setStatus(Status.OPEN);
+      election.setEndDateTime(endDateTime);
+      when(electionRepository.findByIdForUpdate(election.getId()))
+          .thenReturn(Optional.of(election));
+      when(electionRepository.findById(election.getId())).thenReturn(Optional.of(election));
+    }
+
+    @Test
+    void closeDueElection_shouldSkip_whenTheEndDateMovedOut() {
+      dueElection(ZonedDateTime.now().plusHours(1));
+
+      assertFalse(electionService().closeDueElection(election.getId(), "node-a"));
+      assertEquals(Status.OPEN, election.getStatus());
+      verify(electionResultRepository, never()).saveAndFlush(any());
+      verify(outboxService, never()).enqueue(any());
+    }
+
+    @Test
+    void closeDueElection_shouldSkip_whenTheLeaseWasLost() {
+      dueElection(ZonedDateTime.now().minusMinutes(1));
+      when(jobRepository.existsByElectionIdAndLeaseOwner(election.getId(), "node-a"))
+          .thenReturn(false);
+
+      assertFalse(electionService().closeDueElection(election.getId(), "node-a"));
+      assertEquals(Status.OPEN, election.getStatus());
+      verify(resultCache, never()).getOrTabulate(any(), any(), any());
+      verify(electionResultRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void closeDueElection_shouldReportDone_whenAlreadyClosed() {
+      dueElection(ZonedDateTime.now().minusMinutes(1));
+      election.setStatus(Status.CLOSED);
+
+      assertTrue(electionService().closeDueElection(election.getId(), "node-a"));
+      verify(jobRepository, never()).existsByElectionIdAndLeaseOwner(any(), any());
+      verify(electionResultRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void closeDueElection_shouldClose_whenDueAndLeased() {
+      dueElection(ZonedDateTime.now().minusMinutes(1));
+      when(jobRepository.existsByElectionIdAndLeaseOwner(election.getId(), "node-a"))
+          .thenReturn(true);
+      when(resultCache.getOrTabulate(eq(election.getId()), eq(INSTANT_RUNOFF), any()))
+          .thenReturn(new ElectionResultRecord(blue.getId(), List.of(
+              new RoundResultRecord(1, Map.of(blue.getId(), 3), null, WINNER_MAJORITY)), 3));
+
+      assertTrue(electionService().closeDueElection(election.getId(), "node-a"));
+
+      ArgumentCaptor<ElectionResult> result = ArgumentCaptor.forClass(ElectionResult.class);
+      verify(electionResultRepository).saveAndFlush(result.capture());
+      assertEquals(blue.getId(), result.getValue().getWinnerId());
+      assertEquals(Status.CLOSED, election.getStatus());
+      verify(electionRepository).saveAndFlush(election);
+      verify(publisher).publishEvent(new ElectionChangedEvent(election.getId()));
+      verify(outboxService).enqueue(
+          new ElectionClosedEvent(election.getId(), "Spring reading", "The Blue Book"));
+    }
+
+    @Test
+    void closeDueElection_shouldFlagTheResult_whenTabulationFails() {
+      dueElection(ZonedDateTime.now().minusMinutes(1));
+      when(jobRepository.existsByElectionIdAndLeaseOwner(election.getId(), "node-a"))
+          .thenReturn(true);
+      when(resultCache.getOrTabulate(any(), any(), any()))
+          .thenThrow(new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE));
+
+      assertTrue(electionService().closeDueElection(election.getId(), "node-a"));
+
+      ArgumentCaptor<ElectionResult> result = ArgumentCaptor.forClass(ElectionResult.class);
+      verify(electionResultRepository).saveAndFlush(result.capture());
+      assertEquals(List.of(Flag.SCHEDULING_ERROR), result.getValue().getFlags());
+      assertEquals(Status.CLOSED, election.getStatus());
+    }
+
+    @Test
+    void closeDueElection_shouldRethrow_transientTabulationFailures() {
+      dueElection(ZonedDateTime.now().minusMinutes(1));
+      when(jobRepository.existsByElectionIdAndLeaseOwner(election.getId(), "node-a"))
+          .thenReturn(true);
+      when(resultCache.getOrTabulate(any(), any(), any()))
+          .thenThrow(new QueryTimeoutException("statement timeout"));
+
+      assertThrows(QueryTimeoutException.class,
+          () -> electionService().closeDueElection(election.getId(), "node-a"));
+      assertEquals(Status.OPEN, election.getStatus());
+      verify(electionResultRepository, never()).saveAndFlush(any());
+    }
+  }
+
+  /// Closes through transactional proxies, as the application context wires them, with the ballot
+  /// snapshot service joining the closing transaction.
+  @Nested
+  class TransactionalCloseTests {
+    private final ElectionFixture fixture = new ElectionFixture();
+    private final Election election = fixture.getElection();
+
+    private final RecordingTransactionManager transactionManager =
+        new RecordingTransactionManager();
+    private final ElectionRepository electionRepository = mock(ElectionRepository.class);
+    private final ElectionResultRepository electionResultRepository =
+        mock(ElectionResultRepository.class);
+    private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+    private final VoteRepository voteRepository = mock(VoteRepository.class);
+    private final DomainEventOutboxService outboxService = mock(DomainEventOutboxService.class);
+
+    private ElectionService electionService;
+
+    @BeforeEach
+    void electionWithoutVotes() {
+      election.setId(UUID.randomUUID());
+      election.setTitle("Spring reading");
+      election.setStatus(Status.OPEN);
+      election.setEndDateTime(ZonedDateTime.now().minusMinutes(1));
+      when(electionRepository.findByIdForUpdate(election.getId()))
+          .thenReturn(Optional.of(election));
+      when(electionRepository.findById(election.getId())).thenReturn(Optional.of(election));
+      when(electionRepository.findBallotVersion(election.getId())).thenReturn(Optional.of(0L));
+      when(candidateRepository.findIdsByElectionId(election.getId()))
+          .thenReturn(fixture.candidateIds());
+      when(voteRepository.streamRankedBallots(election.getId()))
+          .thenAnswer(invocation -> Stream.empty());
+      when(jobRepository.existsByElectionIdAndLeaseOwner(election.getId(), "node-a"))
+          .thenReturn(true);
+
+      BallotSnapshotService ballotSnapshotService = transactionManager.proxy(
+          new BallotSnapshotServiceImpl(electionRepository, mock(BallotSnapshotRepository.class),
+              candidateRepository, voteRepository),
+          BallotSnapshotService.class);
+      SingleWinnerMethodDistributionService distributionService =
+          new SingleWinnerMethodDistributionServiceImpl(new InstantRunoffService(),
+              ballotSnapshotService, mock(PairwiseMatrixService.class), List.of(),
+              mock(ScoredBallotService.class), List.of());
+      electionService = transactionManager.proxy(new ElectionServiceImpl(
+          distributionService,
+          new ElectionResultCacheServiceImpl(electionRepository, TabulationProperties.defaults()),
+          mock(KeycloakUserService.class), voteRepository, electionRepository,
+          electionResultRepository, jobRepository, mock(ApplicationEventPublisher.class),
+          outboxService), ElectionService.class);
+    }
+
+    private void assertClosedWithAFlaggedResult() {
+      // The votes were read, so the snapshot service was reached and failed inside the close.
+      verify(voteRepository).streamRankedBallots(election.getId());
+      ArgumentCaptor<ElectionResult> result = ArgumentCaptor.forClass(ElectionResult.class);
+      verify(electionResultRepository).saveAndFlush(result.capture());
+      assertEquals(List.of(Flag.SCHEDULING_ERROR), result.getValue().getFlags());
+      assertEquals(Status.CLOSED, election.getStatus());
+      assertEquals(1, transactionManager.getCommits());
+      assertEquals(0, transactionManager.getRollbacks());
+    }
+
+    @Test
+    void closeElection_shouldCommitAFlaggedResult_whenNobodyVoted() {
+      electionService.closeElection(election.getId());
+
+      assertClosedWithAFlaggedResult();
+    }
+
+    @Test
+    void closeDueElection_shouldCommitAFlaggedResult_whenNobodyVoted() {
+      assertTrue(electionService.closeDueElection(election.getId(), "node-a"));
+
+      assertClosedWithAFlaggedResult();
+      verify(outboxService).enqueue(new ElectionClosedEvent(election.getId(), "Spring reading",
+          null));
+    }
+  }
+
+  @Nested
+  class ExecutorTests {
+    private final ElectionService electionService = mock(ElectionService.class);
+
+    @Test
+    void executor_shouldCompleteTheJob_onlyWhenTheElectionClosed() {
+      UUID closed = UUID.randomUUID();
+      UUID skipped = UUID.randomUUID();
+      when(electionService.closeDueElection(closed, "node-a")).thenReturn(true);
+      when(electionService.closeDueElection(skipped, "node-a")).thenReturn(false);
+      ElectionClosureExecutorServiceImpl closures =
+          new ElectionClosureExecutorServiceImpl(electionService, jobService, properties(32, 5));
+
+      closures.submit(closed);
+      closures.submit(skipped);
+
+      verify(jobService, timeout(1_000)).complete(closed);
+      verify(electionService, timeout(1_000)).closeDueElection(skipped, "node-a");
+      verify(jobService, after(50).never()).complete(skipped);
+      assertEquals(1, closures.getStats().completed());
+    }
+
+    @Test
+    void executor_shouldRetry_transientFailures() {
+      UUID electionId = UUID.randomUUID();
+      when(electionService.closeDueElection(electionId, "node-a"))
+          .thenThrow(new QueryTimeoutException("statement timeout"))
+          .thenThrow(new QueryTimeoutException("statement timeout"))
+          .thenReturn(true);
+      ElectionClosureExecutorServiceImpl closures =
+          new ElectionClosureExecutorServiceImpl(electionService, jobService, properties(32, 5));
+
+      closures.submit(electionId);
+
+      verify(jobService, timeout(1_000)).complete(electionId);
+      verify(electionService, times(3)).closeDueElection(electionId, "node-a");
+      assertEquals(2, closures.getStats().retried());
+    }
+
+    @Test
+    void executor_shouldGiveUp_withoutCompleting() {
+      UUID broken = UUID.randomUUID();
+      UUID unreachable = UUID.randomUUID();
+      when(electionService.closeDueElection(broken, "node-a"))
+          .thenThrow(new IllegalStateException("broken"));
+      when(electionService.closeDueElection(unreachable, "node-a"))
+          .thenThrow(new QueryTimeoutException("statement timeout"));
+      ElectionClosureExecutorServiceImpl closures =
+          new ElectionClosureExecutorServiceImpl(electionService, jobService, properties(32, 3));
+
+      closures.submit(broken);
+      closures.submit(unreachable);
+
+      verify(electionService, timeout(1_000)).closeDueElection(broken, "node-a");
+      verify(electionService, timeout(1_000).times(3)).closeDueElection(unreachable, "node-a");
+      verify(jobService, after(50).never()).complete(any());
+      assertEquals(2, closures.getStats().failed());
+    }
+  }
+
+  @Nested
+  class TransientFailuresTests {
+    @Test
+    void isTransient_shouldLookThroughWrappers_forRetryableDatabaseFailures() {
+      SQLException deadlock = new SQLException("deadlock detected", "40P01");
+      SQLException connection = new SQLException("connection refused", "08001");
+      SQLException constraint = new SQLException("duplicate key", "23505");
+
+      assertTrue(TransientFailures.isTransient(new RuntimeException(deadlock)));
+      assertTrue(TransientFailures.isTransient(
+          new DataAccessResourceFailureException("wrapped", new RuntimeException(connection))));
+      assertTrue(TransientFailures.isTransient(new QueryTimeoutException("slow")));
+      assertFalse(TransientFailures.isTransient(new RuntimeException(constraint)));
+      assertFalse(TransientFailures.isTransient(
+          new ElectionCannotBeCompletedException("no votes")));
+    }
+  }
+}
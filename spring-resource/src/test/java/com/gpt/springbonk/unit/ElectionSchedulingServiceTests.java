@@ -0,0 +1,146 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.config.ClosureProperties;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.record.ClosureExecutorStatsRecord;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.service.ElectionCatchUpService;
+import com.gpt.springbonk.service.ElectionClosureExecutorService;
+import com.gpt.springbonk.service.ElectionClosureJobService;
+import com.gpt.springbonk.service.impl.ElectionSchedulingServiceImpl;
+import com.gpt.springbonk.util.DeadlineWheel;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static com.gpt.springbonk.unit.ElectionClosureTests.properties;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class ElectionSchedulingServiceTests {
+  private final ElectionClosureJobService jobService = mock(ElectionClosureJobService.class);
+  private final ElectionClosureExecutorService executor =
+      mock(ElectionClosureExecutorService.class);
+
+  private ElectionSchedulingServiceImpl scheduler(ClosureProperties properties) {
+    return new ElectionSchedulingServiceImpl(
+        mock(ElectionRepository.class), jobService, executor, mock(ElectionCatchUpService.class),
+        properties);
+  }
+
+  @Test
+  void sweep_shouldClaimNoMore_thanTheExecutorCanTake() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    when(executor.remainingCapacity()).thenReturn(3);
+    when(executor.getStats()).thenReturn(new ClosureExecutorStatsRecord(
+        0, 0, 0, 0, 0, Duration.ZERO, Duration.ZERO));
+    when(jobService.claimDue(3)).thenReturn(List.of(first, second));
+
+    scheduler(properties(32, 5)).pollDueClosures();
+
+    verify(jobService).claimDue(3);
+    verify(executor).submit(first);
+    verify(executor).submit(second);
+    verifyNoMoreInteractions(jobService);
+  }
+
+  @Test
+  void sweep_shouldClaimAgain_afterAFullBatch() {
+    List<UUID> batch = List.of(UUID.randomUUID(), UUID.randomUUID());
+    when(executor.remainingCapacity()).thenReturn(64);
+    when(executor.getStats()).thenReturn(new ClosureExecutorStatsRecord(
+        0, 0, 0, 0, 0, Duration.ZERO, Duration.ZERO));
+    when(jobService.claimDue(2)).thenReturn(batch).thenReturn(List.of());
+
+    scheduler(properties(2, 5)).pollDueClosures();
+
+    verify(jobService, times(2)).claimDue(2);
+    batch.forEach(id -> verify(executor).submit(id));
+  }
+
+  @Test
+  void sweep_shouldClaimNothing_whenTheExecutorIsFull_andRetryOnTheNextTick() {
+    when(executor.remainingCapacity()).thenReturn(0).thenReturn(5);
+    when(executor.getStats()).thenReturn(new ClosureExecutorStatsRecord(
+        64, 1, 0, 0, 0, Duration.ZERO, Duration.ZERO));
+    when(jobService.claimDue(5)).thenReturn(List.of());
+    ElectionSchedulingServiceImpl scheduler = scheduler(properties(32, 5));
+
+    scheduler.pollDueClosures();
+    verify(jobService, never()).claimDue(anyInt());
+
+    scheduler.tick();
+    verify(jobService).claimDue(5);
+    verify(executor, never()).submit(any());
+  }
+
+  @Test
+  void schedule_shouldRescheduleTheJob_andCancelClosedElections() {
+    ElectionSchedulingServiceImpl scheduler = scheduler(properties(32, 5));
+    Election election = new Election();
+    election.setId(UUID.randomUUID());
+    election.setStatus(Status.OPEN);
+    election.setEndDateTime(ZonedDateTime.now().plusDays(1));
+
+    scheduler.schedule(election);
+    verify(jobService).schedule(election.getId(), election.getEndDateTime());
+
+    election.setStatus(Status.CLOSED);
+    scheduler.schedule(election);
+    verify(jobService).remove(election.getId());
+  }
+
+  @Nested
+  class DeadlineWheelTests {
+    private final Instant start = Instant.parse("2025-01-01T00:00:00Z");
+
+    @Test
+    void advance_shouldBatchDeadlinesInTheSameTick_andHonourReschedules() {
+      DeadlineWheel<String> wheel = new DeadlineWheel<>(Duration.ofSeconds(1), 8, start);
+      wheel.schedule("a", start.plusMillis(1_200));
+      wheel.schedule("b", start.plusMillis(1_900));
+      wheel.schedule("c", start.plusSeconds(3));
+      wheel.schedule("d", start.plusSeconds(30));
+      wheel.schedule("c", start.plusSeconds(20));
+      assertTrue(wheel.cancel("d"));
+      assertFalse(wheel.cancel("d"));
+
+      assertEquals(List.of(), wheel.advance(start.plusMillis(1_500)));
+      assertEquals(Set.of("a", "b"), Set.copyOf(wheel.advance(start.plusSeconds(2))));
+      assertEquals(List.of(), wheel.advance(start.plusSeconds(19)));
+      assertEquals(List.of("c"), wheel.advance(start.plusSeconds(20)));
+      assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_shouldReturnEverythingOverdue_afterMoreThanOneTurn() {
+      DeadlineWheel<Integer> wheel = new DeadlineWheel<>(Duration.ofSeconds(1), 4, start);
+      for (int second = 1; second <= 10; second++) {
+        wheel.schedule(second, start.plusSeconds(second));
+      }
+      wheel.schedule(99, start.minusSeconds(60));
+
+      List<Integer> due = wheel.advance(start.plusSeconds(7));
+
+      assertEquals(Set.of(1, 2, 3, 4, 5, 6, 7, 99), Set.copyOf(due));
+      assertEquals(3, wheel.size());
+      assertEquals(Set.of(8, 9, 10), Set.copyOf(wheel.advance(start.plusSeconds(100))));
+    }
+  }
+}
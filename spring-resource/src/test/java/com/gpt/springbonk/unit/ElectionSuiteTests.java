@@ -1,21 +1,77 @@
 package com.gpt.springbonk.unit;
 
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.constant.enumeration.election.Flag;
+import com.gpt.springbonk.constant.enumeration.election.Status;
+import com.gpt.springbonk.constant.enumeration.process.RunoffTallyMode;
 import com.gpt.springbonk.exception.ElectionCannotBeCompletedException;
 import com.gpt.springbonk.keycloak.KeycloakUser;
 import com.gpt.springbonk.model.BallotBox;
 import com.gpt.springbonk.model.Book;
 import com.gpt.springbonk.model.Candidate;
 import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.ElectionResult;
+import com.gpt.springbonk.model.IndexedBallotBox;
+import com.gpt.springbonk.model.PairwiseMatrix;
+import com.gpt.springbonk.model.ScoredBallotBox;
 import com.gpt.springbonk.model.Vote;
 import com.gpt.springbonk.model.VoteCount;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
 import com.gpt.springbonk.model.record.ElectionResultRecord;
+import com.gpt.springbonk.model.record.LiveTallyRecord;
+import com.gpt.springbonk.model.record.MethodComparisonRecord;
+import com.gpt.springbonk.model.record.RankedBallotEntry;
 import com.gpt.springbonk.model.record.RoundResultRecord;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.ApprovalService;
+import com.gpt.springbonk.service.BlackService;
+import com.gpt.springbonk.service.CondorcetMethod;
+import com.gpt.springbonk.service.CopelandService;
 import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.KemenyYoungService;
+import com.gpt.springbonk.service.MajorityJudgementService;
+import com.gpt.springbonk.service.MinimaxAlternativeService;
+import com.gpt.springbonk.service.MinimaxService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.RankedPairsService;
+import com.gpt.springbonk.service.SchulzeService;
+import com.gpt.springbonk.service.SequentialProportionalApprovalService;
+import com.gpt.springbonk.service.ScoreService;
+import com.gpt.springbonk.service.SingleTransferableVoteService;
+import com.gpt.springbonk.service.SingleWinnerMethodDistributionService;
+import com.gpt.springbonk.service.StarService;
+import com.gpt.springbonk.service.TidemanAlternativeService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.service.impl.LiveTallyServiceImpl;
+import com.gpt.springbonk.service.impl.PairwiseMatrixServiceImpl;
+import com.gpt.springbonk.service.impl.SingleWinnerMethodDistributionServiceImpl;
+import com.gpt.springbonk.support.DifferentialHarness;
+import com.gpt.springbonk.support.DifferentialHarness.Divergence;
+import com.gpt.springbonk.support.ElectorateGenerator;
+import com.gpt.springbonk.support.ElectorateGenerator.Fixed;
+import com.gpt.springbonk.support.ElectorateGenerator.Geometric;
+import com.gpt.springbonk.support.ElectorateGenerator.Mallows;
+import com.gpt.springbonk.support.ElectorateGenerator.Spatial;
+import com.gpt.springbonk.util.LiveTally;
+import com.gpt.springbonk.util.LruCache;
+import com.gpt.springbonk.util.ScoredBallotCodec;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -26,17 +82,36 @@ import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.TIE_ELIMINATION_MESSAGE;
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_ATTRITION;
 import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_MAJORITY;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_QUOTA;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_RUNOFF;
+import static com.gpt.springbonk.constant.enumeration.process.EliminationMessage.WINNER_SMITH;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.BORDA;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.COPELAND;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.INSTANT_RUNOFF;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.SCHULZE;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.SCORE;
 import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.FULL_WAY_TIE;
 import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_CANDIDATES_MESSAGE;
 import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_ELECTION_MESSAGE;
 import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.SEATS_MESSAGE;
 import static com.gpt.springbonk.util.BallotUtility.conductRound;
+import static com.gpt.springbonk.util.BallotUtility.processBallotEntries;
 import static com.gpt.springbonk.util.BallotUtility.processCandidates;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @Slf4j
 class ElectionSuiteTests {
@@ -422,8 +497,160 @@ class ElectionSuiteTests {
     }
   }
 
+  @Nested
+  class IndexedBallotBoxTests {
+    @Test
+    void index_shouldPreserveBallots_withValidVoteSlate_1() {
+      voteSlateValid_1();
+
+      BallotBox ballotBox = processCandidates(election.getCandidates());
+      IndexedBallotBox indexed = IndexedBallotBox.of(ballotBox);
+
+      assertEquals(4, indexed.getCandidateCount(), "Indexed box should have 4 candidates");
+      assertEquals(4, indexed.getBallotCount(), "Indexed box should have 4 ballots");
+      assertEquals(16, indexed.getPreferences().length, "Every preference should be packed");
+
+      for (Candidate candidate : List.of(blue, red, yellow, green)) {
+        int index = indexed.indexOf(candidate.getId());
+        assertEquals(candidate.getId(), indexed.getCandidateId(index));
+      }
+      assertEquals(-1, indexed.indexOf(UUID.randomUUID()));
+    }
+
+    @Test
+    void processBallotEntries_shouldMatchEntityWalk_withValidVoteSlates() {
+      InstantRunoffService instantRunoffService = new InstantRunoffService();
+
+      for (Runnable slate : List.<Runnable>of(
+          ElectionSuiteTests.this::voteSlateValid_1,
+          ElectionSuiteTests.this::voteSlateValid_2,
+          ElectionSuiteTests.this::voteSlateValid_3
+      )) {
+        validTestElection();
+        slate.run();
+
+        IndexedBallotBox expected = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+        IndexedBallotBox actual = processBallotEntries(
+            election.getCandidates().stream().map(Candidate::getId).toList(),
+            election.getCandidates().stream()
+                .flatMap(candidate -> candidate.getVotes().stream())
+                .map(vote -> new RankedBallotEntry(
+                    vote.getVoter().getId(), vote.getCandidate().getId(), vote.getRank()))
+                .sorted(Comparator.comparing(RankedBallotEntry::voterId)
+                    .thenComparing(RankedBallotEntry::rank))
+        );
+
+        assertArrayEquals(expected.getCandidateIds(), actual.getCandidateIds());
+        assertEquals(expected.getBallotCount(), actual.getBallotCount());
+        assertEquals(
+            instantRunoffService.conductElection(expected),
+            instantRunoffService.conductElection(actual));
+      }
+    }
+
+    @Test
+    void processBallotEntries_shouldFail_withoutVotes() {
+      Exception e = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> processBallotEntries(List.of(blue.getId()), Stream.empty()));
+      assertEquals(NO_VOTES_MESSAGE, e.getMessage());
+
+      e = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> processBallotEntries(List.of(), Stream.empty()));
+      assertEquals(NO_CANDIDATES_MESSAGE, e.getMessage());
+    }
+
+    @Test
+    void conductRound_shouldMatchLegacyRound_withValidVoteSlates() {
+      for (Runnable slate : List.<Runnable>of(
+          ElectionSuiteTests.this::voteSlateValid_1,
+          ElectionSuiteTests.this::voteSlateValid_2,
+          ElectionSuiteTests.this::voteSlateValid_3
+      )) {
+        validTestElection();
+        slate.run();
+
+        BallotBox ballotBox = processCandidates(election.getCandidates());
+        IndexedBallotBox indexed = IndexedBallotBox.of(ballotBox);
+
+        VoteCount legacy = conductRound(ballotBox, new ArrayList<>(), 1, 0);
+        int[] tally = new int[indexed.getCandidateCount()];
+        int votesCast = conductRound(indexed, new BitSet(), 0, tally);
+
+        assertEquals(legacy.getCurrentVotesSize(), votesCast);
+        for (int candidate = 0; candidate < tally.length; candidate++) {
+          assertEquals(
+              legacy.getCurrentVotes().getOrDefault(indexed.getCandidateId(candidate), 0),
+              tally[candidate]
+          );
+        }
+      }
+    }
+
+    @Test
+    void conductRound_shouldFail_dueToTie_whenCorrectionExceedsBallot() {
+      voteSlateValid_1();
+
+      IndexedBallotBox indexed = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+
+      Exception e = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> conductRound(indexed, new BitSet(), 4, new int[indexed.getCandidateCount()]));
+      assertEquals(FULL_WAY_TIE, e.getMessage());
+    }
+
+    @Test
+    void conductRound_shouldMatchSequential_whenSharded() {
+      Random random = new Random(42);
+      List<UUID> candidates = new ArrayList<>();
+      for (int i = 0; i < 6; i++) {
+        candidates.add(UUID.randomUUID());
+      }
+
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      candidates.forEach(builder::addCandidate);
+      for (int ballot = 0; ballot < 20_000; ballot++) {
+        List<UUID> ranking = new ArrayList<>(candidates);
+        Collections.shuffle(ranking, random);
+        builder.addBallot(ranking.subList(0, 1 + random.nextInt(ranking.size())));
+      }
+      IndexedBallotBox indexed = builder.build();
+
+      BitSet eliminated = new BitSet();
+      eliminated.set(2);
+      int[] expected = new int[indexed.getCandidateCount()];
+      int[] actual = new int[indexed.getCandidateCount()];
+
+      int expectedVotes = conductRound(indexed, eliminated, 0, expected);
+      int actualVotes = conductRound(indexed, eliminated, 0, actual, 1);
+
+      assertEquals(expectedVotes, actualVotes);
+      assertArrayEquals(expected, actual);
+
+      Exception e = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> conductRound(indexed, eliminated, 5, new int[indexed.getCandidateCount()], 1));
+      assertEquals(FULL_WAY_TIE, e.getMessage());
+    }
+  }
+
   @Nested
   class InstantRunoffServiceTests {
+    @Test
+    void conductElection_shouldHandEachRoundToTheListener_inOrder() {
+      voteSlateValid_1();
+      IndexedBallotBox indexed = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+      List<RoundResultRecord> streamed = new ArrayList<>();
+
+      ElectionResultRecord result = new InstantRunoffService().conductElection(indexed, round -> {
+        assertEquals(streamed.size() + 1, round.roundNumber());
+        streamed.add(round);
+      });
+
+      assertEquals(result.rounds(), streamed);
+    }
+
     @Test
     void conductElection_shouldSucceed_withValidVoteSlate_1() {
       // Round one, blue wins but not outright. Yellow has least, elim.
@@ -641,7 +868,840 @@ class ElectionSuiteTests {
   }
 
   @Nested
-  class SchedulingServiceTests {
+  class RunoffTallyModeTests {
+    private final InstantRunoffService fullRecount =
+        new InstantRunoffService(
+            TabulationProperties.defaults().withRunoffTallyMode(RunoffTallyMode.FULL_RECOUNT));
+    private final InstantRunoffService incremental =
+        new InstantRunoffService(
+            TabulationProperties.defaults().withRunoffTallyMode(RunoffTallyMode.INCREMENTAL));
+
+    @Test
+    void conductElection_shouldMatchAcrossModes_withValidVoteSlates() {
+      for (Runnable slate : List.<Runnable>of(
+          ElectionSuiteTests.this::voteSlateValid_1,
+          ElectionSuiteTests.this::voteSlateValid_2,
+          ElectionSuiteTests.this::voteSlateValid_3
+      )) {
+        validTestElection();
+        slate.run();
+
+        IndexedBallotBox indexed = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+
+        ElectionResultRecord expected = fullRecount.conductElection(indexed);
+        ElectionResultRecord actual = incremental.conductElection(indexed);
+
+        assertEquals(expected.winnerId(), actual.winnerId());
+        assertEquals(expected.totalVotes(), actual.totalVotes());
+        assertEquals(expected.rounds().size(), actual.rounds().size());
+        for (int round = 0; round < expected.rounds().size(); round++) {
+          RoundResultRecord expectedRound = expected.rounds().get(round);
+          RoundResultRecord actualRound = actual.rounds().get(round);
+          assertEquals(expectedRound.votes(), actualRound.votes());
+          assertEquals(expectedRound.eliminationMessage(), actualRound.eliminationMessage());
+          assertEquals(
+              expectedRound.eliminatedCandidateIds() == null
+                  ? null : Set.copyOf(expectedRound.eliminatedCandidateIds()),
+              actualRound.eliminatedCandidateIds() == null
+                  ? null : Set.copyOf(actualRound.eliminatedCandidateIds())
+          );
+        }
+      }
+    }
+
+    @Test
+    void conductElection_shouldFail_dueToTie_withValidVoteSlate_4() {
+      voteSlateValid_4();
+
+      IndexedBallotBox indexed = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+
+      Exception e = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> incremental.conductElection(indexed));
+      assertEquals(FULL_WAY_TIE, e.getMessage());
+    }
+  }
+
+  @Nested
+  class SchulzeServiceTests {
+    private final SchulzeService schulzeService = new SchulzeService();
+
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+    private final UUID d = UUID.randomUUID();
+    private final UUID e = UUID.randomUUID();
+
+    private void addBallots(IndexedBallotBox.Builder builder, int count, UUID... ranking) {
+      for (int i = 0; i < count; i++) {
+        builder.addBallot(List.of(ranking));
+      }
+    }
+
+    @Test
+    void pairwiseMatrix_shouldCountUnrankedCandidatesAsBeaten() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      builder.addCandidate(a);
+      builder.addCandidate(b);
+      builder.addCandidate(c);
+      addBallots(builder, 1, a);
+      addBallots(builder, 1, b, a, b);
+
+      PairwiseMatrix matrix = PairwiseMatrix.of(builder.build());
+
+      assertEquals(1, matrix.getPreferences()[0][1]);
+      assertEquals(2, matrix.getPreferences()[0][2]);
+      assertEquals(1, matrix.getPreferences()[1][0]);
+      assertEquals(1, matrix.getPreferences()[1][2]);
+      assertEquals(0, matrix.getPreferences()[2][0]);
+      assertEquals(0, matrix.margin(0, 1));
+    }
+
+    @Test
+    void conductElection_shouldFollowStrongestPaths() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      addBallots(builder, 5, a, c, b, e, d);
+      addBallots(builder, 5, a, d, e, c, b);
+      addBallots(builder, 8, b, e, d, a, c);
+      addBallots(builder, 3, c, a, b, e, d);
+      addBallots(builder, 7, c, a, e, b, d);
+      addBallots(builder, 2, c, b, a, d, e);
+      addBallots(builder, 7, d, c, e, b, a);
+      addBallots(builder, 8, e, b, a, d, c);
+
+      ElectionResultRecord result =
+          schulzeService.conductElection(PairwiseMatrix.of(builder.build()));
+
+      assertEquals(e, result.winnerId());
+      assertEquals(45, result.totalVotes());
+      assertEquals(
+          List.of(List.of(e), List.of(a), List.of(c), List.of(b), List.of(d)),
+          result.ranking());
+      assertEquals(28, result.pairwise().strengths()[0][1]);
+      assertEquals(25, result.pairwise().strengths()[1][0]);
+    }
+
+    @Test
+    void conductElection_shouldReportNoWinner_withTopTie() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      addBallots(builder, 1, a, b, c);
+      addBallots(builder, 1, b, c, a);
+      addBallots(builder, 1, c, a, b);
+
+      ElectionResultRecord result =
+          schulzeService.conductElection(PairwiseMatrix.of(builder.build()));
+
+      assertNull(result.winnerId());
+      assertEquals(1, result.ranking().size());
+      assertEquals(Set.of(a, b, c), Set.copyOf(result.ranking().getFirst()));
+    }
+
+    @Test
+    void conductElection_shouldAgreeWithInstantRunoff_withValidVoteSlate_1() {
+      voteSlateValid_1();
+
+      ElectionResultRecord result = schulzeService.conductElection(election);
+
+      assertEquals(blue.getId(), result.winnerId());
+      assertEquals(List.of(blue.getId()), result.ranking().getFirst());
+      assertEquals(Set.of(red.getId(), yellow.getId()), Set.copyOf(result.ranking().getLast()));
+      assertNotNull(result.pairwise());
+    }
+
+    @Test
+    void conductElection_shouldFail_withNullElection() {
+      Exception ex = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> schulzeService.conductElection((Election) null));
+      assertEquals(NO_ELECTION_MESSAGE, ex.getMessage());
+    }
+  }
+
+  @Nested
+  class CondorcetMethodTests {
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+    private final UUID d = UUID.randomUUID();
+    private final UUID e = UUID.randomUUID();
+
+    /// The 45-voter example without a Condorcet winner (A beats E, E beats B, B beats A, ...).
+    private IndexedBallotBox cyclicBallots() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      for (UUID candidate : List.of(a, b, c, d, e)) {
+        builder.addCandidate(candidate);
+      }
+      addBallots(builder, 5, a, c, b, e, d);
+      addBallots(builder, 5, a, d, e, c, b);
+      addBallots(builder, 8, b, e, d, a, c);
+      addBallots(builder, 3, c, a, b, e, d);
+      addBallots(builder, 7, c, a, e, b, d);
+      addBallots(builder, 2, c, b, a, d, e);
+      addBallots(builder, 7, d, c, e, b, a);
+      addBallots(builder, 8, e, b, a, d, c);
+      return builder.build();
+    }
+
+    private void addBallots(IndexedBallotBox.Builder builder, int count, UUID... ranking) {
+      for (int i = 0; i < count; i++) {
+        builder.addBallot(List.of(ranking));
+      }
+    }
+
+    private ElectionResultRecord run(CondorcetMethod method) {
+      IndexedBallotBox ballotBox = cyclicBallots();
+      return method.conductElection(PairwiseMatrix.of(ballotBox), ballotBox);
+    }
+
+    @Test
+    void pairwiseMatrix_shouldMatchAcrossShardSizes() {
+      IndexedBallotBox ballotBox = cyclicBallots();
+      int[][] expected = PairwiseMatrix.of(ballotBox).getPreferences();
+
+      for (int shardSize : new int[] {1, 4, 7, 44, 45, 1000}) {
+        int[][] actual = PairwiseMatrix.of(ballotBox, shardSize).getPreferences();
+        for (int i = 0; i < expected.length; i++) {
+          assertArrayEquals(expected[i], actual[i]);
+        }
+      }
+      assertEquals(-1, PairwiseMatrix.of(ballotBox).condorcetWinner());
+    }
+
+    @Test
+    void minimax_shouldRankBySmallestWorstDefeat() {
+      assertEquals(
+          List.of(List.of(e), List.of(a), List.of(c), List.of(b), List.of(d)),
+          run(new MinimaxService()).ranking());
+      assertEquals(
+          List.of(List.of(e), List.of(a), List.of(c), List.of(b), List.of(d)),
+          run(new MinimaxAlternativeService()).ranking());
+    }
+
+    @Test
+    void copeland_shouldGroupEqualScores() {
+      ElectionResultRecord result = run(new CopelandService());
+
+      assertEquals(e, result.winnerId());
+      assertEquals(List.of(List.of(e), List.of(a, b, c), List.of(d)), result.ranking());
+    }
+
+    @Test
+    void black_shouldFallBackToBorda_withoutCondorcetWinner() {
+      ElectionResultRecord result = run(new BlackService());
+
+      assertEquals(
+          List.of(List.of(e), List.of(a), List.of(b), List.of(c), List.of(d)),
+          result.ranking());
+    }
+
+    @Test
+    void black_shouldElectCondorcetWinner() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      addBallots(builder, 3, a, b, c);
+      addBallots(builder, 2, b, c, a);
+      IndexedBallotBox ballotBox = builder.build();
+
+      ElectionResultRecord result =
+          new BlackService().conductElection(PairwiseMatrix.of(ballotBox), ballotBox);
+
+      // b has the better Borda score (7 to 6), but a beats both b and c head-on.
+      assertEquals(a, result.winnerId());
+      assertEquals(List.of(List.of(a), List.of(b), List.of(c)), result.ranking());
+    }
+
+    @Test
+    void tidemanAlternative_shouldAlternateSmithAndRunoff() {
+      ElectionResultRecord result = run(new TidemanAlternativeService());
+
+      assertEquals(a, result.winnerId());
+      assertEquals(3, result.rounds().size());
+      assertEquals(List.of(d), result.rounds().get(0).eliminatedCandidateIds());
+      assertEquals(TIE_ELIMINATION_MESSAGE, result.rounds().get(1).eliminationMessage());
+      assertEquals(WINNER_SMITH, result.rounds().get(2).eliminationMessage());
+      assertEquals(
+          List.of(List.of(a), List.of(c), List.of(b, e), List.of(d)),
+          result.ranking());
+    }
+
+    @Test
+    void rankedPairs_shouldSkipVictoriesThatCloseCycles() {
+      ElectionResultRecord result = run(new RankedPairsService());
+
+      // d > c (28) and b > a (25) would each close a cycle, as would e > a (23).
+      assertEquals(
+          List.of(List.of(a), List.of(c), List.of(e), List.of(b), List.of(d)),
+          result.ranking());
+      assertEquals(0, result.pairwise().strengths()[3][2]);
+      assertEquals(24, result.pairwise().strengths()[2][4]);
+    }
+
+    @Test
+    void rankedPairs_shouldLeaveTiedCandidatesInOneTier() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      addBallots(builder, 1, a, b, c);
+      addBallots(builder, 1, b, a, c);
+      IndexedBallotBox ballotBox = builder.build();
+
+      ElectionResultRecord result =
+          new RankedPairsService().conductElection(PairwiseMatrix.of(ballotBox), ballotBox);
+
+      assertNull(result.winnerId());
+      assertEquals(List.of(List.of(a, b), List.of(c)), result.ranking());
+    }
+
+    @Test
+    void kemenyYoung_shouldFindOptimalRanking() {
+      ElectionResultRecord result =
+          run(new KemenyYoungService(TabulationProperties.defaults()));
+
+      // e > b > a > d > c agrees with 260 pairwise preferences; the runner-up with 259.
+      assertEquals(
+          List.of(List.of(e), List.of(b), List.of(a), List.of(d), List.of(c)),
+          result.ranking());
+      assertNull(result.flags());
+    }
+
+    @Test
+    void kemenyYoung_shouldFlagApproximateResult_whenBudgetExpires() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      List<UUID> candidates = new ArrayList<>();
+      for (int i = 0; i < 40; i++) {
+        candidates.add(UUID.randomUUID());
+        builder.addCandidate(candidates.getLast());
+      }
+      Random random = new Random(12);
+      for (int i = 0; i < 300; i++) {
+        List<UUID> ballot = new ArrayList<>(candidates);
+        Collections.shuffle(ballot, random);
+        builder.addBallot(ballot);
+      }
+      IndexedBallotBox ballotBox = builder.build();
+
+      KemenyYoungService kemenyYoung = new KemenyYoungService(
+          TabulationProperties.defaults().withKemenyTimeBudget(Duration.ZERO));
+      ElectionResultRecord result =
+          kemenyYoung.conductElection(PairwiseMatrix.of(ballotBox), ballotBox);
+
+      assertEquals(List.of(Flag.APPROXIMATE_RESULT), result.flags());
+      assertEquals(40, result.ranking().stream().mapToInt(List::size).sum());
+    }
+
+    @Test
+    void getMatrix_shouldKeepClosedElectionMatrices_upToTheCacheSize() {
+      voteSlateValid_1();
+      election.setId(UUID.randomUUID());
+      election.setStatus(Status.CLOSED);
+      Election other = new Election();
+      other.setId(UUID.randomUUID());
+      other.setStatus(Status.CLOSED);
+      IndexedBallotBox ballotBox = IndexedBallotBox.of(processCandidates(election.getCandidates()));
+
+      PairwiseMatrixService matrixService =
+          new PairwiseMatrixServiceImpl(TabulationProperties.defaults().withResultCacheSize(1));
+      PairwiseMatrix first = matrixService.getMatrix(election, ballotBox);
+      assertSame(first, matrixService.getMatrix(election, ballotBox));
+
+      matrixService.getMatrix(other, ballotBox);
+
+      assertNotSame(first, matrixService.getMatrix(election, ballotBox));
+    }
+
+    @Test
+    void distributeByMethodology_shouldShareCachedMatrix_forClosedElection() {
+      voteSlateValid_1();
+      election.setId(UUID.randomUUID());
+      election.setStatus(Status.CLOSED);
+
+      PairwiseMatrixService matrixService =
+          new PairwiseMatrixServiceImpl(TabulationProperties.defaults());
+      SingleWinnerMethodDistributionService distribution =
+          new SingleWinnerMethodDistributionServiceImpl(
+              new InstantRunoffService(),
+              ballots -> IndexedBallotBox.of(processCandidates(ballots.getCandidates())),
+              matrixService,
+              List.of(new SchulzeService(), new CopelandService()),
+              ballots -> new ScoredBallotBox.Builder(List.of()).build(),
+              List.of()
+          );
+
+      ElectionResultRecord schulze = distribution.distributeByMethodology(election, SCHULZE);
+      ElectionResultRecord copeland = distribution.distributeByMethodology(election, COPELAND);
+
+      assertEquals(blue.getId(), schulze.winnerId());
+      assertSame(schulze.pairwise().preferences(), copeland.pairwise().preferences());
+
+      matrixService.evict(election.getId());
+      ElectionResultRecord recounted = distribution.distributeByMethodology(election, COPELAND);
+      assertNotSame(copeland.pairwise().preferences(), recounted.pairwise().preferences());
+
+      Exception ex = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> distribution.distributeByMethodology(election, BORDA));
+      assertEquals("Methodology not supported", ex.getMessage());
+    }
+
+    @Test
+    void compareMethods_shouldRunEachMethodOnceAgainstSharedBallots() {
+      voteSlateValid_1();
+      election.setId(UUID.randomUUID());
+
+      SingleWinnerMethodDistributionService distribution =
+          new SingleWinnerMethodDistributionServiceImpl(
+              new InstantRunoffService(),
+              ballots -> IndexedBallotBox.of(processCandidates(ballots.getCandidates())),
+              new PairwiseMatrixServiceImpl(TabulationProperties.defaults()),
+              List.of(new SchulzeService(), new CopelandService()),
+              ballots -> {
+                throw new ElectionCannotBeCompletedException(NO_VOTES_MESSAGE);
+              },
+              List.of(new ScoreService())
+          );
+
+      ElectionComparisonRecord comparison = distribution.compareMethods(
+          election, List.of(SCHULZE, INSTANT_RUNOFF, SCORE, BORDA, SCHULZE));
+
+      assertEquals(
+          List.of(SCHULZE, INSTANT_RUNOFF, SCORE, BORDA),
+          comparison.methods().stream().map(MethodComparisonRecord::method).toList());
+      assertEquals(blue.getId(), comparison.methods().get(0).winnerId());
+      assertEquals(blue.getId(), comparison.methods().get(1).winnerId());
+      assertEquals(NO_VOTES_MESSAGE, comparison.methods().get(2).error());
+      assertEquals("Methodology not supported", comparison.methods().get(3).error());
+
+      assertEquals(4, distribution.compareMethods(election, List.of()).methods().size());
+    }
+  }
+
+  @Nested
+  class ScoreMethodTests {
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+
+    private void addBallots(ScoredBallotBox.Builder builder, int count, Map<UUID, Integer> scores) {
+      for (int i = 0; i < count; i++) {
+        builder.addBallot(scores);
+      }
+    }
+
+    /// b has the highest total, a is scored above b on more ballots, c is approved by everyone.
+    private ScoredBallotBox ballots() {
+      ScoredBallotBox.Builder builder = new ScoredBallotBox.Builder(List.of(a, b, c));
+      addBallots(builder, 4, Map.of(a, 5, b, 4, c, 1));
+      addBallots(builder, 3, Map.of(b, 5, c, 1));
+      return builder.build();
+    }
+
+    @Test
+    void score_shouldRankByTotal() {
+      ElectionResultRecord result = new ScoreService().conductElection(ballots());
+
+      assertEquals(b, result.winnerId());
+      assertEquals(List.of(List.of(b), List.of(a), List.of(c)), result.ranking());
+    }
+
+    @Test
+    void approval_shouldCountAnyPositiveScore() {
+      ElectionResultRecord result = new ApprovalService().conductElection(ballots());
+
+      assertNull(result.winnerId());
+      assertEquals(List.of(List.of(b, c), List.of(a)), result.ranking());
+    }
+
+    @Test
+    void star_shouldLetRunoffOverturnScoreLeader() {
+      ElectionResultRecord result = new StarService().conductElection(ballots());
+
+      assertEquals(a, result.winnerId());
+      assertEquals(List.of(List.of(a), List.of(b), List.of(c)), result.ranking());
+      assertEquals(List.of(c), result.rounds().get(0).eliminatedCandidateIds());
+      assertEquals(Map.of(a, 4, b, 3), result.rounds().get(1).votes());
+      assertEquals(WINNER_RUNOFF, result.rounds().get(1).eliminationMessage());
+    }
+
+    @Test
+    void majorityJudgement_shouldRankByMedianGrade() {
+      ElectionResultRecord result = new MajorityJudgementService().conductElection(ballots());
+
+      assertEquals(List.of(List.of(a), List.of(b), List.of(c)), result.ranking());
+    }
+
+    @Test
+    void majorityJudgement_shouldBreakMedianTiesByMajorityGauge() {
+      ScoredBallotBox.Builder builder = new ScoredBallotBox.Builder(List.of(a, b, c));
+      builder.addBallot(Map.of(a, 2, b, 3, c, 1));
+      addBallots(builder, 2, Map.of(a, 3, b, 3, c, 3));
+      builder.addBallot(Map.of(a, 3, b, 3, c, 4));
+      builder.addBallot(Map.of(a, 4, b, 3, c, 4));
+
+      ElectionResultRecord result = new MajorityJudgementService().conductElection(builder.build());
+
+      // All three have median 3: c has more grades above it than below, b has none either side,
+      // and a has one on each side.
+      assertEquals(List.of(List.of(c), List.of(b), List.of(a)), result.ranking());
+    }
+
+    @Test
+    void scoredBallotCodec_shouldRoundTrip() {
+      Map<UUID, Integer> scores = Map.of(a, 5, b, 0, c, 2);
+      byte[] payload = ScoredBallotCodec.encode(scores);
+
+      assertEquals(1 + 3 * 17, payload.length);
+      assertEquals(scores, ScoredBallotCodec.decode(payload));
+      assertThrows(IllegalArgumentException.class,
+          () -> ScoredBallotCodec.decode(Arrays.copyOf(payload, payload.length - 1)));
+      assertThrows(IllegalArgumentException.class,
+          () -> ScoredBallotCodec.encode(Map.of(a, ScoredBallotBox.MAX_SCORE + 1)));
+    }
+  }
+
+  @Nested
+  class MultipleWinnerMethodTests {
+    private final UUID a = UUID.randomUUID();
+    private final UUID b = UUID.randomUUID();
+    private final UUID c = UUID.randomUUID();
+
+    @Test
+    void singleTransferableVote_shouldPassSurplusOnAtFractionalValue() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      for (UUID candidate : List.of(a, b, c)) {
+        builder.addCandidate(candidate);
+      }
+      for (int i = 0; i < 6; i++) {
+        builder.addBallot(List.of(a, b));
+      }
+      for (int i = 0; i < 2; i++) {
+        builder.addBallot(List.of(b));
+      }
+      for (int i = 0; i < 3; i++) {
+        builder.addBallot(List.of(c));
+      }
+
+      ElectionResultRecord result =
+          new SingleTransferableVoteService().conductElection(builder.build(), 2);
+
+      // Quota 11 / 3 + 1 unit; a's surplus of 2.333333 moves at 0.388888 per ballot, giving b
+      // 2 + 6 * 0.388888 = 4.333328, over the quota, while c is stuck on 3.
+      assertEquals(List.of(a, b), result.winnerIds());
+      assertEquals(a, result.winnerId());
+      assertEquals(Map.of(a, 6, b, 2, c, 3), result.rounds().get(0).votes());
+      assertEquals(Map.of(b, 4, c, 3), result.rounds().get(1).votes());
+      assertEquals(WINNER_QUOTA, result.rounds().get(1).eliminationMessage());
+    }
+
+    @Test
+    void singleTransferableVote_shouldElectAtTheDroopQuota_butNotBelow() {
+      // 10 votes for 1 seat: the quota is 5 votes and one unit, so 6 votes elect and 5 do not.
+      IndexedBallotBox.Builder sixOfTen = new IndexedBallotBox.Builder();
+      IndexedBallotBox.Builder fiveOfTen = new IndexedBallotBox.Builder();
+      for (UUID candidate : List.of(a, b, c)) {
+        sixOfTen.addCandidate(candidate);
+        fiveOfTen.addCandidate(candidate);
+      }
+      for (int i = 0; i < 10; i++) {
+        sixOfTen.addBallot(List.of(i < 6 ? a : b));
+        fiveOfTen.addBallot(List.of(i < 5 ? a : i < 8 ? b : c));
+      }
+
+      ElectionResultRecord atQuota =
+          new SingleTransferableVoteService().conductElection(sixOfTen.build(), 1);
+      assertEquals(List.of(a), atQuota.winnerIds());
+      assertEquals(1, atQuota.rounds().size());
+      assertEquals(WINNER_QUOTA, atQuota.rounds().get(0).eliminationMessage());
+
+      ElectionResultRecord belowQuota =
+          new SingleTransferableVoteService().conductElection(fiveOfTen.build(), 1);
+      assertEquals(Map.of(a, 5, b, 3, c, 2), belowQuota.rounds().get(0).votes());
+      assertEquals(List.of(c), belowQuota.rounds().get(0).eliminatedCandidateIds());
+      assertEquals(NO_TIE_ELIMINATION_MESSAGE, belowQuota.rounds().get(0).eliminationMessage());
+      assertEquals(List.of(a), belowQuota.winnerIds());
+    }
+
+    @Test
+    void singleTransferableVote_shouldRejectMoreSeatsThanCandidates() {
+      IndexedBallotBox.Builder builder = new IndexedBallotBox.Builder();
+      builder.addBallot(List.of(a, b));
+
+      Exception ex = assertThrows(
+          ElectionCannotBeCompletedException.class,
+          () -> new SingleTransferableVoteService().conductElection(builder.build(), 3));
+      assertEquals(SEATS_MESSAGE, ex.getMessage());
+    }
+
+    @Test
+    void sequentialProportionalApproval_shouldDiscountSatisfiedBallots() {
+      ScoredBallotBox.Builder builder = new ScoredBallotBox.Builder(List.of(a, b, c));
+      for (int i = 0; i < 5; i++) {
+        builder.addBallot(Map.of(a, 1, b, 1));
+      }
+      for (int i = 0; i < 4; i++) {
+        builder.addBallot(Map.of(c, 1));
+      }
+
+      ElectionResultRecord result =
+          new SequentialProportionalApprovalService().conductElection(builder.build(), 2);
+
+      // a and b tie on 5 (a is listed first); once a is elected, b is worth 2.5 to c's 4.
+      assertEquals(List.of(a, c), result.winnerIds());
+      assertEquals(Map.of(b, 2, c, 4), result.rounds().get(1).votes());
+    }
+  }
+
+  @Nested
+  class LiveTallyTests {
+    @Test
+    void setFirstChoice_shouldMoveVotesIdempotently() {
+      LiveTally tally = new LiveTally(election.getId(), List.of(blue.getId(), red.getId()));
+
+      tally.setFirstChoice(jim.getId(), blue.getId());
+      tally.setFirstChoice(jane.getId(), blue.getId());
+      tally.setFirstChoice(john.getId(), red.getId());
+      tally.setFirstChoice(john.getId(), red.getId());
+
+      LiveTallyRecord record = tally.toRecord();
+      assertEquals(Map.of(blue.getId(), 2, red.getId(), 1), record.firstPreferences());
+      assertEquals(3, record.ballotCount());
+      assertEquals(blue.getId(), record.provisionalWinnerId());
+      assertTrue(record.majority());
+
+      tally.setFirstChoice(jane.getId(), red.getId());
+      record = tally.toRecord();
+      assertEquals(Map.of(blue.getId(), 1, red.getId(), 2), record.firstPreferences());
+      assertEquals(red.getId(), record.provisionalWinnerId());
+    }
+
+    @Test
+    void toRecord_shouldReportNoWinner_whenLeadIsShared() {
+      LiveTally tally = new LiveTally(election.getId(), List.of(blue.getId(), red.getId()));
+
+      assertNull(tally.toRecord().provisionalWinnerId());
+
+      tally.setFirstChoice(jim.getId(), blue.getId());
+      tally.setFirstChoice(jane.getId(), red.getId());
+      tally.setFirstChoice(john.getId(), red.getId());
+      tally.setFirstChoice(john.getId(), null);
+
+      LiveTallyRecord record = tally.toRecord();
+      assertEquals(2, record.ballotCount());
+      assertNull(record.provisionalWinnerId());
+      assertFalse(record.majority());
+    }
+
+    @Test
+    void applyFirstChoice_shouldDropReadsOlderThanTheTallyHolds() {
+      LiveTally tally = new LiveTally(election.getId(), List.of(blue.getId(), red.getId()), 5);
+
+      assertFalse(tally.applyFirstChoice(jim.getId(), blue.getId(), 4));
+      assertTrue(tally.applyFirstChoice(jim.getId(), red.getId(), 7));
+      assertFalse(tally.applyFirstChoice(jim.getId(), blue.getId(), 6));
+      assertTrue(tally.applyFirstChoice(jane.getId(), blue.getId(), 6));
+
+      assertEquals(Map.of(blue.getId(), 1, red.getId(), 1), tally.toRecord().firstPreferences());
+    }
+
+    @Test
+    void onBallotsChanged_shouldReadOutsideTheMap_andDropStaleReads() {
+      election.setId(UUID.randomUUID());
+      ElectionRepository electionRepository = mock(ElectionRepository.class);
+      CandidateRepository candidateRepository = mock(CandidateRepository.class);
+      VoteRepository voteRepository = mock(VoteRepository.class);
+      when(candidateRepository.findIdsByElectionId(election.getId()))
+          .thenReturn(List.of(blue.getId(), red.getId()));
+      when(voteRepository.streamRankedBallots(election.getId())).thenReturn(Stream.of(
+          new RankedBallotEntry(jim.getId(), blue.getId(), 1),
+          new RankedBallotEntry(jim.getId(), red.getId(), 2)));
+      when(electionRepository.findBallotVersion(election.getId()))
+          .thenReturn(Optional.of(5L))
+          .thenReturn(Optional.of(5L))
+          .thenReturn(Optional.of(4L))
+          .thenReturn(Optional.of(6L));
+      when(voteRepository.findRankedCandidateIds(jim.getId(), election.getId()))
+          .thenReturn(List.of(red.getId()));
+      LiveTallyServiceImpl liveTallies =
+          new LiveTallyServiceImpl(electionRepository, candidateRepository, voteRepository);
+
+      assertEquals(1, liveTallies.getLiveTally(election.getId()).firstPreferences()
+          .get(blue.getId()));
+
+      // Read at version 4, before the load at 5: dropped.
+      liveTallies.onBallotsChanged(new BallotsChangedEvent(election.getId(), jim.getId()));
+      assertEquals(1, liveTallies.getLiveTally(election.getId()).firstPreferences()
+          .get(blue.getId()));
+
+      liveTallies.onBallotsChanged(new BallotsChangedEvent(election.getId(), jim.getId()));
+      assertEquals(1, liveTallies.getLiveTally(election.getId()).firstPreferences()
+          .get(red.getId()));
+      verify(voteRepository, times(1)).streamRankedBallots(election.getId());
+    }
+  }
+
+  @Nested
+  class LruCacheTests {
+    @Test
+    void put_shouldEvictLeastRecentlyUsed() {
+      LruCache<String, Integer> cache = new LruCache<>(2);
+      cache.put("a", 1);
+      cache.put("b", 2);
+      assertEquals(1, cache.get("a"));
+
+      cache.put("c", 3);
+
+      assertEquals(2, cache.size());
+      assertEquals(1, cache.get("a"));
+      assertNull(cache.get("b"));
+      assertEquals(3, cache.get("c"));
+
+      cache.removeKeysIf(key -> key.equals("a"));
+      assertNull(cache.get("a"));
+    }
+  }
+
+  @Nested
+  class ElectorateGeneratorTests {
+    @Test
+    void generator_shouldYieldTheSameBallots_inEveryForm() {
+      ElectorateGenerator generator = ElectorateGenerator.impartialCulture(6)
+          .withTruncation(new Geometric(0.5))
+          .withSeed(7);
+
+      IndexedBallotBox indexed = generator.indexed(500);
+      IndexedBallotBox again = generator.indexed(500);
+      assertArrayEquals(indexed.getPreferences(), again.getPreferences());
+      assertArrayEquals(indexed.getOffsets(), again.getOffsets());
+
+      IndexedBallotBox fromEntities =
+          IndexedBallotBox.of(processCandidates(generator.election(500).getCandidates()));
+      ElectionResultRecord expected = new InstantRunoffService().conductElection(indexed);
+      ElectionResultRecord actual = new InstantRunoffService().conductElection(fromEntities);
+      assertEquals(expected.winnerId(), actual.winnerId());
+      assertEquals(expected.rounds().getFirst().votes(), actual.rounds().getFirst().votes());
+      assertEquals(500, generator.ballotBox(500).getTotalVotes());
+
+      StringWriter script = new StringWriter();
+      generator.writeCopyScript(500, script);
+      long voteRows = script.toString().lines()
+          .dropWhile(line -> !line.startsWith("COPY votes"))
+          .skip(1)
+          .takeWhile(line -> !line.equals("\\."))
+          .count();
+      assertEquals(indexed.getPreferences().length, voteRows);
+    }
+
+    @Test
+    void mallows_shouldRankTheReferenceOrder_withZeroDispersion() {
+      IndexedBallotBox indexed = ElectorateGenerator.impartialCulture(5)
+          .withModel(new Mallows(0))
+          .indexed(20);
+
+      int[] preferences = indexed.getPreferences();
+      for (int ballot = 0; ballot < indexed.getBallotCount(); ballot++) {
+        int[] ranking = Arrays.copyOfRange(preferences, indexed.getOffsets()[ballot],
+            indexed.getOffsets()[ballot + 1]);
+        assertArrayEquals(new int[] {0, 1, 2, 3, 4}, ranking);
+      }
+    }
+
+    @Test
+    void clones_shouldBeRankedRightAfterTheirOriginal() {
+      IndexedBallotBox indexed = ElectorateGenerator.impartialCulture(6)
+          .withModel(new Spatial(2))
+          .withClones(2)
+          .withTruncation(new Fixed(4))
+          .indexed(200);
+
+      int[] preferences = indexed.getPreferences();
+      int[] offsets = indexed.getOffsets();
+      for (int ballot = 0; ballot < indexed.getBallotCount(); ballot++) {
+        assertEquals(4, offsets[ballot + 1] - offsets[ballot]);
+        for (int i = offsets[ballot]; i < offsets[ballot + 1]; i++) {
+          if (preferences[i] >= 4) {
+            int previous = preferences[i - 1];
+            assertTrue(previous == 0 || previous >= 4);
+          }
+        }
+      }
+    }
+  }
+
+  @Nested
+  class DifferentialTests {
+    /// Raise with -Ddifferential.trials=1000000 for a long soak.
+    private final int trials = Integer.getInteger("differential.trials", 2000);
+
+    private final InstantRunoffService reference = new InstantRunoffService(
+        TabulationProperties.defaults().withRunoffTallyMode(RunoffTallyMode.FULL_RECOUNT));
+
+    @Test
+    void incrementalTally_shouldMatchFullRecount() {
+      InstantRunoffService incremental = new InstantRunoffService(
+          TabulationProperties.defaults().withRunoffTallyMode(RunoffTallyMode.INCREMENTAL));
+      DifferentialHarness harness =
+          new DifferentialHarness(reference::conductElection, incremental::conductElection);
+
+      Optional<Divergence> divergence = harness.run(1L, trials);
+
+      assertTrue(divergence.isEmpty(), () -> divergence.get().toString());
+    }
+
+    @Test
+    void parallelRounds_shouldMatchSequentialRounds() {
+      InstantRunoffService parallel = new InstantRunoffService(TabulationProperties.defaults()
+          .withRunoffTallyMode(RunoffTallyMode.FULL_RECOUNT)
+          .withParallelThreshold(1));
+      DifferentialHarness harness =
+          new DifferentialHarness(reference::conductElection, parallel::conductElection);
+
+      Optional<Divergence> divergence = harness.run(2L, trials);
+
+      assertTrue(divergence.isEmpty(), () -> divergence.get().toString());
+    }
+
+    @Test
+    void harness_shouldShrinkToTheMinimalBallotSet() {
+      // Broken whenever some ballot ranks candidate 1 first.
+      DifferentialHarness harness = new DifferentialHarness(
+          reference::conductElection,
+          ballotBox -> {
+            for (int[] ballot : DifferentialHarness.ballots(ballotBox)) {
+              if (ballot.length > 0 && ballot[0] == 1) {
+                throw new IllegalStateException("broken");
+              }
+            }
+            return reference.conductElection(ballotBox);
+          });
+
+      Divergence divergence = harness.run(3L, trials).orElseThrow();
+
+      assertEquals(1, divergence.minimalBallots().size());
+      assertArrayEquals(new int[] {1}, divergence.minimalBallots().getFirst());
+      assertEquals("IllegalStateException: broken", divergence.actual().failure());
+    }
+  }
+
+  @Nested
+  class ElectionResultTests {
+    @Test
+    void rounds_shouldSurviveTheTrip_throughRoundRows() {
+      UUID a = UUID.randomUUID();
+      UUID b = UUID.randomUUID();
+      UUID c = UUID.randomUUID();
+      UUID d = UUID.randomUUID();
+      List<RoundResultRecord> rounds = List.of(
+          new RoundResultRecord(1, Map.of(a, 3, b, 2), List.of(d, c), TIE_ELIMINATION_MESSAGE),
+          new RoundResultRecord(2, Map.of(a, 3, b, 3), List.of(),
+              TIE_ALL_WAY_TIE_ELIMINATION_MESSAGE),
+          new RoundResultRecord(3, Map.of(a, 5), null, WINNER_MAJORITY));
+
+      ElectionResult result = new ElectionResult(
+          new ElectionResultRecord(a, rounds, 5), ZonedDateTime.now(), election);
+
+      assertEquals(rounds, result.getRounds());
+      assertEquals(3, result.getRoundSummaries().size());
+      assertEquals(7, result.getRoundTallies().size());
+      assertTrue(result.getRoundTallies().stream()
+          .filter(tally -> tally.getCandidateId().equals(c))
+          .allMatch(tally -> tally.getVotes() == null && tally.getEliminationOrder() == 1));
+    }
   }
 
   private void voteSlateValid_1() {
@@ -0,0 +1,93 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.config.TabulationProperties;
+import com.gpt.springbonk.keycloak.KeycloakUserService;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.record.ElectionComparisonRecord;
+import com.gpt.springbonk.model.record.MethodComparisonRecord;
+import com.gpt.springbonk.repository.BallotSnapshotRepository;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionClosureJobRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ElectionResultRepository;
+import com.gpt.springbonk.repository.ScoredBallotRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.BallotSnapshotService;
+import com.gpt.springbonk.service.DomainEventOutboxService;
+import com.gpt.springbonk.service.ElectionService;
+import com.gpt.springbonk.service.InstantRunoffService;
+import com.gpt.springbonk.service.PairwiseMatrixService;
+import com.gpt.springbonk.service.ScoreService;
+import com.gpt.springbonk.service.ScoredBallotService;
+import com.gpt.springbonk.service.impl.BallotSnapshotServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionResultCacheServiceImpl;
+import com.gpt.springbonk.service.impl.ElectionServiceImpl;
+import com.gpt.springbonk.service.impl.ScoredBallotServiceImpl;
+import com.gpt.springbonk.service.impl.SingleWinnerMethodDistributionServiceImpl;
+import com.gpt.springbonk.support.ElectionFixture;
+import com.gpt.springbonk.support.RecordingTransactionManager;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.INSTANT_RUNOFF;
+import static com.gpt.springbonk.constant.enumeration.system.single.SingleWinnerVotingSystemMethod.SCORE;
+import static com.gpt.springbonk.exception.ElectionCannotBeCompletedException.NO_VOTES_MESSAGE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/// Comparisons through transactional proxies, as the application context wires them.
+class MethodComparisonTests {
+  private final ElectionFixture fixture = new ElectionFixture();
+  private final Election election = fixture.getElection();
+
+  private final RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+  private final ElectionRepository electionRepository = mock(ElectionRepository.class);
+  private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+  private final VoteRepository voteRepository = mock(VoteRepository.class);
+  private final ScoredBallotRepository scoredBallotRepository =
+      mock(ScoredBallotRepository.class);
+
+  private ElectionService electionService() {
+    BallotSnapshotService ballotSnapshotService = transactionManager.proxy(
+        new BallotSnapshotServiceImpl(electionRepository, mock(BallotSnapshotRepository.class),
+            candidateRepository, voteRepository),
+        BallotSnapshotService.class);
+    ScoredBallotService scoredBallotService = transactionManager.proxy(
+        new ScoredBallotServiceImpl(candidateRepository, scoredBallotRepository),
+        ScoredBallotService.class);
+    return transactionManager.proxy(new ElectionServiceImpl(
+        new SingleWinnerMethodDistributionServiceImpl(new InstantRunoffService(),
+            ballotSnapshotService, mock(PairwiseMatrixService.class), List.of(),
+            scoredBallotService, List.of(new ScoreService())),
+        new ElectionResultCacheServiceImpl(electionRepository, TabulationProperties.defaults()),
+        mock(KeycloakUserService.class), voteRepository, electionRepository,
+        mock(ElectionResultRepository.class), mock(ElectionClosureJobRepository.class),
+        mock(ApplicationEventPublisher.class), mock(DomainEventOutboxService.class)),
+        ElectionService.class);
+  }
+
+  @Test
+  void compareMethods_shouldReportMissingBallots_andStillCommit() {
+    election.setId(UUID.randomUUID());
+    when(electionRepository.findById(election.getId())).thenReturn(Optional.of(election));
+    when(electionRepository.findBallotVersion(election.getId())).thenReturn(Optional.of(0L));
+    when(candidateRepository.findIdsByElectionId(election.getId()))
+        .thenReturn(fixture.candidateIds());
+    when(voteRepository.streamRankedBallots(election.getId()))
+        .thenAnswer(invocation -> Stream.empty());
+    when(scoredBallotRepository.findScoresByElectionId(election.getId())).thenReturn(List.of());
+
+    ElectionComparisonRecord comparison =
+        electionService().compareMethods(election.getId(), List.of(INSTANT_RUNOFF, SCORE));
+
+    assertEquals(List.of(NO_VOTES_MESSAGE, NO_VOTES_MESSAGE),
+        comparison.methods().stream().map(MethodComparisonRecord::error).toList());
+    assertEquals(1, transactionManager.getCommits());
+    assertEquals(0, transactionManager.getRollbacks());
+  }
+}
@@ -0,0 +1,184 @@
+package com.gpt.springbonk.unit;
+
+import com.gpt.springbonk.exception.DuplicateVoteException;
+import com.gpt.springbonk.exception.ResourceNotFoundException;
+import com.gpt.springbonk.keycloak.KeycloakUser;
+import com.gpt.springbonk.keycloak.KeycloakUserService;
+import com.gpt.springbonk.model.Candidate;
+import com.gpt.springbonk.model.Election;
+import com.gpt.springbonk.model.Vote;
+import com.gpt.springbonk.model.dto.response.VoteResponse;
+import com.gpt.springbonk.repository.CandidateRepository;
+import com.gpt.springbonk.repository.ElectionRepository;
+import com.gpt.springbonk.repository.ScoredBallotRepository;
+import com.gpt.springbonk.repository.VoteRepository;
+import com.gpt.springbonk.service.CandidateService;
+import com.gpt.springbonk.service.event.BallotsChangedEvent;
+import com.gpt.springbonk.service.impl.VotingServiceImpl;
+import com.gpt.springbonk.support.ElectionFixture;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class VotingServiceTests {
+  private final ElectionFixture fixture = new ElectionFixture();
+  private final Election election = fixture.getElection();
+  private final KeycloakUser jim = fixture.getJim();
+  private final Candidate blue = fixture.getBlue();
+  private final Candidate red = fixture.getRed();
+  private final Candidate yellow = fixture.getYellow();
+  private final Candidate green = fixture.getGreen();
+
+  private final VoteRepository voteRepository = mock(VoteRepository.class);
+  private final CandidateRepository candidateRepository = mock(CandidateRepository.class);
+  private final KeycloakUserService keycloakUserService = mock(KeycloakUserService.class);
+  private final ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+  private final VotingServiceImpl votingService = new VotingServiceImpl(
+      voteRepository, candidateRepository, mock(ElectionRepository.class),
+      mock(ScoredBallotRepository.class), mock(CandidateService.class), keycloakUserService,
+      publisher);
+
+  @BeforeEach
+  void electionWithBallot() {
+    election.setId(UUID.randomUUID());
+    when(candidateRepository.findIdsByElectionId(election.getId()))
+        .thenReturn(fixture.candidateIds());
+    election.getCandidates().forEach(candidate ->
+        when(candidateRepository.getReferenceById(candidate.getId())).thenReturn(candidate));
+    when(keycloakUserService.getUserById(jim.getId())).thenReturn(jim);
+  }
+
+  /// Jim's stored ballot, in rank order.
+  private List<Vote> storedBallot(Candidate... candidates) {
+    List<Vote> votes = new ArrayList<>();
+    for (int i = 0; i < candidates.length; i++) {
+      votes.add(new Vote(jim, candidates[i], i + 1));
+    }
+    when(voteRepository.findByVoter_IdAndCandidate_Election_IdOrderByRankAsc(
+        jim.getId(), election.getId())).thenReturn(votes);
+    return votes;
+  }
+
+  private List<VoteResponse> submit(Candidate... candidates) {
+    return votingService.submitBallot(election.getId(), jim.getId(),
+        Arrays.stream(candidates).map(Candidate::getId).toList());
+  }
+
+  private void assertRanks(List<VoteResponse> ballot, Candidate... candidates) {
+    assertEquals(candidates.length, ballot.size());
+    for (int i = 0; i < candidates.length; i++) {
+      assertEquals(candidates[i].getId(), ballot.get(i).getCandidateId());
+      assertEquals(i + 1, ballot.get(i).getRank());
+    }
+  }
+
+  @Test
+  void submitBallot_shouldReRank_inPlace() {
+    List<Vote> stored = storedBallot(blue, red, green);
+
+    assertRanks(submit(green, blue, red), green, blue, red);
+
+    assertEquals(List.of(2, 3, 1), stored.stream().map(Vote::getRank).toList());
+    verify(voteRepository).deleteAllInBatch(List.of());
+    verify(voteRepository).saveAll(List.of(stored.get(2), stored.get(0), stored.get(1)));
+    verify(keycloakUserService, never()).getUserById(any());
+  }
+
+  @Test
+  void submitBallot_shouldDeleteDroppedCandidates_andCloseTheGap() {
+    List<Vote> stored = storedBallot(blue, red, green);
+
+    assertRanks(submit(blue, green), blue, green);
+
+    verify(voteRepository).deleteAllInBatch(List.of(stored.get(1)));
+    verify(voteRepository).saveAll(List.of(stored.get(2)));
+    assertEquals(2, stored.get(2).getRank());
+  }
+
+  @Test
+  void submitBallot_shouldInsertAddedCandidates() {
+    storedBallot(blue);
+
+    assertRanks(submit(blue, yellow, red), blue, yellow, red);
+
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<Vote>> saved = ArgumentCaptor.forClass(List.class);
+    verify(voteRepository).saveAll(saved.capture());
+    assertEquals(List.of(yellow, red),
+        saved.getValue().stream().map(Vote::getCandidate).toList());
+    assertTrue(saved.getValue().stream().allMatch(vote -> vote.getVoter() == jim));
+    verify(keycloakUserService, times(1)).getUserById(jim.getId());
+  }
+
+  @Test
+  void submitBallot_shouldRejectDuplicateCandidates_beforeWriting() {
+    storedBallot(blue, red);
+
+    assertThrows(DuplicateVoteException.class, () -> submit(blue, red, blue));
+
+    verify(voteRepository, never()).saveAll(any());
+    verify(voteRepository, never()).deleteAllInBatch(any());
+    verify(publisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void submitBallot_shouldRejectCandidatesFromOtherElections() {
+    storedBallot(blue);
+    Candidate stranger = new Candidate(new Election(), blue.getBook(), fixture.getJane());
+    stranger.setId(UUID.randomUUID());
+
+    assertThrows(ResourceNotFoundException.class, () -> submit(blue, stranger));
+
+    verify(voteRepository, never()).saveAll(any());
+    verify(publisher, never()).publishEvent(any(Object.class));
+  }
+
+  @Test
+  void submitBallot_shouldGiveEachRankToOneCandidate() {
+    storedBallot(blue, red, green, yellow);
+
+    List<VoteResponse> ballot = submit(yellow, green, red, blue);
+
+    assertEquals(Set.of(1, 2, 3, 4),
+        Set.copyOf(ballot.stream().map(VoteResponse::getRank).toList()));
+    assertRanks(ballot, yellow, green, red, blue);
+  }
+
+  @Test
+  void submitBallot_shouldBumpTheBallotVersion_oncePerSubmission() {
+    storedBallot(blue, red, green);
+
+    submit(red, yellow, blue);
+
+    verify(publisher, times(1)).publishEvent(any(Object.class));
+    verify(publisher).publishEvent(new BallotsChangedEvent(election.getId(), jim.getId()));
+    verify(voteRepository, times(1)).flush();
+  }
+
+  @Test
+  void submitBallot_shouldNotBumpTheBallotVersion_whenNothingChanged() {
+    storedBallot(blue, red);
+
+    assertRanks(submit(blue, red), blue, red);
+
+    verify(voteRepository, never()).saveAll(any());
+    verify(voteRepository, never()).deleteAllInBatch(any());
+    verify(publisher, never()).publishEvent(any(Object.class));
+  }
+}